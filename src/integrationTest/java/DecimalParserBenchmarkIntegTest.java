@@ -0,0 +1,82 @@
+import de.tudresden.inf.mci.brailleplot.csvparser.Constants;
+import de.tudresden.inf.mci.brailleplot.csvparser.DecimalParser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.Random;
+
+/**
+ * Throughput benchmark of the {@link DecimalParser} against {@link NumberFormat#parse(String)}, which was used for
+ * the CSV values before. Both parse the same cells, typical values of plotting data in German notation.
+ * The results are printed, they are not compared against a fixed limit.
+ * @author Georg Graßnick
+ * @version 2019.10.17
+ */
+
+public class DecimalParserBenchmarkIntegTest {
+
+    private static final int CELL_COUNT = 100_000;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 50;
+    private static final int MAX_VALUE = 100_000;
+
+    /**
+     * Benchmark of both parsers for integers, decimals and values with grouping separators.
+     */
+    @Test
+    public void benchmarkDecimalParserAgainstNumberFormat() throws ParseException {
+        NumberFormat format = NumberFormat.getInstance(Constants.LOCALE);
+        format.setMaximumFractionDigits(3);
+        Random random = new Random(0);
+        String[] cells = new String[CELL_COUNT];
+        for (int i = 0; i < CELL_COUNT; i++) {
+            cells[i] = format.format(random.nextDouble() * MAX_VALUE);
+        }
+
+        NumberFormat numberFormat = NumberFormat.getInstance(Constants.LOCALE);
+        DecimalParser decimalParser = new DecimalParser(Constants.LOCALE);
+        double numberFormatSum = 0;
+        double decimalParserSum = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            numberFormatSum += sumWithNumberFormat(numberFormat, cells);
+            decimalParserSum += sumWithDecimalParser(decimalParser, cells);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            numberFormatSum += sumWithNumberFormat(numberFormat, cells);
+        }
+        long numberFormatDuration = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            decimalParserSum += sumWithDecimalParser(decimalParser, cells);
+        }
+        long decimalParserDuration = System.nanoTime() - start;
+
+        Assertions.assertEquals(numberFormatSum, decimalParserSum);
+        System.out.println(String.format("Parsing %d cells: NumberFormat %.1f Mcells/s, DecimalParser %.1f Mcells/s",
+                CELL_COUNT, cellsPerMicrosecond(numberFormatDuration), cellsPerMicrosecond(decimalParserDuration)));
+    }
+
+    private static double cellsPerMicrosecond(final long duration) {
+        return (double) CELL_COUNT * MEASURED_ROUNDS / (duration / 1e3);
+    }
+
+    private static double sumWithNumberFormat(final NumberFormat format, final String[] cells) throws ParseException {
+        double sum = 0;
+        for (String cell : cells) {
+            sum += format.parse(cell).doubleValue();
+        }
+        return sum;
+    }
+
+    private static double sumWithDecimalParser(final DecimalParser parser, final String[] cells) throws ParseException {
+        double sum = 0;
+        for (String cell : cells) {
+            sum += parser.parse(cell);
+        }
+        return sum;
+    }
+}
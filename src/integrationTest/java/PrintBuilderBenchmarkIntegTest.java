@@ -0,0 +1,94 @@
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.configparser.PrinterProperty;
+import de.tudresden.inf.mci.brailleplot.printabledata.BoolMatrixDataImpl;
+import de.tudresden.inf.mci.brailleplot.printerbackend.PrintDirector;
+import de.tudresden.inf.mci.brailleplot.printerbackend.PrinterCapability;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Throughput benchmark of the graphic mode protocol (Index Everest-D V4) against the text mode (NormalBuilder).
+ * Both encode the same pages of a dense dot matrix via {@link PrintDirector#byteDump(de.tudresden.inf.mci.brailleplot.printabledata.PrintableData, WritableByteChannel)}
+ * into a channel, that only counts the bytes. The results are printed, they are not compared against a fixed limit.
+ * @author Andrey Ruzhanskiy
+ * @version 2019.10.13
+ */
+
+public class PrintBuilderBenchmarkIntegTest {
+
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 100;
+
+    /**
+     * Benchmark of both protocols for an A4 page (with the dot grid of the Everest-D V4) and a large page.
+     */
+    @Test
+    public void benchmarkGraphicAgainstTextMode() throws IOException {
+        Printer printer = new Printer(List.of(
+                new PrinterProperty("name", "Dummy Printer"),
+                new PrinterProperty("brailletable", "src/integrationTest/resources/mapping/eurobraille.properties"),
+                new PrinterProperty("raster.dotDistance.horizontal", "2.5"),
+                new PrinterProperty("raster.dotDistance.vertical", "2.5")));
+        int[][] pageSizes = {{87, 70}, {1200, 1200}};
+        for (int[] size : pageSizes) {
+            BoolMatrixDataImpl page = new BoolMatrixDataImpl(printer, new Format(new LinkedList<>()), size[0], size[1], false);
+            Random random = new Random(0);
+            for (int row = 0; row < size[0]; row++) {
+                for (int column = 0; column < size[1]; column++) {
+                    page.set(row, column, random.nextBoolean());
+                }
+            }
+            double normal = measure(new PrintDirector(PrinterCapability.NORMALPRINTER, printer), page);
+            double graphic = measure(new PrintDirector(PrinterCapability.INDEX_EVEREST_D_V4_GRAPHIC_PRINTER, printer), page);
+            System.out.println(String.format("Page of %d x %d dots: text mode %.1f pages/s, graphic mode %.1f pages/s",
+                    size[0], size[1], normal, graphic));
+        }
+    }
+
+    private static double measure(final PrintDirector director, final BoolMatrixDataImpl page) throws IOException {
+        CountingChannel channel = new CountingChannel();
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            director.byteDump(page, channel);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            director.byteDump(page, channel);
+        }
+        long duration = System.nanoTime() - start;
+        Assertions.assertTrue(channel.mCount > 0);
+        return MEASURED_ROUNDS / (duration / 1e9);
+    }
+
+    /**
+     * Channel discarding all bytes written to it.
+     */
+    private static final class CountingChannel implements WritableByteChannel {
+        private long mCount;
+
+        @Override
+        public int write(final ByteBuffer src) {
+            int length = src.remaining();
+            src.position(src.limit());
+            mCount += length;
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -5,6 +5,8 @@ import de.tudresden.inf.mci.brailleplot.commandline.CommandLineParser;
 import de.tudresden.inf.mci.brailleplot.commandline.SettingType;
 import de.tudresden.inf.mci.brailleplot.commandline.SettingsReader;
 import de.tudresden.inf.mci.brailleplot.commandline.SettingsWriter;
+import de.tudresden.inf.mci.brailleplot.configparser.Configuration;
+import de.tudresden.inf.mci.brailleplot.configparser.ConfigurationCache;
 import de.tudresden.inf.mci.brailleplot.configparser.Format;
 import de.tudresden.inf.mci.brailleplot.configparser.JavaPropertiesConfigurationParser;
 import de.tudresden.inf.mci.brailleplot.configparser.Printer;
@@ -13,6 +15,7 @@ import de.tudresden.inf.mci.brailleplot.csvparser.CsvOrientation;
 import de.tudresden.inf.mci.brailleplot.csvparser.CsvParser;
 import de.tudresden.inf.mci.brailleplot.csvparser.CsvType;
 import de.tudresden.inf.mci.brailleplot.csvparser.MalformedCsvException;
+import de.tudresden.inf.mci.brailleplot.csvparser.ParallelCsvParser;
 import de.tudresden.inf.mci.brailleplot.datacontainers.CategoricalPointListContainer;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
@@ -22,12 +25,12 @@ import de.tudresden.inf.mci.brailleplot.diagrams.Diagram;
 import de.tudresden.inf.mci.brailleplot.diagrams.ScatterPlot;
 import de.tudresden.inf.mci.brailleplot.diagrams.LineChart;
 import de.tudresden.inf.mci.brailleplot.layout.AbstractCanvas;
-import de.tudresden.inf.mci.brailleplot.layout.PlotCanvas;
-import de.tudresden.inf.mci.brailleplot.layout.RasterCanvas;
+import de.tudresden.inf.mci.brailleplot.layout.PageQueue;
 import de.tudresden.inf.mci.brailleplot.printabledata.PrintableData;
 import de.tudresden.inf.mci.brailleplot.printerbackend.PrintDirector;
 import de.tudresden.inf.mci.brailleplot.printerbackend.PrinterCapability;
 import de.tudresden.inf.mci.brailleplot.rendering.LiblouisBrailleTextRasterizer;
+import de.tudresden.inf.mci.brailleplot.rendering.LiblouisTranslatorRegistry;
 import de.tudresden.inf.mci.brailleplot.rendering.MasterRenderer;
 import de.tudresden.inf.mci.brailleplot.svgexporter.BoolFloatingPointDataSvgExporter;
 import de.tudresden.inf.mci.brailleplot.svgexporter.BoolMatrixDataSvgExporter;
@@ -45,10 +48,19 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URL;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Iterator;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Main class.
@@ -74,6 +86,10 @@ public final class App {
     private static App sInstance;
     private static final int EXIT_SUCCESS = 0;
     private static final int EXIT_ERROR = 1;
+    private static final int PAGE_QUEUE_CAPACITY = 2;
+    private static final int STARTUP_TASK_COUNT = 3;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long PARALLEL_CSV_SIZE = 8L * 1024 * 1024;
 
     private final Logger mLogger;
 
@@ -165,13 +181,35 @@ public final class App {
 
             setLoggingLevel(Level.valueOf(settingsReader.getSetting(SettingType.LOG_LEVEL).orElse("Info")));
 
-            // Config Parsing
-            JavaPropertiesConfigurationParser configParser;
+            // Startup: The native library with the braille tables, the configuration and the csv data do not depend
+            // on each other and are prepared concurrently. All of them are completed before rendering starts.
+            long startupBegin = System.nanoTime();
             URL defaultConfig = getClass().getClassLoader().getResource("config/default.properties");
             Path configPath = Path.of(settingsReader.getSetting(SettingType.PRINTER_CONFIG_PATH).get());
-            configParser = new JavaPropertiesConfigurationParser(configPath, defaultConfig);
+            ExecutorService startupExecutor = Executors.newFixedThreadPool(STARTUP_TASK_COUNT);
+            Future<Void> liblouisSetup = startupExecutor.submit(() -> timed("Liblouis setup", () -> {
+                // The table export does not need the native library, it runs while the library is loaded
+                LiblouisTranslatorRegistry.prepareTable(LiblouisTranslatorRegistry.DEFAULT_TABLE);
+                LiblouisBrailleTextRasterizer.initModule();
+                // Compile the default table while the other tasks run. With a translation cache, it is only compiled
+                // for the first text, that is not cached, so a warm cache does not compile it at all.
+                if (!settingsReader.isPresent(SettingType.TRANSLATION_CACHE)) {
+                    LiblouisTranslatorRegistry.getTranslator(LiblouisTranslatorRegistry.DEFAULT_TABLE);
+                }
+                return null;
+            }));
+            Future<Configuration> configParsing = startupExecutor.submit(() -> timed("Config parsing", () -> {
+                if (settingsReader.isPresent(SettingType.CONFIG_CACHE)) {
+                    ConfigurationCache configCache = new ConfigurationCache(Paths.get(settingsReader.getSetting(SettingType.CONFIG_CACHE).get()));
+                    return configCache.getConfiguration(configPath, defaultConfig);
+                }
+                return new JavaPropertiesConfigurationParser(configPath, defaultConfig);
+            }));
+            Future<Diagram> csvParsing = startupExecutor.submit(() -> timed("CSV parsing", () -> readDiagram(settingsReader)));
+            startupExecutor.shutdown();
 
             // Set up Printer, Representation & Format Configurables
+            Configuration configParser = awaitStartupTask(configParsing);
             Printer printer = configParser.getPrinter();
             Representation representationParameters = configParser.getRepresentation();
             Format format;
@@ -181,133 +219,132 @@ public final class App {
                 format = configParser.getFormat(settingsReader.getSetting(SettingType.FORMAT).get());
             }
 
-            // Parse csv data and create diagram
-            InputStream csvStream;
-            csvStream = new FileInputStream(settingsReader.getSetting(SettingType.CSV_LOCATION).get());
-            Reader csvReader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(csvStream)));
-            CsvParser csvParser = new CsvParser(csvReader, ',', '\"');
-            Diagram diagram;
-            CsvOrientation csvOrientation;
-            if (settingsReader.isTrue(SettingType.VERTICAL_CSV).orElse(false)) {
-                csvOrientation = CsvOrientation.VERTICAL;
-            } else {
-                csvOrientation = CsvOrientation.HORIZONTAL;
-            }
-            switch (settingsReader.getSetting(SettingType.DIAGRAM_TYPE).orElse("")) {
-                case "ScatterPlot":
-                    PointListContainer<PointList> scatterPlotContainer = csvParser.parse(CsvType.DOTS, csvOrientation);
-                    diagram = new ScatterPlot(scatterPlotContainer);
-                    break;
-                case "LineChart":
-                    PointListContainer<PointList> lineChartContainer = csvParser.parse(CsvType.DOTS, csvOrientation);
-                    diagram = new LineChart(lineChartContainer);
-                    break;
-                case "BarChart":
-                    CategoricalPointListContainer<PointList> barChartContainer;
-                    try { // first try to parse as regular bar chart and convert to single category bar cart.
-                        barChartContainer = new SimpleCategoricalPointListContainerImpl(csvParser.parse(CsvType.X_ALIGNED, csvOrientation));
-                    } catch (MalformedCsvException e) { // else parse as categorical bar chart
-                        barChartContainer = csvParser.parse(CsvType.X_ALIGNED_CATEGORIES, csvOrientation);
-                    }
-                    diagram = new CategoricalBarChart(barChartContainer);
-                    break;
-                default: throw new IllegalStateException("Unknown diagram type: " + settingsReader.getSetting(SettingType.DIAGRAM_TYPE).orElse("<none>"));
-            }
+            Diagram diagram = awaitStartupTask(csvParsing);
             diagram.setTitle(settingsReader.getSetting(SettingType.DIAGRAM_TITLE).orElse(""));
             diagram.setXAxisName(settingsReader.getSetting(SettingType.X_AXIS_LABEL).orElse(""));
             diagram.setYAxisName(settingsReader.getSetting(SettingType.Y_AXIS_LABEL).orElse(""));
 
-            // Render diagram
-            LiblouisBrailleTextRasterizer.initModule();
-            MasterRenderer renderer = new MasterRenderer(printer, representationParameters, format);
-            PrinterCapability mode = PrinterCapability.valueOf(printer.getProperty("mode").toString().toUpperCase());
-            Iterator<? extends PrintableData> outputPages;
-            SvgExporter<? extends AbstractCanvas> svgExporter;
-            switch (mode) { // Decide on correct rendering mode to apply
-                case NORMALPRINTER:
-                    RasterCanvas rasterCanvas = renderer.rasterize(diagram);
-                    svgExporter = new BoolMatrixDataSvgExporter(rasterCanvas);
-                    outputPages = rasterCanvas.getPageIterator();
-                    break;
-                case INDEX_EVEREST_D_V4_FLOATINGDOT_PRINTER:
-                    PlotCanvas plotCanvas = renderer.plot(diagram);
-                    svgExporter = new BoolFloatingPointDataSvgExporter(plotCanvas);
-                    outputPages = plotCanvas.getPageIterator();
-                    break;
-                default: throw new UnsupportedOperationException("Mode not supported: " + mode);
-            }
-
             // Action switches
             boolean doPrint = !settingsReader.isTrue(SettingType.INHIBIT_PRINT).orElse(false);
             boolean doSvgExport = settingsReader.isPresent(SettingType.SVG_EXPORT);
             boolean doByteDump = settingsReader.isPresent(SettingType.BYTE_DUMP);
 
-            // SVG exporting
-            if (doSvgExport) {
-                File svgBaseFile = new File(settingsReader.getSetting(SettingType.SVG_EXPORT).get());
-                svgExporter.render();
-                svgExporter.dump(svgBaseFile.getAbsolutePath());
-            }
-
-            // Printing and Byte Dumping
+            PrinterCapability mode = PrinterCapability.valueOf(printer.getProperty("mode").toString().toUpperCase());
             PrintDirector printD = new PrintDirector(mode, printer);
             if (doPrint && !PrintDirector.isPrintServiceOn()) { // Check for running spooler or print service
                 throw new Exception("Can't find any running print services on this system.");
             }
+
+            awaitStartupTask(liblouisSetup);
+            mLogger.info("Startup completed in {} ms", (System.nanoTime() - startupBegin) / NANOS_PER_MILLI);
+
+            // Render diagram in the background. Completed pages are handed off through the queue, so that dumping and
+            // printing of the first pages can start while the later pages are still rendered.
+            if (settingsReader.isPresent(SettingType.TRANSLATION_CACHE)) {
+                LiblouisTranslatorRegistry.enablePersistentCache(Paths.get(settingsReader.getSetting(SettingType.TRANSLATION_CACHE).get()));
+            }
+            MasterRenderer renderer = new MasterRenderer(printer, representationParameters, format);
+            PageQueue<PrintableData> pageQueue = new PageQueue<>(PAGE_QUEUE_CAPACITY);
+            ExecutorService renderingExecutor = Executors.newSingleThreadExecutor();
+            Future<SvgExporter<? extends AbstractCanvas>> rendering = renderingExecutor.submit(() -> {
+                try {
+                    switch (mode) { // Decide on correct rendering mode to apply
+                        case NORMALPRINTER:
+                        case INDEX_EVEREST_D_V4_GRAPHIC_PRINTER:
+                            return new BoolMatrixDataSvgExporter(renderer.rasterize(diagram, pageQueue, doSvgExport));
+                        case INDEX_EVEREST_D_V4_FLOATINGDOT_PRINTER:
+                            return new BoolFloatingPointDataSvgExporter(renderer.plot(diagram, pageQueue, doSvgExport));
+                        default: throw new UnsupportedOperationException("Mode not supported: " + mode);
+                    }
+                } finally {
+                    // Release the output loop, even if rendering failed
+                    pageQueue.canvasFinished();
+                }
+            });
+            renderingExecutor.shutdown();
+
+            // Printing and Byte Dumping
             File dumpBaseFile = null; // Setup dump base file if required
             if (doByteDump) {
                 dumpBaseFile = new File(settingsReader.getSetting(SettingType.BYTE_DUMP).get());
             }
+            // Printing every page as a separate job does not work reliably on linux and osx, the printer would miss
+            // pages that are sent too fast. Therefore all pages are collected into a single print job there.
+            boolean singlePrintJob;
+            switch (NativeLibraryHelper.getOs()) {
+                case "win32":
+                    singlePrintJob = false;
+                    break;
+                case "osx":
+                case "linux":
+                default:
+                    singlePrintJob = true;
+            }
+            if (settingsReader.isTrue(SettingType.NO_PRINT_WORKAROUND).orElse(false)) {
+                singlePrintJob = false;
+            }
+            List<CompletableFuture<Void>> printJobs = new ArrayList<>();
             int pageNumber = 0;
-            while (outputPages.hasNext()) { // Iterate pages
-                PrintableData page = outputPages.next();
-                if (doByteDump) { // Byte dump
-                    try (FileOutputStream outputStream = new FileOutputStream(dumpBaseFile.getAbsolutePath() + String.format("_%03d.bin", pageNumber))) {
-                        outputStream.write(printD.byteDump(page));
-                    } catch (IOException ex) {
-                        // Inform user, but do not stop execution
-                        mLogger.error("An error occured while creating byte dump", ex);
-                    }
-                }
-                if (doPrint) { // Print page
-                    boolean applyWorkaround;
-                    switch (NativeLibraryHelper.getOs()) {
-                        case "win32":
-                            applyWorkaround = false;
-                            break;
-                        case "osx":
-                        case "linux":
-                        default:
-                            applyWorkaround = true;
-                    }
-                    if (settingsReader.isTrue(SettingType.NO_PRINT_WORKAROUND).orElse(false)) {
-                        applyWorkaround = false;
-                    }
-                    if (!applyWorkaround) {
-                        printD.print(page);
-                    } else {
-                        mLogger.warn("Currently a workaround is applied for printer communication. Expect a waiting time of up to 100 seconds between document pages. Disable with option -npw");
-                        Thread printingThread = new Thread(() -> {
-                            mLogger.debug("Started printing thread");
-                            printD.print(page);
-                            mLogger.debug("Print call returned");
-                        });
-                        printingThread.start();
-                        while (printingThread.isAlive()) {
-                            final int reduceBusinessWaitingTime = 100;
-                            Thread.sleep(reduceBusinessWaitingTime);
+            try {
+                PrintableData next = pageQueue.take();
+                while (next != null) { // Iterate pages as soon as they are completed
+                    PrintableData page = next;
+                    if (doByteDump) { // Byte dump
+                        try (FileOutputStream outputStream = new FileOutputStream(dumpBaseFile.getAbsolutePath() + String.format("_%03d.bin", pageNumber))) {
+                            printD.byteDump(page, outputStream.getChannel());
+                        } catch (IOException ex) {
+                            // Inform user, but do not stop execution
+                            mLogger.error("An error occured while creating byte dump", ex);
                         }
-                        mLogger.debug(printingThread.getName() + " has finished.");
-                        try {
-                            final int waitBetweenJobs = 100000;
-                            Thread.sleep(waitBetweenJobs);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
+                    }
+                    if (doPrint) { // Print page
+                        if (singlePrintJob) {
+                            printD.addToDocument(page);
+                        } else {
+                            printJobs.add(printD.printAsync(page)); // Next page is assembled while this one is printed
                         }
                     }
+
+                    pageNumber++;
+                    next = pageQueue.take();
+                }
+            } finally {
+                // Do not block the rendering thread, if the loop was left early
+                pageQueue.abort();
+            }
+
+            // Wait for rendering to finish, rethrows any rendering error
+            SvgExporter<? extends AbstractCanvas> svgExporter;
+            try {
+                svgExporter = rendering.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
                 }
+                throw e;
+            }
+            mLogger.debug("Braille translation cache: {} hits, {} misses",
+                    LiblouisTranslatorRegistry.getCacheHits(), LiblouisTranslatorRegistry.getCacheMisses());
+            try {
+                LiblouisTranslatorRegistry.flushPersistentCache();
+            } catch (IOException e) {
+                // Inform user, but do not stop execution
+                mLogger.error("An error occured while writing the translation cache", e);
+            }
 
-                pageNumber++;
+            // Send the collected pages, only after rendering has succeeded
+            if (doPrint && singlePrintJob && pageNumber > 0) {
+                printD.printDocument();
+            }
+            for (CompletableFuture<Void> printJob : printJobs) {
+                printJob.join();
+            }
+
+            // SVG exporting
+            if (doSvgExport) {
+                File svgBaseFile = new File(settingsReader.getSetting(SettingType.SVG_EXPORT).get());
+                svgExporter.render();
+                svgExporter.dump(svgBaseFile.getAbsolutePath());
             }
         } catch (final Exception e) {
             terminateWithException(e);
@@ -318,6 +355,88 @@ public final class App {
         return EXIT_SUCCESS;
     }
 
+    /**
+     * Parse the csv data given by the settings and create the diagram of the requested type.
+     * @param settingsReader The settings, containing the csv location and orientation and the diagram type.
+     * @return The diagram, without title and axis names.
+     * @throws Exception If the csv data can not be read or does not fit the diagram type.
+     */
+    private Diagram readDiagram(final SettingsReader settingsReader) throws Exception {
+        String csvLocation = settingsReader.getSetting(SettingType.CSV_LOCATION).get();
+        String diagramType = settingsReader.getSetting(SettingType.DIAGRAM_TYPE).orElse("");
+        CsvOrientation csvOrientation;
+        if (settingsReader.isTrue(SettingType.VERTICAL_CSV).orElse(false)) {
+            csvOrientation = CsvOrientation.VERTICAL;
+        } else {
+            csvOrientation = CsvOrientation.HORIZONTAL;
+        }
+        // Large files of scattered point data are parsed in parallel, unless they are too large to be mapped
+        boolean pointData = diagramType.equals("ScatterPlot") || diagramType.equals("LineChart");
+        long csvSize = Files.size(Paths.get(csvLocation));
+        if (pointData && csvOrientation == CsvOrientation.HORIZONTAL && csvSize >= PARALLEL_CSV_SIZE && csvSize <= ParallelCsvParser.MAX_FILE_SIZE) {
+            PointListContainer<PointList> container = new ParallelCsvParser(Paths.get(csvLocation), ',', '\"').parse(CsvType.DOTS, csvOrientation);
+            if (diagramType.equals("ScatterPlot")) {
+                return new ScatterPlot(container);
+            }
+            return new LineChart(container);
+        }
+        InputStream csvStream;
+        csvStream = new FileInputStream(csvLocation);
+        Reader csvReader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(csvStream)));
+        // Bar charts might be parsed twice, all other data is parsed while it is read, without keeping the lines
+        CsvParser csvParser = new CsvParser(csvReader, ',', '\"', !diagramType.equals("BarChart"));
+        switch (diagramType) {
+            case "ScatterPlot":
+                PointListContainer<PointList> scatterPlotContainer = csvParser.parse(CsvType.DOTS, csvOrientation);
+                return new ScatterPlot(scatterPlotContainer);
+            case "LineChart":
+                PointListContainer<PointList> lineChartContainer = csvParser.parse(CsvType.DOTS, csvOrientation);
+                return new LineChart(lineChartContainer);
+            case "BarChart":
+                CategoricalPointListContainer<PointList> barChartContainer;
+                try { // first try to parse as regular bar chart and convert to single category bar cart.
+                    barChartContainer = new SimpleCategoricalPointListContainerImpl(csvParser.parse(CsvType.X_ALIGNED, csvOrientation));
+                } catch (MalformedCsvException e) { // else parse as categorical bar chart
+                    barChartContainer = csvParser.parse(CsvType.X_ALIGNED_CATEGORIES, csvOrientation);
+                }
+                return new CategoricalBarChart(barChartContainer);
+            default: throw new IllegalStateException("Unknown diagram type: " + settingsReader.getSetting(SettingType.DIAGRAM_TYPE).orElse("<none>"));
+        }
+    }
+
+    /**
+     * Run a startup phase and log its duration.
+     * @param phase The name of the phase, used for logging.
+     * @param task The task of the phase.
+     * @param <T> The result type of the task.
+     * @return The result of the task.
+     * @throws Exception If the task fails.
+     */
+    private <T> T timed(final String phase, final Callable<T> task) throws Exception {
+        long begin = System.nanoTime();
+        T result = task.call();
+        mLogger.debug("{} took {} ms", phase, (System.nanoTime() - begin) / NANOS_PER_MILLI);
+        return result;
+    }
+
+    /**
+     * Wait for a startup task to complete.
+     * @param task The future of the task.
+     * @param <T> The result type of the task.
+     * @return The result of the task.
+     * @throws Exception The exception thrown by the task, if it failed.
+     */
+    private static <T> T awaitStartupTask(final Future<T> task) throws Exception {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     public static void setLoggingLevel(final Level level) {
         ch.qos.logback.classic.Logger root = (ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory.getLogger(ch.qos.logback.classic.Logger.ROOT_LOGGER_NAME);
         root.setLevel(level);
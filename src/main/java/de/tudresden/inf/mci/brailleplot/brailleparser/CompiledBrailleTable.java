@@ -0,0 +1,123 @@
+package de.tudresden.inf.mci.brailleplot.brailleparser;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.printerbackend.NotSupportedFileExtensionException;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Braille table which is compiled into a plain byte array, indexed by the packed dot mask of a Braille cell
+ * (see {@link de.tudresden.inf.mci.brailleplot.printabledata.MatrixData#getCellRowMasks(int, int, int, int[])}).
+ * The table file is parsed only once; compiled tables are cached for the lifetime of the process, so that
+ * looking up a cell is a single array access.
+ * @author Andrey Ruzhanskiy
+ * @version 2019.10.08
+ */
+public final class CompiledBrailleTable {
+
+    private static final Map<String, CompiledBrailleTable> CACHE = new ConcurrentHashMap<>();
+    private static final int BYTE_MASK = 0xFF;
+
+    private final String mPath;
+    private final int mDotCount;
+    private final byte[] mBytes;
+    private final boolean[] mDefined;
+
+    /**
+     * Constructor. Compiles the table by querying the given parser for all possible cells.
+     * @param path The path to the braille table, only used for error messages.
+     * @param parser The parser holding the braille table.
+     * @param dotCount The number of dots of a cell (6 or 8).
+     */
+    private CompiledBrailleTable(final String path, final AbstractBrailleTableParser parser, final int dotCount) {
+        mPath = path;
+        mDotCount = dotCount;
+        mBytes = new byte[1 << dotCount];
+        mDefined = new boolean[1 << dotCount];
+        for (int mask = 0; mask < mBytes.length; mask++) {
+            try {
+                mBytes[mask] = (byte) parser.getByteAsIntBackEnd(toKey(mask, dotCount));
+                mDefined[mask] = true;
+            } catch (NumberFormatException e) {
+                // The cell is not contained in the table. Only an error if it is actually used.
+                mDefined[mask] = false;
+            }
+        }
+    }
+
+    /**
+     * Get the compiled braille table referenced by the given property of the printer configuration.
+     * The table is compiled on the first request and reused afterwards.
+     * @param printer The {@link Printer} configuration.
+     * @param property The name of the property holding the path to the table, e.g. "brailletable".
+     * @param dotCount The number of dots of a cell, 6 or 8.
+     * @return The compiled table.
+     * @throws NotSupportedFileExtensionException If the table file type is not supported.
+     * @throws IllegalArgumentException If the dot count is neither 6 nor 8.
+     */
+    @SuppressWarnings("checkstyle:MagicNumber")
+    public static CompiledBrailleTable getTable(final Printer printer, final String property, final int dotCount) throws NotSupportedFileExtensionException {
+        Objects.requireNonNull(printer);
+        Objects.requireNonNull(property);
+        if (dotCount != 6 && dotCount != 8) {
+            throw new IllegalArgumentException("Only 6 and 8 dot braille tables are supported, got " + dotCount);
+        }
+        String path = printer.getProperty(property).toString();
+        String key = dotCount + ":" + path;
+        CompiledBrailleTable table = CACHE.get(key);
+        if (table == null) {
+            table = new CompiledBrailleTable(path, AbstractBrailleTableParser.getParser(printer, property), dotCount);
+            CACHE.putIfAbsent(key, table);
+        }
+        return table;
+    }
+
+    /**
+     * Get the bit string representation of a packed dot mask, as used for the keys of braille tables ("110001").
+     * @param mask The packed dot mask. Bit i represents dot i + 1.
+     * @param dotCount The number of dots of the cell.
+     * @return The bit string.
+     */
+    static String toKey(final int mask, final int dotCount) {
+        StringBuilder sb = new StringBuilder(dotCount);
+        for (int i = 0; i < dotCount; i++) {
+            if ((mask & (1 << i)) != 0) {
+                sb.append("1");
+            } else {
+                sb.append("0");
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Look up the byte for a Braille cell.
+     * @param mask The packed dot mask of the cell.
+     * @return The byte representing the cell in the braille table, as unsigned int.
+     * @throws RuntimeException If the cell is not contained in the braille table.
+     */
+    public int getByte(final int mask) {
+        if (!mDefined[mask]) {
+            throw new RuntimeException("Could not find the cell '" + toKey(mask, mDotCount) + "' in the braille table " + mPath);
+        }
+        return mBytes[mask] & BYTE_MASK;
+    }
+
+    /**
+     * Get the whole compiled table. Should only be used for bulk translation; entries of undefined cells are 0.
+     * @return A copy of the table, indexed by the packed dot mask.
+     */
+    public byte[] getBytes() {
+        return mBytes.clone();
+    }
+
+    /**
+     * Getter.
+     * @return The number of dots of a cell in this table.
+     */
+    public int getDotCount() {
+        return mDotCount;
+    }
+}
@@ -47,7 +47,9 @@ public class CommandLineParser {
                 .addOption("s", SettingType.SVG_EXPORT.toString(), true, "Base file path for export of svg file(s) (Omit '.svg' suffix)")
                 .addOption("b", SettingType.BYTE_DUMP.toString(), true, "Base file path for print data byte dump file(s) (Omit '.bin' suffix)")
                 .addOption("l", SettingType.LOG_LEVEL.toString(), true, "Logging output level. Possible Values: [All, Trace, Debug, Info, Warn, Error, Off] Defaults to 'Info'")
-                .addOption("npw", SettingType.NO_PRINT_WORKAROUND.toString(), false, "Do not apply sleeptime workaround for printer communication. Only has effect on non-windows machines.");
+                .addOption("npw", SettingType.NO_PRINT_WORKAROUND.toString(), false, "Do not collect all pages into a single print job, but print every page as a separate job. Only has effect on non-windows machines.")
+                .addOption("tc", SettingType.TRANSLATION_CACHE.toString(), true, "Directory for caching braille translations across runs (Created if it does not exist)")
+                .addOption("cc", SettingType.CONFIG_CACHE.toString(), true, "Directory for caching parsed printer configurations across runs (Created if it does not exist)");
     }
 
     /**
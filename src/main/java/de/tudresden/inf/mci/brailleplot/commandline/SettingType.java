@@ -20,7 +20,9 @@ public enum SettingType {
     SVG_EXPORT("svg-export"),
     BYTE_DUMP("byte-dump"),
     LOG_LEVEL("log-level"),
-    NO_PRINT_WORKAROUND("no-print-workaround");
+    NO_PRINT_WORKAROUND("no-print-workaround"),
+    TRANSLATION_CACHE("translation-cache"),
+    CONFIG_CACHE("config-cache");
 
 
     private final String mName;
@@ -59,6 +61,10 @@ public enum SettingType {
                 return LOG_LEVEL;
             case "no-print-workaround":
                 return NO_PRINT_WORKAROUND;
+            case "translation-cache":
+                return TRANSLATION_CACHE;
+            case "config-cache":
+                return CONFIG_CACHE;
             default:
                 throw new IllegalArgumentException("Setting not available");
         }
@@ -1,8 +1,11 @@
 package de.tudresden.inf.mci.brailleplot.configparser;
 
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Represents an entity with a set of valid properties, that can optionally be inherited and extended from a given
@@ -13,6 +16,10 @@ import java.util.NoSuchElementException;
 abstract class Configurable {
 
     private Configurable mFallback;
+    private static final AtomicLong MODIFICATIONS = new AtomicLong();
+    private long mModificationStamp;
+    private PropertySnapshot mSnapshot;
+    private long mSnapshotStamp = -1;
     /**
      * A list of the properties specific to this entity.
      */
@@ -58,12 +65,21 @@ abstract class Configurable {
         throw new NoSuchElementException("Property does not exist: " + propertyName);
     }
 
+    /**
+     * Get the default/fallback {@link Configurable}.
+     * @return The fallback or null, if no fallback is set.
+     */
+    final Configurable getFallback() {
+        return mFallback;
+    }
+
     /**
      * Set the default/fallback {@link Configurable} that will be used if a property cannot be found.
      * @param fallback A {@link Configurable} object.
      */
     public final void setFallback(final Configurable fallback) {
         mFallback = fallback;
+        mModificationStamp = MODIFICATIONS.incrementAndGet();
     }
 
     public final void override(final ValidProperty overridingProperty) {
@@ -74,6 +90,36 @@ abstract class Configurable {
                 mProperties.remove(i + 1); // the old property
             }
         }
+        mModificationStamp = MODIFICATIONS.incrementAndGet();
+    }
+
+    /**
+     * Get an immutable snapshot of all properties, including those inherited from the fallback. The snapshot is
+     * created on the first call and reused until this configurable or one of its fallbacks is modified.
+     * @return A {@link PropertySnapshot} with the current property values.
+     */
+    public final synchronized PropertySnapshot snapshot() {
+        long stamp = getChainModificationStamp();
+        if (mSnapshot == null || mSnapshotStamp != stamp) {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (Configurable configurable = this; configurable != null; configurable = configurable.mFallback) {
+                for (ValidProperty property : configurable.mProperties) {
+                    values.putIfAbsent(property.getName(), property.toString()); // the first occurrence is used
+                }
+            }
+            mSnapshot = new PropertySnapshot(toString(), values);
+            mSnapshotStamp = stamp;
+        }
+        return mSnapshot;
+    }
+
+    private long getChainModificationStamp() {
+        // Every modification gets a new, greater stamp, so the maximum changes if any configurable of the chain is modified
+        long stamp = 0;
+        for (Configurable configurable = this; configurable != null; configurable = configurable.mFallback) {
+            stamp = Math.max(stamp, configurable.mModificationStamp);
+        }
+        return stamp;
     }
 
 }
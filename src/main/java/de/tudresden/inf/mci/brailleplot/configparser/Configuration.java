@@ -0,0 +1,38 @@
+package de.tudresden.inf.mci.brailleplot.configparser;
+
+import java.util.Set;
+
+/**
+ * The printer, representation and format configurations, as parsed by a {@link ConfigurationParser} or restored
+ * from a {@link ConfigurationCache}.
+ * @author Leonard Kupper
+ * @version 2019.10.17
+ */
+public interface Configuration {
+
+    /**
+     * Get the printer configuration.
+     * @return A {@link Printer} object, representing the printers properties.
+     */
+    Printer getPrinter();
+
+    /**
+     * Get the representation configuration.
+     * @return A {@link Representation} object, representing the representation properties.
+     */
+    Representation getRepresentation();
+
+    /**
+     * Get the names of all available format configurations.
+     * @return A {@link Set}&lt;{@link String}&gt; containing the name of each format.
+     */
+    Set<String> getFormatNames();
+
+    /**
+     * Get a specific format configuration.
+     * @param formatName The name of the format.
+     * @return A {@link Format} object, representing the formats properties.
+     * @throws java.util.NoSuchElementException If no format has the specified name.
+     */
+    Format getFormat(String formatName);
+}
@@ -0,0 +1,317 @@
+package de.tudresden.inf.mci.brailleplot.configparser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Cache of parsed and validated configurations in a directory, which is kept across runs of the application.
+ * A configuration is stored in a compact binary file, together with the location and the SHA-256 hash of every file,
+ * that was read while parsing it (the configuration file, the default configuration and all included files).
+ * The stored configuration is only used, if none of these files has changed. Otherwise the files are parsed again
+ * and the cache file is replaced.
+ * @author Leonard Kupper
+ * @version 2019.10.17
+ */
+public final class ConfigurationCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigurationCache.class);
+
+    private static final int MAGIC = 0x42504C43;
+    private static final int FORMAT_VERSION = 1;
+    private static final String FILE_EXTENSION = ".config";
+    private static final int NO_FALLBACK = -1;
+    private static final byte PRINTER = 0;
+    private static final byte REPRESENTATION = 1;
+    private static final byte FORMAT = 2;
+    private static final int BYTE_MASK = 0xFF;
+
+    private final Path mDirectory;
+
+    /**
+     * Constructor. Creates the directory, if it does not exist.
+     * @param directory The cache directory.
+     * @throws IOException If the directory can not be created.
+     */
+    public ConfigurationCache(final Path directory) throws IOException {
+        mDirectory = Files.createDirectories(Objects.requireNonNull(directory));
+    }
+
+    /**
+     * Get the configuration parsed from a Java Property File with a given default configuration. The result is taken
+     * from the cache, if the files have not changed since they were cached, else they are parsed by a
+     * {@link JavaPropertiesConfigurationParser} and the result is cached.
+     * @param filePath The path of the Java Property File.
+     * @param defaultPath The path to the Java Property File containing the default properties.
+     * @return The printer, representation and format configurations.
+     * @throws ConfigurationParsingException On any error while accessing the configuration file or syntax.
+     * @throws ConfigurationValidationException On any error while checking the parsed properties validity.
+     */
+    public Configuration getConfiguration(final Path filePath, final URL defaultPath) throws ConfigurationParsingException, ConfigurationValidationException {
+        Objects.requireNonNull(filePath);
+        Objects.requireNonNull(defaultPath);
+        // Relative file references in the configuration are resolved against the working directory
+        Path cacheFile = mDirectory.resolve(toHex(ConfigurationParser.hash(String.join("\n", filePath.toAbsolutePath().normalize().toString(),
+                defaultPath.toString(), System.getProperty("user.dir")).getBytes(StandardCharsets.UTF_8))) + FILE_EXTENSION);
+        try {
+            Configuration cached = read(cacheFile);
+            if (cached != null) {
+                LOGGER.debug("Using cached configuration {}", cacheFile);
+                return cached;
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Ignoring malformed configuration cache file " + cacheFile, e);
+        }
+        ConfigurationParser parser = new JavaPropertiesConfigurationParser(filePath, defaultPath);
+        try {
+            write(cacheFile, parser);
+            LOGGER.debug("Wrote configuration to the cache {}", cacheFile);
+        } catch (IOException e) {
+            // The configuration is valid anyway, it will be parsed again next time
+            LOGGER.warn("Could not write configuration cache file " + cacheFile, e);
+        }
+        return parser;
+    }
+
+    /**
+     * Read a cached configuration.
+     * @param cacheFile The cache file.
+     * @return The configuration, or null if the cache file does not exist or one of the configuration files has changed.
+     * @throws IOException If the cache file can not be read.
+     */
+    private static Configuration read(final Path cacheFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            int sourceCount = in.readInt();
+            for (int i = 0; i < sourceCount; i++) {
+                String location = in.readUTF();
+                byte[] hash = new byte[in.readUnsignedByte()];
+                in.readFully(hash);
+                if (!isUnchanged(location, hash)) {
+                    LOGGER.debug("Configuration file {} has changed since it was cached", location);
+                    return null;
+                }
+            }
+            List<Configurable> configurables = new ArrayList<>();
+            int configurableCount = in.readInt();
+            for (int i = 0; i < configurableCount; i++) {
+                configurables.add(readConfigurable(in, configurables));
+            }
+            Printer printer = (Printer) configurables.get(in.readInt());
+            Representation representation = (Representation) configurables.get(in.readInt());
+            Map<String, Format> formats = new HashMap<>();
+            int formatCount = in.readInt();
+            for (int i = 0; i < formatCount; i++) {
+                String name = in.readUTF();
+                formats.put(name, (Format) configurables.get(in.readInt()));
+            }
+            return new CachedConfiguration(printer, representation, formats);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    private static boolean isUnchanged(final String location, final byte[] hash) {
+        try (InputStream in = new URL(location).openStream()) {
+            return Arrays.equals(hash, ConfigurationParser.hash(in.readAllBytes()));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Configurable readConfigurable(final DataInputStream in, final List<Configurable> previous) throws IOException {
+        byte type = in.readByte();
+        String formatName = in.readUTF();
+        int fallback = in.readInt();
+        int propertyCount = in.readInt();
+        Configurable configurable;
+        switch (type) {
+            case PRINTER:
+                List<PrinterProperty> printerProperties = new ArrayList<>();
+                for (int i = 0; i < propertyCount; i++) {
+                    printerProperties.add(new PrinterProperty(in.readUTF(), in.readUTF()));
+                }
+                configurable = new Printer(printerProperties);
+                break;
+            case REPRESENTATION:
+                List<RepresentationProperty> representationProperties = new ArrayList<>();
+                for (int i = 0; i < propertyCount; i++) {
+                    representationProperties.add(new RepresentationProperty(in.readUTF(), in.readUTF()));
+                }
+                configurable = new Representation(representationProperties);
+                break;
+            case FORMAT:
+                List<FormatProperty> formatProperties = new ArrayList<>();
+                for (int i = 0; i < propertyCount; i++) {
+                    formatProperties.add(new FormatProperty(formatName, in.readUTF(), in.readUTF()));
+                }
+                configurable = new Format(formatProperties, formatName);
+                break;
+            default:
+                throw new IOException("Unknown configuration type: " + type);
+        }
+        if (fallback != NO_FALLBACK) {
+            // Fallbacks are always written before the configurables using them
+            configurable.setFallback(previous.get(fallback));
+        }
+        return configurable;
+    }
+
+    /**
+     * Write a configuration to the cache. The file is replaced at once, so that other processes using the same cache
+     * directory never read a partially written file.
+     * @param cacheFile The cache file.
+     * @param parser The parser holding the configuration and the read files.
+     * @throws IOException If the cache file can not be written.
+     */
+    private void write(final Path cacheFile, final ConfigurationParser parser) throws IOException {
+        // Number the configurables, fallbacks before the configurables using them, each shared one only once
+        Map<Configurable, Integer> ids = new IdentityHashMap<>();
+        List<Configurable> configurables = new ArrayList<>();
+        number(parser.getPrinter(), ids, configurables);
+        number(parser.getRepresentation(), ids, configurables);
+        Map<String, Format> formats = new LinkedHashMap<>();
+        for (String name : parser.getFormatNames()) {
+            Format format = parser.getFormat(name);
+            formats.put(name, format);
+            number(format, ids, configurables);
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(buffer))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            Map<String, byte[]> sources = parser.getSources();
+            out.writeInt(sources.size());
+            for (Map.Entry<String, byte[]> source : sources.entrySet()) {
+                out.writeUTF(source.getKey());
+                out.writeByte(source.getValue().length);
+                out.write(source.getValue());
+            }
+            out.writeInt(configurables.size());
+            for (Configurable configurable : configurables) {
+                writeConfigurable(out, configurable, ids);
+            }
+            out.writeInt(ids.get(parser.getPrinter()));
+            out.writeInt(ids.get(parser.getRepresentation()));
+            out.writeInt(formats.size());
+            for (Map.Entry<String, Format> format : formats.entrySet()) {
+                out.writeUTF(format.getKey());
+                out.writeInt(ids.get(format.getValue()));
+            }
+        }
+
+        Path temporary = Files.createTempFile(mDirectory, "config", ".tmp");
+        try {
+            Files.write(temporary, buffer.toByteArray());
+            Files.move(temporary, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void number(final Configurable configurable, final Map<Configurable, Integer> ids, final List<Configurable> configurables) {
+        if (configurable == null || ids.containsKey(configurable)) {
+            return;
+        }
+        number(configurable.getFallback(), ids, configurables);
+        ids.put(configurable, configurables.size());
+        configurables.add(configurable);
+    }
+
+    private static void writeConfigurable(final DataOutputStream out, final Configurable configurable, final Map<Configurable, Integer> ids) throws IOException {
+        if (configurable instanceof Printer) {
+            out.writeByte(PRINTER);
+            out.writeUTF("");
+        } else if (configurable instanceof Representation) {
+            out.writeByte(REPRESENTATION);
+            out.writeUTF("");
+        } else {
+            out.writeByte(FORMAT);
+            out.writeUTF(((Format) configurable).getFormatName());
+        }
+        Configurable fallback = configurable.getFallback();
+        if (fallback == null) {
+            out.writeInt(NO_FALLBACK);
+        } else {
+            out.writeInt(ids.get(fallback));
+        }
+        out.writeInt(configurable.mProperties.size());
+        for (ValidProperty property : configurable.mProperties) {
+            out.writeUTF(property.getName());
+            out.writeUTF(property.toString());
+        }
+    }
+
+    private static String toHex(final byte[] hash) {
+        StringBuilder hex = new StringBuilder();
+        for (byte b : hash) {
+            hex.append(String.format("%02x", b & BYTE_MASK));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * A configuration restored from the cache.
+     */
+    private static final class CachedConfiguration implements Configuration {
+
+        private final Printer mPrinter;
+        private final Representation mRepresentation;
+        private final Map<String, Format> mFormats;
+
+        CachedConfiguration(final Printer printer, final Representation representation, final Map<String, Format> formats) {
+            mPrinter = Objects.requireNonNull(printer);
+            mRepresentation = Objects.requireNonNull(representation);
+            mFormats = formats;
+        }
+
+        @Override
+        public Printer getPrinter() {
+            return mPrinter;
+        }
+
+        @Override
+        public Representation getRepresentation() {
+            return mRepresentation;
+        }
+
+        @Override
+        public Set<String> getFormatNames() {
+            return mFormats.keySet();
+        }
+
+        @Override
+        public Format getFormat(final String formatName) {
+            if (!mFormats.containsKey(formatName)) {
+                throw new NoSuchElementException("Format does not exist: " + formatName);
+            }
+            return mFormats.get(formatName);
+        }
+    }
+}
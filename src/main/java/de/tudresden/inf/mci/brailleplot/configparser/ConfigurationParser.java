@@ -4,15 +4,18 @@ import de.tudresden.inf.mci.brailleplot.util.UrlHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -26,7 +29,7 @@ import java.util.Set;
  * @version 2019.09.23
  */
 
-public abstract class ConfigurationParser {
+public abstract class ConfigurationParser implements Configuration {
 
     private ConfigurationValidator mValidator;
     private Printer mPrinter;
@@ -38,6 +41,7 @@ public abstract class ConfigurationParser {
     private Printer mDefaultPrinter;
     private Representation mDefaultRepresentation;
     private Format mDefaultFormat;
+    private Map<String, byte[]> mSources = new LinkedHashMap<>();
 
     protected final Logger mLogger = LoggerFactory.getLogger(getClass());
 
@@ -61,6 +65,7 @@ public abstract class ConfigurationParser {
      * Get the representation configuration.
      * @return A {@link Representation} object, representing the representation properties.
      */
+    @Override
     public final Representation getRepresentation() {
         return mRepresentation;
     }
@@ -70,6 +75,7 @@ public abstract class ConfigurationParser {
      *
      * @return A {@link Printer} object, representing the printers properties.
      */
+    @Override
     public final Printer getPrinter() {
         return mPrinter;
     }
@@ -79,6 +85,7 @@ public abstract class ConfigurationParser {
      *
      * @return A {@link Set}&lt;{@link String}&gt; containing the name of each format.
      */
+    @Override
     public final Set<String> getFormatNames() {
         return mFormats.keySet();
     }
@@ -90,6 +97,7 @@ public abstract class ConfigurationParser {
      * @return A {@link Format} object, representing the formats properties.
      * @throws NoSuchElementException If no format has the specified name.
      */
+    @Override
     public final Format getFormat(final String formatName) {
         if (!mFormats.containsKey(formatName)) {
             throw new NoSuchElementException("Format does not exist: " + formatName);
@@ -173,7 +181,7 @@ public abstract class ConfigurationParser {
         mLogger.debug("Starting parsing properties file from java resources: \"{}\"", resource);
 
         try {
-            parseConfigFile(resource.openStream(), UrlHelper.getParentUrl(resource), assertCompleteness);
+            parseConfigFile(readSource(resource.openStream(), resource), UrlHelper.getParentUrl(resource), assertCompleteness);
         } catch (IOException e) {
             throw new ConfigurationParsingException("Could not open resource at \"" + resource.toString() + "\"", e);
         }
@@ -192,12 +200,52 @@ public abstract class ConfigurationParser {
         mLogger.debug("Starting parsing properties file from file system: \"{}\"", filePath);
 
         try {
-            parseConfigFile(new FileInputStream(filePath.toFile()), UrlHelper.getParentUrl(filePath.toFile().toURI().toURL()), assertCompleteness);
-        } catch (FileNotFoundException | MalformedURLException e) {
+            URL fileUrl = filePath.toFile().toURI().toURL();
+            parseConfigFile(readSource(new FileInputStream(filePath.toFile()), fileUrl), UrlHelper.getParentUrl(fileUrl), assertCompleteness);
+        } catch (IOException e) {
             throw new ConfigurationParsingException("Configuration file could not be read at \"" + filePath.toString() + "\"");
         }
     }
 
+    /**
+     * Read a configuration file completely and remember its location and the hash of its content.
+     * Every file read by the parser, including the included files, has to be read by this method, so that
+     * {@link ConfigurationCache} can detect changes of any of them.
+     * @param source The stream of the file. It is closed by this method.
+     * @param location The URL identifying the file.
+     * @return A stream of the read content.
+     * @throws IOException If the file can not be read.
+     */
+    protected final InputStream readSource(final InputStream source, final URL location) throws IOException {
+        byte[] content;
+        try (InputStream in = source) {
+            content = in.readAllBytes();
+        }
+        mSources.put(location.toString(), hash(content));
+        return new ByteArrayInputStream(content);
+    }
+
+    /**
+     * Get the files read while parsing.
+     * @return The SHA-256 hashes of the file contents, by the location of the file, in the order of reading.
+     */
+    final Map<String, byte[]> getSources() {
+        return Collections.unmodifiableMap(mSources);
+    }
+
+    /**
+     * Calculate the SHA-256 hash of a file content.
+     * @param content The content.
+     * @return The hash.
+     */
+    static byte[] hash(final byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Parse the specified configuration file.
      * This method should be called inside the concrete parsers constructor after the optional default configurations
@@ -33,6 +33,14 @@ public final class Format extends Configurable {
         mProperties.addAll(properties);
     }
 
+    /**
+     * Get the name of the format.
+     * @return The name of the format, or an empty string if it has no name.
+     */
+    String getFormatName() {
+        return mFormatName;
+    }
+
     @Override
     public String toString() {
         return "format configuration (" + mFormatName + ")";
@@ -145,7 +145,7 @@ public final class JavaPropertiesConfigurationParser extends ConfigurationParser
 
             mLogger.debug("Prepare recursive parsing of properties file in the file system for file \"{}\"", newPathString);
 
-            try (InputStream is = new BufferedInputStream(new FileInputStream(newPathString))) {
+            try (InputStream is = readSource(new BufferedInputStream(new FileInputStream(newPathString)), newPath.toUri().toURL())) {
                 Objects.requireNonNull(is);
                 parse(is, UrlHelper.getParentUrl(newPath.toUri().toURL()));
             } catch (IOException e) {
@@ -182,7 +182,7 @@ public final class JavaPropertiesConfigurationParser extends ConfigurationParser
 
             mLogger.debug("Prepare recursive parsing of properties file in the java resources at \"{}\"", UrlHelper.getString(newUrl));
 
-            try (InputStream is = newUrl.openStream()) {
+            try (InputStream is = readSource(newUrl.openStream(), newUrl)) {
                 Objects.requireNonNull(is);
                 parse(is, UrlHelper.getParentUrl(newUrl));
             } catch (IOException e) {
@@ -51,6 +51,7 @@ public final class JavaPropertiesConfigurationValidator implements Configuration
         definePrinterProperty("brailletable", requireNotEmpty, false);  // checked in interpretation
         definePrinterProperty("semantictable", requireNotEmpty, false); // before predicate validation
         definePrinterProperty("floatingDot.resolution", requireDouble.and(requirePositive), false);
+        definePrinterProperty("floatingDot.bandHeight", requireDouble.and(requirePositive), false);
         definePrinterProperty("constraint.top", requireDouble.and(requirePositive));
         definePrinterProperty("constraint.left", requireDouble.and(requirePositive));
         definePrinterProperty("constraint.width", requireDouble.and(requirePositive), false);
@@ -0,0 +1,190 @@
+package de.tudresden.inf.mci.brailleplot.configparser;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable view of the properties of a {@link Configurable} with the fallbacks already resolved.
+ * The properties are found by a hash lookup instead of searching the property lists, and every value is parsed once,
+ * when the snapshot is created. The parsed values are kept in primitive slots, so reading a number neither parses
+ * nor boxes. Values, that can not be parsed as the requested type, cause the same {@link NumberFormatException} as
+ * {@link ValidProperty#toInt()} and {@link ValidProperty#toDouble()}, when they are read.
+ * Hot paths may look up the slot of a property once by {@link #indexOf(String)} and read the value by the slot.
+ * @author Leonard Kupper
+ * @version 2019.10.17
+ */
+public final class PropertySnapshot {
+
+    private final String mDescription;
+    private final Map<String, Integer> mSlots;
+    private final String[] mValues;
+    private final int[] mInts;
+    private final double[] mDoubles;
+    private final boolean[] mBools;
+    private final boolean[] mValidInts;
+    private final boolean[] mValidDoubles;
+
+    /**
+     * Constructor. Use {@link Configurable#snapshot()} to get the snapshot of a {@link Configurable}.
+     * @param description A description of the configuration, used in error messages.
+     * @param values The resolved values, by property name.
+     */
+    PropertySnapshot(final String description, final Map<String, String> values) {
+        mDescription = Objects.requireNonNull(description);
+        int size = values.size();
+        Map<String, Integer> slots = new HashMap<>();
+        mValues = new String[size];
+        mInts = new int[size];
+        mDoubles = new double[size];
+        mBools = new boolean[size];
+        mValidInts = new boolean[size];
+        mValidDoubles = new boolean[size];
+        int slot = 0;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value = entry.getValue();
+            slots.put(entry.getKey(), slot);
+            mValues[slot] = value;
+            mBools[slot] = Boolean.parseBoolean(value);
+            try {
+                mInts[slot] = Integer.parseInt(value);
+                mValidInts[slot] = true;
+            } catch (NumberFormatException e) {
+                mValidInts[slot] = false;
+            }
+            try {
+                mDoubles[slot] = Double.parseDouble(value);
+                mValidDoubles[slot] = true;
+            } catch (NumberFormatException e) {
+                mValidDoubles[slot] = false;
+            }
+            slot++;
+        }
+        mSlots = Collections.unmodifiableMap(slots);
+    }
+
+    /**
+     * Get the names of all available properties.
+     * @return An unmodifiable {@link Set} containing the property names.
+     */
+    public Set<String> getPropertyNames() {
+        return mSlots.keySet();
+    }
+
+    /**
+     * Check whether a property is available.
+     * @param propertyName The name of the property.
+     * @return True if the property exists, else false.
+     */
+    public boolean contains(final String propertyName) {
+        return mSlots.containsKey(propertyName);
+    }
+
+    /**
+     * Get the slot of a property, which can be used to read its value without a lookup.
+     * @param propertyName The name of the property.
+     * @return The slot of the property.
+     * @throws NoSuchElementException If no property has the specified name.
+     */
+    public int indexOf(final String propertyName) {
+        Integer slot = mSlots.get(propertyName);
+        if (slot == null) {
+            throw new NoSuchElementException("Property does not exist in " + mDescription + ": " + propertyName);
+        }
+        return slot;
+    }
+
+    /**
+     * Get the value of a property as {@link String}.
+     * @param propertyName The name of the property.
+     * @return The property value.
+     * @throws NoSuchElementException If no property has the specified name.
+     */
+    public String getString(final String propertyName) {
+        return getString(indexOf(propertyName));
+    }
+
+    /**
+     * Get the value of a property as int.
+     * @param propertyName The name of the property.
+     * @return The property value.
+     * @throws NoSuchElementException If no property has the specified name.
+     * @throws NumberFormatException If the value can not be converted to an int.
+     */
+    public int getInt(final String propertyName) {
+        return getInt(indexOf(propertyName));
+    }
+
+    /**
+     * Get the value of a property as double.
+     * @param propertyName The name of the property.
+     * @return The property value.
+     * @throws NoSuchElementException If no property has the specified name.
+     * @throws NumberFormatException If the value can not be converted to a double.
+     */
+    public double getDouble(final String propertyName) {
+        return getDouble(indexOf(propertyName));
+    }
+
+    /**
+     * Get the value of a property as boolean.
+     * @param propertyName The name of the property.
+     * @return The property value.
+     * @throws NoSuchElementException If no property has the specified name.
+     */
+    public boolean getBool(final String propertyName) {
+        return getBool(indexOf(propertyName));
+    }
+
+    /**
+     * Get the value in a slot as {@link String}.
+     * @param slot The slot, as returned by {@link #indexOf(String)}.
+     * @return The property value.
+     */
+    public String getString(final int slot) {
+        return mValues[slot];
+    }
+
+    /**
+     * Get the value in a slot as int.
+     * @param slot The slot, as returned by {@link #indexOf(String)}.
+     * @return The property value.
+     * @throws NumberFormatException If the value can not be converted to an int.
+     */
+    public int getInt(final int slot) {
+        if (!mValidInts[slot]) {
+            return Integer.parseInt(mValues[slot]); // throws the exception describing the value
+        }
+        return mInts[slot];
+    }
+
+    /**
+     * Get the value in a slot as double.
+     * @param slot The slot, as returned by {@link #indexOf(String)}.
+     * @return The property value.
+     * @throws NumberFormatException If the value can not be converted to a double.
+     */
+    public double getDouble(final int slot) {
+        if (!mValidDoubles[slot]) {
+            return Double.parseDouble(mValues[slot]); // throws the exception describing the value
+        }
+        return mDoubles[slot];
+    }
+
+    /**
+     * Get the value in a slot as boolean.
+     * @param slot The slot, as returned by {@link #indexOf(String)}.
+     * @return The property value.
+     */
+    public boolean getBool(final int slot) {
+        return mBools[slot];
+    }
+
+    @Override
+    public String toString() {
+        return "snapshot of " + mDescription;
+    }
+}
@@ -11,6 +11,10 @@ import java.util.Locale;
 public final class Constants {
     public static final Locale LOCALE = new Locale("de");
     public static final NumberFormat NUMBER_FORMAT = NumberFormat.getInstance(LOCALE);
+    /**
+     * Thread-safe parser giving the same values as {@link #NUMBER_FORMAT}, used for the values of the CSV files.
+     */
+    public static final DecimalParser NUMBER_PARSER = new DecimalParser(LOCALE);
 
     private Constants() {
     }
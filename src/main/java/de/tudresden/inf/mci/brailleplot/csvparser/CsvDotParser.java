@@ -1,10 +1,9 @@
 package de.tudresden.inf.mci.brailleplot.csvparser;
 
+import de.tudresden.inf.mci.brailleplot.datacontainers.ArrayPointListContainerImpl;
+import de.tudresden.inf.mci.brailleplot.datacontainers.ArrayPointListImpl;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
-import de.tudresden.inf.mci.brailleplot.datacontainers.SimplePointListContainerImpl;
-import de.tudresden.inf.mci.brailleplot.datacontainers.SimplePointListImpl;
-import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
 
 import java.text.ParseException;
 import java.util.Iterator;
@@ -26,33 +25,48 @@ public class CsvDotParser extends CsvParseAlgorithm<PointListContainer<PointList
      */
     public PointListContainer<PointList> parseAsHorizontalDataSets(final List<? extends List<String>> csvData) {
         Objects.requireNonNull(csvData);
+        return parseStreamAsHorizontalDataSets(rows(csvData));
+    }
+
+    /**
+     * Parses scattered point data in horizontal data sets, alternating mX and mY, while the rows are read.
+     * Only the current pair of rows is kept.
+     * @param rows The rows of the CSV data, as they are read.
+     * @return A {@link PointListContainer}{@literal <}{@link PointList}{@literal >} representing the data.
+     */
+    @Override
+    public PointListContainer<PointList> parseStreamAsHorizontalDataSets(final Iterator<String[]> rows) {
+        Objects.requireNonNull(rows);
         int row = 0;
 
-        PointListContainer<PointList> container = new SimplePointListContainerImpl();
+        PointListContainer<PointList> container = new ArrayPointListContainerImpl();
 
         // Continue as long as there are at least two further rows left
-        while (csvData.size() >= row + 2) {
-            PointList rowPoints = new SimplePointListImpl();
-
-            Iterator<String> xRowIterator = csvData.get(row).iterator();
-            Iterator<String> yRowIterator = csvData.get(row + 1).iterator();
+        while (rows.hasNext()) {
+            String[] xRow = rows.next();
+            if (!rows.hasNext()) {
+                break;
+            }
+            String[] yRow = rows.next();
+            ArrayPointListImpl rowPoints = new ArrayPointListImpl();
 
             row += 2;
 
             // Get the row mName
-            if (xRowIterator.hasNext() && yRowIterator.hasNext()) {
-                rowPoints.setName(xRowIterator.next());
-                yRowIterator.next();
+            if (xRow.length > 0 && yRow.length > 0) {
+                rowPoints.setName(xRow[0]);
             } else {
                 continue;
             }
 
-            // Get the row values
-            while (xRowIterator.hasNext() && yRowIterator.hasNext()) {
-                Number xValue;
-                Number yValue;
+            // Get the row values, a y value is only consumed if the x value could be parsed
+            int xColumn = 1;
+            int yColumn = 1;
+            while (xColumn < xRow.length && yColumn < yRow.length) {
+                double xValue;
+                double yValue;
                 try {
-                    xValue = Constants.NUMBER_FORMAT.parse(xRowIterator.next());
+                    xValue = Constants.NUMBER_PARSER.parse(xRow[xColumn++]);
                 } catch (ParseException pe) {
                     // TODO: actually throw exceptions
                     // Currently this does not work because some of the csv data examples from SVGPlott include empty cells,
@@ -61,13 +75,12 @@ public class CsvDotParser extends CsvParseAlgorithm<PointListContainer<PointList
                     continue;
                 }
                 try {
-                    yValue = Constants.NUMBER_FORMAT.parse(yRowIterator.next());
+                    yValue = Constants.NUMBER_PARSER.parse(yRow[yColumn++]);
                 } catch (ParseException pe) {
                     mLogger.warn("Line: " + row + ": Could not parse value", pe);
                     continue;
                 }
-                Point2DDouble newPoint = new Point2DDouble(xValue.doubleValue(), yValue.doubleValue());
-                rowPoints.pushBack(newPoint);
+                rowPoints.pushBack(xValue, yValue);
             }
 
             // If there were no points found, do not add the row to the list
@@ -6,6 +6,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -35,6 +37,43 @@ public abstract class CsvParseAlgorithm<T extends PointListContainer<PointList>>
      */
     public abstract T parseAsVerticalDataSets(List<? extends List<String>> csvData);
 
+    /**
+     * Parse horizontally oriented data sets (see {@link #parseAsHorizontalDataSets(List)}) while the rows are read.
+     * Algorithms, that can process the rows one after another, override this method, so that the rows are not kept.
+     * By default, all rows are collected first.
+     * @param rows The rows of the CSV data, as they are read. Each row is only requested once.
+     * @return A {@link PointListContainer}{@literal <}{@link PointList}{@literal >} representing the data.
+     */
+    public T parseStreamAsHorizontalDataSets(final Iterator<String[]> rows) {
+        return parseAsHorizontalDataSets(collect(rows));
+    }
+
+    /**
+     * Parse vertically oriented data sets (see {@link #parseAsVerticalDataSets(List)}) while the rows are read.
+     * Algorithms, that can process the rows one after another, override this method, so that the rows are not kept.
+     * By default, all rows are collected first.
+     * @param rows The rows of the CSV data, as they are read. Each row is only requested once.
+     * @return A {@link PointListContainer}{@literal <}{@link PointList}{@literal >} representing the data.
+     */
+    public T parseStreamAsVerticalDataSets(final Iterator<String[]> rows) {
+        return parseAsVerticalDataSets(collect(rows));
+    }
+
+    /**
+     * Get the rows of CSV data (List of Lists) one after another, as they are given to the stream parsing methods.
+     * @param csvData CSV as List of Lists
+     * @return An iterator over the rows.
+     */
+    static Iterator<String[]> rows(final List<? extends List<String>> csvData) {
+        return csvData.stream().map(row -> row.toArray(new String[0])).iterator();
+    }
+
+    private static List<List<String>> collect(final Iterator<String[]> rows) {
+        List<List<String>> csvData = new ArrayList<>();
+        rows.forEachRemaining(row -> csvData.add(Arrays.asList(row)));
+        return csvData;
+    }
+
     /**
      * Transpose CSV data (List of Lists) as if it were a matrix.
      * @param csvData CSV as List of Lists&lt;T&gt;
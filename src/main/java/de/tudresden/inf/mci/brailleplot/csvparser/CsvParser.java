@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Objects;
 
 /**
@@ -24,6 +25,7 @@ public final class CsvParser {
     private final Logger mLogger = LoggerFactory.getLogger(CsvParser.class);
 
     private ArrayList<ArrayList<String>> mCsvData;
+    private CSVReader mCsvReader;
 
     /**
      * Initiates the parser. The parser reads from the specified {@code reader}
@@ -35,6 +37,21 @@ public final class CsvParser {
      * @throws IOException Is thrown, if an error occurs while performing read operations on the reader.
      */
     public CsvParser(final Reader reader, final char separator, final char quoteChar) throws IOException {
+        this(reader, separator, quoteChar, false);
+    }
+
+    /**
+     * Initiates the parser. The parser reads from the specified {@code reader}. In streaming mode, the lines are
+     * read while parsing and are not kept, so that large files can be parsed with little memory. The reader can only
+     * be parsed once in this mode. Otherwise, all lines are read and kept in the internal data structures.
+     *
+     * @param reader The {@link Reader} interfacing the actual csv file object. Must not be null.
+     * @param separator char The character which is used to separate the values in the csv file.
+     * @param quoteChar char The character which is used to quote text paragraphs.
+     * @param streaming boolean Whether to read the lines while parsing instead of in advance.
+     * @throws IOException Is thrown, if an error occurs while performing read operations on the reader.
+     */
+    public CsvParser(final Reader reader, final char separator, final char quoteChar, final boolean streaming) throws IOException {
         Objects.requireNonNull(reader);
         CSVReader csvReader = new CSVReaderBuilder(reader)
                 .withCSVParser(new CSVParserBuilder()
@@ -43,11 +60,18 @@ public final class CsvParser {
                         .build())
                 .build();
 
+        if (streaming) {
+            mCsvReader = csvReader;
+            return;
+        }
+
         mCsvData = new ArrayList<>();
 
         for (String[] line : csvReader) {
             mCsvData.add(new ArrayList<>(Arrays.asList(line)));
-            mLogger.trace("Read line: {}", Arrays.toString(line));
+            if (mLogger.isTraceEnabled()) {
+                mLogger.trace("Read line: {}", Arrays.toString(line));
+            }
         }
 
         csvReader.close();
@@ -81,6 +105,10 @@ public final class CsvParser {
             throw new UnsupportedOperationException();
         }
 
+        if (mCsvData == null) {
+            return parseStream(csvParseAlgorithm, csvOrientation);
+        }
+
         switch (csvOrientation) {
         case HORIZONTAL:
             return csvParseAlgorithm.parseAsHorizontalDataSets(mCsvData);
@@ -90,4 +118,45 @@ public final class CsvParser {
             throw new UnsupportedOperationException();
         }
     }
+
+    private <T extends PointListContainer<PointList>> T parseStream(final CsvParseAlgorithm<T> csvParseAlgorithm, final CsvOrientation csvOrientation) {
+        if (mCsvReader == null) {
+            throw new IllegalStateException("The csv data was already parsed in streaming mode");
+        }
+        Iterator<String[]> lines = mCsvReader.iterator();
+        Iterator<String[]> rows = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return lines.hasNext();
+            }
+
+            @Override
+            public String[] next() {
+                String[] line = lines.next();
+                if (mLogger.isTraceEnabled()) {
+                    mLogger.trace("Read line: {}", Arrays.toString(line));
+                }
+                return line;
+            }
+        };
+        CSVReader csvReader = mCsvReader;
+        mCsvReader = null;
+        try {
+            switch (csvOrientation) {
+            case HORIZONTAL:
+                return csvParseAlgorithm.parseStreamAsHorizontalDataSets(rows);
+            case VERTICAL:
+                return csvParseAlgorithm.parseStreamAsVerticalDataSets(rows);
+            default:
+                throw new UnsupportedOperationException();
+            }
+        } finally {
+            try {
+                csvReader.close();
+            } catch (IOException e) {
+                // All lines were read already, or parsing failed with a more relevant exception
+                mLogger.warn("Could not close the csv reader", e);
+            }
+        }
+    }
 }
@@ -1,10 +1,9 @@
 package de.tudresden.inf.mci.brailleplot.csvparser;
 
+import de.tudresden.inf.mci.brailleplot.datacontainers.ArrayPointListImpl;
 import de.tudresden.inf.mci.brailleplot.datacontainers.CategoricalPointListContainer;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
 import de.tudresden.inf.mci.brailleplot.datacontainers.SimpleCategoricalPointListContainerImpl;
-import de.tudresden.inf.mci.brailleplot.datacontainers.SimplePointListImpl;
-import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
 
 import java.text.ParseException;
 import java.util.Iterator;
@@ -30,19 +29,23 @@ public class CsvXAlignedCategoriesParser extends CsvParseAlgorithm<CategoricalPo
     @Override
     public CategoricalPointListContainer<PointList> parseAsVerticalDataSets(final List<? extends List<String>> csvData) {
         Objects.requireNonNull(csvData);
+        return parseStreamAsVerticalDataSets(rows(csvData));
+    }
+
+    @Override
+    public CategoricalPointListContainer<PointList> parseStreamAsVerticalDataSets(final Iterator<String[]> rows) {
+        Objects.requireNonNull(rows);
 
         CategoricalPointListContainer<PointList> container = new SimpleCategoricalPointListContainerImpl();
-        Iterator<? extends List<String>> rowIt = csvData.iterator();
 
         int rowNum = 0; // Keep track of the row number, so that we can include the erroneous row number in the exception.
-        while (rowIt.hasNext()) {
-            Iterator<String> lineIt = rowIt.next().iterator();
+        while (rows.hasNext()) {
+            String[] line = rows.next();
             rowNum++;
 
             // Check if we are in the first line, were all the categories are defined ...
             if (rowNum == 1) {
-                while (lineIt.hasNext()) {
-                    String catName = lineIt.next();
+                for (String catName : line) {
                     if (!catName.isEmpty()) {
                         container.pushBackCategory(catName);
                     }
@@ -50,27 +53,24 @@ public class CsvXAlignedCategoriesParser extends CsvParseAlgorithm<CategoricalPo
             // ... or if we are in a row, were the actual data sets are defined
             } else {
                 // Get the name for the values of a data set
-                if (!lineIt.hasNext()) {
+                if (line.length < 1) {
                     throw new MalformedCsvException("Line: " + rowNum + ": Data set must contain a name");
                 }
-                String name = lineIt.next().trim();
-                PointList pl = new SimplePointListImpl(name);
+                String name = line[0].trim();
+                ArrayPointListImpl pl = new ArrayPointListImpl(name);
 
                 // Parse all values
                 // Set the x value of each Point to the index of the category, they belong to
-                int columnNum = 0;
-                while (lineIt.hasNext()) {
-                    columnNum++;
-                    String value = lineIt.next().trim();
+                for (int columnNum = 1; columnNum < line.length; columnNum++) {
+                    String value = line[columnNum].trim();
 
-                    Number val;
+                    double val;
                     try {
-                        val = Constants.NUMBER_FORMAT.parse(value);
+                        val = Constants.NUMBER_PARSER.parse(value);
                     } catch (final ParseException pe) {
                         throw new MalformedCsvException("Line: " + rowNum + ": Could not parse value", pe);
                     }
-                    Point2DDouble p = new Point2DDouble(columnNum, val.doubleValue());
-                    pl.pushBack(p);
+                    pl.pushBack(columnNum, val);
                 }
                 container.pushBack(pl);
             }
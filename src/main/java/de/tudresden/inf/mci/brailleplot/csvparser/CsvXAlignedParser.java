@@ -1,10 +1,9 @@
 package de.tudresden.inf.mci.brailleplot.csvparser;
 
+import de.tudresden.inf.mci.brailleplot.datacontainers.ArrayPointListContainerImpl;
+import de.tudresden.inf.mci.brailleplot.datacontainers.ArrayPointListImpl;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
 import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
-import de.tudresden.inf.mci.brailleplot.datacontainers.SimplePointListContainerImpl;
-import de.tudresden.inf.mci.brailleplot.datacontainers.SimplePointListImpl;
-import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
 
 import java.text.ParseException;
 import java.util.Iterator;
@@ -28,39 +27,40 @@ public class CsvXAlignedParser extends CsvParseAlgorithm<PointListContainer<Poin
     }
 
     @Override
-    // This method has been implemented from scratch, as there is no documentation about the structure of the CSV files whatsoever.
     public PointListContainer<PointList> parseAsVerticalDataSets(final List<? extends List<String>> csvData) {
         Objects.requireNonNull(csvData);
+        return parseStreamAsVerticalDataSets(rows(csvData));
+    }
 
-        PointListContainer<PointList> container = new SimplePointListContainerImpl();
-        Iterator<? extends List<String>> rowIt = csvData.iterator();
+    @Override
+    // This method has been implemented from scratch, as there is no documentation about the structure of the CSV files whatsoever.
+    public PointListContainer<PointList> parseStreamAsVerticalDataSets(final Iterator<String[]> rows) {
+        Objects.requireNonNull(rows);
+
+        PointListContainer<PointList> container = new ArrayPointListContainerImpl();
 
         int rowNum = 0; // Keep track of the row number, so that we can include the erroneous row number in the exception.
-        while (rowIt.hasNext()) {
-            Iterator<String> lineIt = rowIt.next().iterator();
+        while (rows.hasNext()) {
+            String[] line = rows.next();
             rowNum++;
-            if (!lineIt.hasNext()) {
-                throw new MalformedCsvException("Line: " + rowNum + ": Data set must contain a name for a value");
-            }
-                String name = lineIt.next().trim();
-            if (!lineIt.hasNext()) {
+            if (line.length < 2) {
                 throw new MalformedCsvException("Line: " + rowNum + ": Data set must contain a name for a value");
             }
-                String value = lineIt.next().trim();
+            String name = line[0].trim();
+            String value = line[1].trim();
 
             // Log if there are more inputs that are not parsed
-            if (lineIt.hasNext()) {
+            if (line.length > 2) {
                 mLogger.debug("Skipping additional column in line {}", rowNum);
             }
-            Number val;
+            double val;
             try {
-                val = Constants.NUMBER_FORMAT.parse(value);
+                val = Constants.NUMBER_PARSER.parse(value);
             } catch (final ParseException pe) {
                 throw new MalformedCsvException("Line: " + rowNum + ": Could not parse value", pe);
             }
-            Point2DDouble p = new Point2DDouble(0, val.doubleValue());
-            PointList pl = new SimplePointListImpl(name);
-            pl.pushBack(p);
+            ArrayPointListImpl pl = new ArrayPointListImpl(name);
+            pl.pushBack(0, val);
             container.pushBack(pl);
         }
         return container;
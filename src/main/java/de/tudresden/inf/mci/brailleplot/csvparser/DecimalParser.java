@@ -0,0 +1,289 @@
+package de.tudresden.inf.mci.brailleplot.csvparser;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Parser for decimal numbers in the notation of a locale, giving the same results as
+ * {@link NumberFormat#parse(String)} of the locale's default {@link NumberFormat}: the number is parsed from the
+ * beginning of the text and any remaining text is ignored, grouping separators are skipped in the integer part and an
+ * exponent is accepted. In contrast to {@link NumberFormat}, the parser is thread-safe and does not allocate any objects
+ * for numbers with up to 15 significant digits and a decimal exponent of at most 22. The value is always correctly
+ * rounded to the nearest double.
+ * @author Georg Graßnick
+ * @version 2019.10.17
+ */
+public final class DecimalParser {
+
+    private static final int RADIX = 10;
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int DOUBLE_MANTISSA_BITS = 53;
+    private static final long MAX_EXACT_MANTISSA = 1L << DOUBLE_MANTISSA_BITS;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final char mZero;
+    private final char mDecimalSeparator;
+    private final char mGroupingSeparator;
+    private final String mExponentSeparator;
+    private final String mMinusSign;
+    private final String mInfinity;
+    private final String mNaN;
+    private final String mPositivePrefix;
+    private final String mNegativePrefix;
+    private final String mPositiveSuffix;
+    private final String mNegativeSuffix;
+
+    /**
+     * Constructor. Takes the symbols, prefixes and suffixes from the default {@link NumberFormat} of the locale.
+     * @param locale The locale of the numbers.
+     * @throws IllegalArgumentException If the locale does not use a {@link DecimalFormat}.
+     */
+    public DecimalParser(final Locale locale) {
+        NumberFormat format = NumberFormat.getInstance(Objects.requireNonNull(locale));
+        if (!(format instanceof DecimalFormat)) {
+            throw new IllegalArgumentException("No decimal number format for locale " + locale);
+        }
+        DecimalFormat decimalFormat = (DecimalFormat) format;
+        if (!decimalFormat.isGroupingUsed() || decimalFormat.isParseIntegerOnly() || decimalFormat.getMultiplier() != 1) {
+            throw new IllegalArgumentException("Unsupported decimal number format for locale " + locale);
+        }
+        DecimalFormatSymbols symbols = decimalFormat.getDecimalFormatSymbols();
+        mZero = symbols.getZeroDigit();
+        mDecimalSeparator = symbols.getDecimalSeparator();
+        mGroupingSeparator = symbols.getGroupingSeparator();
+        mExponentSeparator = symbols.getExponentSeparator();
+        mMinusSign = String.valueOf(symbols.getMinusSign());
+        mInfinity = symbols.getInfinity();
+        mNaN = symbols.getNaN();
+        mPositivePrefix = decimalFormat.getPositivePrefix();
+        mNegativePrefix = decimalFormat.getNegativePrefix();
+        mPositiveSuffix = decimalFormat.getPositiveSuffix();
+        mNegativeSuffix = decimalFormat.getNegativeSuffix();
+    }
+
+    /**
+     * Parse a number from the beginning of the given text.
+     * @param text The text, for example a {@link String} or a view of a cell in a buffer.
+     * @return The parsed value.
+     * @throws ParseException If the beginning of the text is not a number.
+     */
+    public double parse(final CharSequence text) throws ParseException {
+        Objects.requireNonNull(text);
+        if (startsWith(text, mNaN, 0)) {
+            return Double.NaN;
+        }
+
+        // Sign, the longer prefix wins if both match
+        boolean positive = startsWith(text, mPositivePrefix, 0);
+        boolean negative = startsWith(text, mNegativePrefix, 0);
+        if (positive && negative) {
+            positive = mPositivePrefix.length() >= mNegativePrefix.length();
+            negative = mNegativePrefix.length() >= mPositivePrefix.length();
+        }
+        int position;
+        if (positive) {
+            position = mPositivePrefix.length();
+        } else if (negative) {
+            position = mNegativePrefix.length();
+        } else {
+            throw new ParseException("Unparseable number: \"" + text + "\"", 0);
+        }
+
+        boolean infinite = false;
+        long mantissa = 0;
+        // Same meaning as in java.text.DigitList: the value is 0.<digits> * 10^decimalAt
+        int digitCount = 0;
+        int decimalAt = 0;
+        int start = position;
+        int end = position;
+        if (startsWith(text, mInfinity, position)) {
+            infinite = true;
+            position += mInfinity.length();
+        } else {
+            boolean sawDecimal = false;
+            boolean sawDigit = false;
+            int exponent = 0;
+            int backup = -1;
+            for (; position < text.length(); position++) {
+                char ch = text.charAt(position);
+                int digit = toDigit(ch);
+                if (digit == 0 && digitCount == 0) {
+                    // Leading zeros only move the decimal point, if they are behind it
+                    backup = -1;
+                    sawDigit = true;
+                    if (sawDecimal) {
+                        decimalAt--;
+                    }
+                } else if (digit >= 0) {
+                    backup = -1;
+                    sawDigit = true;
+                    if (digitCount < MAX_LONG_DIGITS) {
+                        mantissa = mantissa * RADIX + digit;
+                    }
+                    digitCount++;
+                } else if (ch == mDecimalSeparator) {
+                    if (sawDecimal) {
+                        break;
+                    }
+                    decimalAt = digitCount;
+                    sawDecimal = true;
+                } else if (ch == mGroupingSeparator) {
+                    if (sawDecimal) {
+                        break;
+                    }
+                    // Grouping separators are skipped, but only if a digit follows
+                    backup = position;
+                } else {
+                    if (startsWith(text, mExponentSeparator, position)) {
+                        int exponentEnd = parseExponent(text, position + mExponentSeparator.length());
+                        if (exponentEnd >= 0) {
+                            exponent = parseExponentValue(text, position + mExponentSeparator.length(), exponentEnd);
+                            end = position;
+                            position = exponentEnd;
+                        }
+                    }
+                    break;
+                }
+            }
+            if (backup != -1) {
+                position = backup;
+            }
+            if (end == start) {
+                end = position;
+            }
+            if (!sawDecimal) {
+                decimalAt = digitCount;
+            }
+            decimalAt += exponent;
+            if (!sawDigit) {
+                throw new ParseException("Unparseable number: \"" + text + "\"", start);
+            }
+        }
+
+        // Suffix, the sign is only known if exactly one of them matches
+        if (positive) {
+            positive = startsWith(text, mPositiveSuffix, position);
+        }
+        if (negative) {
+            negative = startsWith(text, mNegativeSuffix, position);
+        }
+        if (positive && negative) {
+            positive = mPositiveSuffix.length() >= mNegativeSuffix.length();
+            negative = mNegativeSuffix.length() >= mPositiveSuffix.length();
+        }
+        if (positive == negative) {
+            throw new ParseException("Unparseable number: \"" + text + "\"", position);
+        }
+
+        double value;
+        if (infinite) {
+            value = Double.POSITIVE_INFINITY;
+        } else if (digitCount == 0) {
+            value = 0;
+        } else {
+            value = toDouble(text, start, end, mantissa, digitCount, decimalAt);
+        }
+        if (!positive) {
+            return -value;
+        }
+        return value;
+    }
+
+    private static boolean startsWith(final CharSequence text, final String prefix, final int offset) {
+        if (offset + prefix.length() > text.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (text.charAt(offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int toDigit(final char ch) {
+        int digit = ch - mZero;
+        if (digit < 0 || digit > RADIX - 1) {
+            digit = Character.digit(ch, RADIX);
+        }
+        return digit;
+    }
+
+    /**
+     * Find the end of an exponent, an optionally negative integer, that has to fit into a long.
+     * @return The index behind the exponent, or -1 if there is no valid exponent.
+     */
+    private int parseExponent(final CharSequence text, final int start) {
+        int position = start;
+        boolean negative = startsWith(text, mMinusSign, position) && !mMinusSign.isEmpty();
+        if (negative) {
+            position += mMinusSign.length();
+        }
+        // Accumulated negatively, so that Long.MIN_VALUE fits
+        long value = 0;
+        boolean sawDigit = false;
+        for (; position < text.length(); position++) {
+            int digit = toDigit(text.charAt(position));
+            if (digit < 0) {
+                break;
+            }
+            sawDigit = true;
+            if (value < (Long.MIN_VALUE + digit) / RADIX) {
+                return -1;
+            }
+            value = value * RADIX - digit;
+        }
+        if (!sawDigit || (!negative && value == Long.MIN_VALUE)) {
+            return -1;
+        }
+        return position;
+    }
+
+    private int parseExponentValue(final CharSequence text, final int start, final int end) {
+        int position = start;
+        boolean negative = startsWith(text, mMinusSign, position) && !mMinusSign.isEmpty();
+        if (negative) {
+            position += mMinusSign.length();
+        }
+        long magnitude = 0;
+        for (; position < end; position++) {
+            magnitude = magnitude * RADIX + toDigit(text.charAt(position));
+        }
+        // Truncated to an int like NumberFormat does
+        int exponent = (int) magnitude;
+        if (negative) {
+            return -exponent;
+        }
+        return exponent;
+    }
+
+    private double toDouble(final CharSequence text, final int start, final int end, final long mantissa, final int digitCount, final int decimalAt) {
+        // Exact mantissa and power of ten give a correctly rounded result with a single operation
+        long scale = (long) decimalAt - digitCount;
+        if (digitCount <= MAX_LONG_DIGITS && mantissa <= MAX_EXACT_MANTISSA && Math.abs(scale) < POWERS_OF_TEN.length) {
+            if (scale < 0) {
+                return mantissa / POWERS_OF_TEN[(int) -scale];
+            }
+            return mantissa * POWERS_OF_TEN[(int) scale];
+        }
+        if (digitCount <= MAX_LONG_DIGITS && scale == 0) {
+            return mantissa;
+        }
+        // Rare: many significant digits or a large exponent
+        StringBuilder digits = new StringBuilder(digitCount + RADIX).append('.');
+        for (int position = start; position < end && digits.length() <= digitCount; position++) {
+            int digit = toDigit(text.charAt(position));
+            if (digit > 0 || (digit == 0 && digits.length() > 1)) {
+                digits.append((char) ('0' + digit));
+            }
+        }
+        return Double.parseDouble(digits.append('E').append(decimalAt).toString());
+    }
+}
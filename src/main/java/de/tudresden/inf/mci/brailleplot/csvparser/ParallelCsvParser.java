@@ -0,0 +1,529 @@
+package de.tudresden.inf.mci.brailleplot.csvparser;
+
+import de.tudresden.inf.mci.brailleplot.datacontainers.ArrayPointListContainerImpl;
+import de.tudresden.inf.mci.brailleplot.datacontainers.ArrayPointListImpl;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Parser for large CSV files with scattered point data ({@link CsvType#DOTS} in {@link CsvOrientation#HORIZONTAL}
+ * orientation), which parses parts of the file in parallel. The file is memory-mapped and split into chunks at record
+ * boundaries. Quoted line breaks are respected: the quote state at the beginning of every chunk is derived from the
+ * number of quote characters in the preceding chunks, which are counted in parallel as well. The chunks are parsed on a
+ * {@link ForkJoinPool}, each into point lists with their own extrema, which are merged in the order of the file.
+ * The result is the same as with {@link CsvParser} and {@link CsvDotParser}, the file has to be encoded in UTF-8.
+ * Files with syntax, that this parser does not read the same way as {@link CsvParser} (like the escape character,
+ * quote characters inside of unquoted fields or single carriage returns), are parsed by {@link CsvParser} instead.
+ * @author Georg Graßnick
+ * @version 2019.10.17
+ */
+public final class ParallelCsvParser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelCsvParser.class);
+
+    /**
+     * The maximum size of a file in bytes, that can be parsed. Larger files can not be mapped at once.
+     */
+    public static final long MAX_FILE_SIZE = Integer.MAX_VALUE;
+
+    private static final int DEFAULT_MIN_CHUNK_SIZE = 1024 * 1024;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int INITIAL_ROW_CAPACITY = 16;
+    private static final byte NEWLINE = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    // The default escape character of opencsv, used by CsvParser
+    private static final byte ESCAPE_CHAR = '\\';
+
+    private final Path mFile;
+    private final byte mSeparator;
+    private final byte mQuoteChar;
+    private final ForkJoinPool mPool;
+    private final int mMinChunkSize;
+    private final boolean mSequentialFallback;
+
+    /**
+     * Initiates the parser, using the common {@link ForkJoinPool}.
+     * @param file The path of the csv file.
+     * @param separator char The character which is used to separate the values in the csv file.
+     * @param quoteChar char The character which is used to quote text paragraphs.
+     */
+    public ParallelCsvParser(final Path file, final char separator, final char quoteChar) {
+        this(file, separator, quoteChar, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Initiates the parser.
+     * @param file The path of the csv file.
+     * @param separator char The character which is used to separate the values in the csv file.
+     * @param quoteChar char The character which is used to quote text paragraphs.
+     * @param pool The {@link ForkJoinPool} parsing the chunks.
+     */
+    public ParallelCsvParser(final Path file, final char separator, final char quoteChar, final ForkJoinPool pool) {
+        this(file, separator, quoteChar, pool, DEFAULT_MIN_CHUNK_SIZE, true);
+    }
+
+    ParallelCsvParser(final Path file, final char separator, final char quoteChar, final ForkJoinPool pool, final int minChunkSize, final boolean sequentialFallback) {
+        mFile = Objects.requireNonNull(file);
+        mSeparator = toAscii(separator);
+        mQuoteChar = toAscii(quoteChar);
+        mPool = Objects.requireNonNull(pool);
+        if (minChunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be positive");
+        }
+        mMinChunkSize = minChunkSize;
+        mSequentialFallback = sequentialFallback;
+    }
+
+    private static byte toAscii(final char ch) {
+        if (ch == NEWLINE || ch == CARRIAGE_RETURN || ch > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Unsupported csv control character: " + ch);
+        }
+        return (byte) ch;
+    }
+
+    /**
+     * Parses the file.
+     * @param csvType CsvType The type of the data set contained by the CSV file, only {@link CsvType#DOTS} is supported.
+     * @param csvOrientation CsvOrientation The orientation of the CSV file, only {@link CsvOrientation#HORIZONTAL} is supported.
+     * @return A {@link PointListContainer}{@literal <}{@link PointList}{@literal >} representing the data.
+     * @throws IOException If the file can not be read or is larger than {@link #MAX_FILE_SIZE}.
+     * @throws MalformedCsvException If a quoted field is not terminated.
+     */
+    public PointListContainer<PointList> parse(final CsvType csvType, final CsvOrientation csvOrientation) throws IOException {
+        if (csvType != CsvType.DOTS || csvOrientation != CsvOrientation.HORIZONTAL) {
+            throw new UnsupportedOperationException("Only horizontal scattered point data can be parsed in parallel");
+        }
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(mFile, StandardOpenOption.READ)) {
+            if (channel.size() > MAX_FILE_SIZE) {
+                throw new IOException("The csv file is too large to be mapped: " + mFile);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            return parse(buffer);
+        } catch (UnsupportedSyntaxException e) {
+            if (!mSequentialFallback) {
+                throw e;
+            }
+            LOGGER.info("Parsing {} sequentially: {}", mFile, e.getMessage());
+        }
+        try (Reader reader = Files.newBufferedReader(mFile, StandardCharsets.UTF_8)) {
+            return new CsvParser(reader, (char) mSeparator, (char) mQuoteChar, true).parse(csvType, csvOrientation);
+        }
+    }
+
+    private PointListContainer<PointList> parse(final ByteBuffer buffer) {
+        int size = buffer.limit();
+        int chunkCount = (int) Math.max(1, Math.min((long) mPool.getParallelism() * CHUNKS_PER_THREAD, size / mMinChunkSize));
+        int[] bounds = new int[chunkCount + 1];
+        for (int i = 0; i <= chunkCount; i++) {
+            bounds[i] = (int) ((long) size * i / chunkCount);
+        }
+        LOGGER.debug("Parsing {} bytes of csv data in {} chunks", size, chunkCount);
+
+        // First pass: quote state and number of records before each chunk
+        List<ForkJoinTask<long[]>> countTasks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount - 1; i++) {
+            int start = bounds[i];
+            int end = bounds[i + 1];
+            countTasks.add(mPool.submit(() -> countChunk(buffer.duplicate(), start, end)));
+        }
+        boolean[] quotedAtStart = new boolean[chunkCount];
+        long[] recordsBefore = new long[chunkCount];
+        for (int i = 1; i < chunkCount; i++) {
+            long[] counts = countTasks.get(i - 1).join();
+            quotedAtStart[i] = quotedAtStart[i - 1] ^ (counts[0] % 2 != 0);
+            if (quotedAtStart[i - 1]) {
+                recordsBefore[i] = recordsBefore[i - 1] + counts[2];
+            } else {
+                recordsBefore[i] = recordsBefore[i - 1] + counts[1];
+            }
+        }
+
+        // Second pass: records starting in each chunk
+        List<ForkJoinTask<Chunk>> parseTasks = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            int start = bounds[i];
+            int end = bounds[i + 1];
+            boolean quoted = quotedAtStart[i];
+            long records = recordsBefore[i];
+            parseTasks.add(mPool.submit(() -> parseChunk(buffer.duplicate(), start, end, quoted, records)));
+        }
+
+        // The extrema of the chunks' point lists are reduced while they are added to the container
+        PointListContainer<PointList> container = new ArrayPointListContainerImpl();
+        Row pendingXRow = null;
+        for (ForkJoinTask<Chunk> task : parseTasks) {
+            Chunk chunk;
+            try {
+                chunk = task.join();
+            } catch (RuntimeException e) {
+                // Do not keep parsing a file, that is rejected
+                for (ForkJoinTask<Chunk> other : parseTasks) {
+                    other.cancel(false);
+                }
+                throw e;
+            }
+            if (chunk.mLeadingYRow != null && pendingXRow != null) {
+                PointList rowPoints = pair(pendingXRow, chunk.mLeadingYRow);
+                if (rowPoints != null) {
+                    container.pushBack(rowPoints);
+                }
+                pendingXRow = null;
+            }
+            for (PointList pointList : chunk.mPointLists) {
+                container.pushBack(pointList);
+            }
+            if (chunk.mTrailingXRow != null) {
+                pendingXRow = chunk.mTrailingXRow;
+            }
+        }
+        return container;
+    }
+
+    /**
+     * Count the quote characters and the line breaks in a chunk.
+     * @return The number of quote characters, of line breaks outside of quotes if the chunk starts outside of quotes
+     * and of line breaks outside of quotes if the chunk starts inside of quotes.
+     */
+    private long[] countChunk(final ByteBuffer buffer, final int start, final int end) {
+        long quotes = 0;
+        long newlinesIfUnquoted = 0;
+        long newlinesIfQuoted = 0;
+        boolean quoted = false;
+        for (int position = start; position < end; position++) {
+            byte b = buffer.get(position);
+            if (b == mQuoteChar) {
+                quotes++;
+                quoted = !quoted;
+            } else if (b == NEWLINE) {
+                if (quoted) {
+                    newlinesIfQuoted++;
+                } else {
+                    newlinesIfUnquoted++;
+                }
+            }
+        }
+        return new long[]{quotes, newlinesIfUnquoted, newlinesIfQuoted};
+    }
+
+    private Chunk parseChunk(final ByteBuffer buffer, final int start, final int end, final boolean quotedAtStart, final long recordsBefore) {
+        // The chunk owns the records starting in it, the first one starts behind the first line break outside of quotes
+        int position = start;
+        if (start > 0 && (quotedAtStart || buffer.get(start - 1) != NEWLINE)) {
+            boolean quoted = quotedAtStart;
+            while (position < end) {
+                byte b = buffer.get(position++);
+                if (b == mQuoteChar) {
+                    quoted = !quoted;
+                } else if (b == NEWLINE && !quoted) {
+                    break;
+                }
+            }
+        }
+        long index = recordsBefore;
+        if (position > start) {
+            index++;
+        }
+
+        Chunk chunk = new Chunk();
+        CellView view = new CellView(buffer);
+        Row xRow = null;
+        while (position < end) {
+            Row row = new Row(index++);
+            position = parseRecord(buffer, position, row, view);
+            if (row.mIndex % 2 != 0) {
+                if (xRow == null) {
+                    chunk.mLeadingYRow = row;
+                } else {
+                    PointList rowPoints = pair(xRow, row);
+                    if (rowPoints != null) {
+                        chunk.mPointLists.add(rowPoints);
+                    }
+                    xRow = null;
+                }
+            } else {
+                xRow = row;
+            }
+        }
+        chunk.mTrailingXRow = xRow;
+        return chunk;
+    }
+
+    /**
+     * Parse the record starting at the given position. Only the syntax, that is read the same way by {@link CsvParser},
+     * is accepted: a quoted field starts at the beginning of the field or behind whitespace, which is dropped, and
+     * ends at a separator or a line break.
+     * @return The position behind the record.
+     * @throws UnsupportedSyntaxException If the record contains other syntax.
+     */
+    private int parseRecord(final ByteBuffer buffer, final int recordStart, final Row row, final CellView view) {
+        int size = buffer.limit();
+        int lineStart = recordStart;
+        int cellStart = recordStart;
+        boolean quoted = false;
+        boolean cellQuoted = false;
+        boolean leadingWhitespace = true;
+        boolean ascii = true;
+        int position = recordStart;
+        while (true) {
+            byte b;
+            if (position < size) {
+                b = buffer.get(position);
+            } else if (quoted) {
+                throw new MalformedCsvException("Line: " + (row.mIndex + 1) + ": Unterminated quoted field at the end of the file");
+            } else {
+                // The last record does not need to end with a line break
+                b = NEWLINE;
+            }
+            if (quoted) {
+                if (b == mQuoteChar) {
+                    // Two quote characters inside of quotes are an escaped quote character
+                    if (position + 1 < size && buffer.get(position + 1) == mQuoteChar) {
+                        position++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (b == NEWLINE) {
+                    lineStart = position + 1;
+                } else if (b == CARRIAGE_RETURN || b == ESCAPE_CHAR) {
+                    // CsvParser drops carriage returns of quoted line breaks
+                    throw new UnsupportedSyntaxException(row, "carriage return or escape character in a quoted field");
+                } else if (b < 0) {
+                    ascii = false;
+                }
+                position++;
+                continue;
+            }
+            if (b == NEWLINE) {
+                int cellEnd = position;
+                if (cellEnd > cellStart && buffer.get(cellEnd - 1) == CARRIAGE_RETURN) {
+                    cellEnd--;
+                }
+                parseCell(buffer, cellStart, cellEnd, cellQuoted, ascii, row, view);
+                return position + 1;
+            }
+            if (b == mSeparator) {
+                parseCell(buffer, cellStart, position, cellQuoted, ascii, row, view);
+                cellStart = position + 1;
+                cellQuoted = false;
+                leadingWhitespace = true;
+                ascii = true;
+            } else if (b == CARRIAGE_RETURN) {
+                // CsvParser also breaks lines at a single carriage return
+                if (position + 1 < size && buffer.get(position + 1) != NEWLINE) {
+                    throw new UnsupportedSyntaxException(row, "carriage return without line feed");
+                }
+            } else if (cellQuoted) {
+                throw new UnsupportedSyntaxException(row, "content behind a quoted field");
+            } else if (b == mQuoteChar) {
+                if (!leadingWhitespace) {
+                    throw new UnsupportedSyntaxException(row, "quote character inside of an unquoted field");
+                }
+                if (position > cellStart) {
+                    // Like opencsv, which drops the whitespace only in these cases
+                    int next = position + 1;
+                    if (position - lineStart <= 2 || next >= size || buffer.get(next) == mSeparator || buffer.get(next) == mQuoteChar
+                            || buffer.get(next) == NEWLINE || buffer.get(next) == CARRIAGE_RETURN) {
+                        throw new UnsupportedSyntaxException(row, "whitespace before a quoted field");
+                    }
+                    cellStart = position;
+                }
+                quoted = true;
+                cellQuoted = true;
+            } else if (b == ESCAPE_CHAR) {
+                throw new UnsupportedSyntaxException(row, "escape character");
+            } else if (b < 0) {
+                ascii = false;
+                leadingWhitespace = false;
+            } else if (!Character.isWhitespace((char) b)) {
+                leadingWhitespace = false;
+            }
+            position++;
+        }
+    }
+
+    private void parseCell(final ByteBuffer buffer, final int start, final int end, final boolean quoted, final boolean ascii, final Row row, final CellView view) {
+        if (row.mName == null) {
+            row.mName = decode(buffer, start, end, quoted);
+            return;
+        }
+        CharSequence text;
+        if (quoted || !ascii) {
+            text = decode(buffer, start, end, quoted);
+        } else {
+            text = view.set(start, end);
+        }
+        try {
+            row.add(Constants.NUMBER_PARSER.parse(text));
+        } catch (ParseException pe) {
+            row.addError(pe);
+        }
+    }
+
+    private String decode(final ByteBuffer buffer, final int start, final int end, final boolean quoted) {
+        byte[] bytes = new byte[end - start];
+        int length = 0;
+        boolean inQuotes = false;
+        for (int position = start; position < end; position++) {
+            byte b = buffer.get(position);
+            if (quoted && b == mQuoteChar) {
+                // Two quote characters inside of quotes are an escaped quote character
+                if (inQuotes && position + 1 < end && buffer.get(position + 1) == mQuoteChar) {
+                    bytes[length++] = b;
+                    position++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else {
+                bytes[length++] = b;
+            }
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get the points of a pair of rows, alternating mX and mY, like {@link CsvDotParser}: a y value is only consumed
+     * if the x value could be parsed.
+     * @return The point list, or null if there were no points found.
+     */
+    private static PointList pair(final Row xRow, final Row yRow) {
+        ArrayPointListImpl rowPoints = new ArrayPointListImpl(xRow.mName);
+        int xColumn = 0;
+        int yColumn = 0;
+        while (xColumn < xRow.mSize && yColumn < yRow.mSize) {
+            if (xRow.isError(xColumn)) {
+                LOGGER.warn("Line: " + (xRow.mIndex + 1) + ": Could not parse value", xRow.mErrors[xColumn++]);
+                continue;
+            }
+            double xValue = xRow.mValues[xColumn++];
+            if (yRow.isError(yColumn)) {
+                LOGGER.warn("Line: " + (yRow.mIndex + 1) + ": Could not parse value", yRow.mErrors[yColumn++]);
+                continue;
+            }
+            double yValue = yRow.mValues[yColumn++];
+            rowPoints.pushBack(xValue, yValue);
+        }
+        if (rowPoints.getSize() == 0) {
+            return null;
+        }
+        return rowPoints;
+    }
+
+    /**
+     * Thrown if a record contains syntax, that is not read the same way as by {@link CsvParser}.
+     */
+    private static final class UnsupportedSyntaxException extends RuntimeException {
+        UnsupportedSyntaxException(final Row row, final String syntax) {
+            super("Line: " + (row.mIndex + 1) + ": Unsupported syntax: " + syntax);
+        }
+    }
+
+    /**
+     * The name and the parsed values of a record.
+     */
+    private static final class Row {
+        private final long mIndex;
+        private String mName;
+        private double[] mValues = new double[INITIAL_ROW_CAPACITY];
+        private ParseException[] mErrors;
+        private int mSize;
+
+        Row(final long index) {
+            mIndex = index;
+        }
+
+        void add(final double value) {
+            if (mSize == mValues.length) {
+                mValues = Arrays.copyOf(mValues, mSize * 2);
+            }
+            mValues[mSize++] = value;
+        }
+
+        void addError(final ParseException error) {
+            add(Double.NaN);
+            if (mErrors == null) {
+                mErrors = new ParseException[mValues.length];
+            } else if (mErrors.length < mValues.length) {
+                mErrors = Arrays.copyOf(mErrors, mValues.length);
+            }
+            mErrors[mSize - 1] = error;
+        }
+
+        boolean isError(final int column) {
+            return mErrors != null && column < mErrors.length && mErrors[column] != null;
+        }
+    }
+
+    /**
+     * The parsed records of a chunk. The first record is a row of y values, if its row of x values is in a previous
+     * chunk, and the last record is a row of x values, if its row of y values is in a following chunk.
+     */
+    private static final class Chunk {
+        private Row mLeadingYRow;
+        private final List<PointList> mPointLists = new ArrayList<>();
+        private Row mTrailingXRow;
+    }
+
+    /**
+     * A reusable view of an unquoted ASCII cell in the buffer, so that numbers are parsed without creating strings.
+     */
+    private static final class CellView implements CharSequence {
+        private final ByteBuffer mBuffer;
+        private int mStart;
+        private int mLength;
+
+        CellView(final ByteBuffer buffer) {
+            mBuffer = buffer;
+        }
+
+        CellView set(final int start, final int end) {
+            mStart = start;
+            mLength = end - start;
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return mLength;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return (char) mBuffer.get(mStart + index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return toString().subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[mLength];
+            for (int i = 0; i < mLength; i++) {
+                bytes[i] = mBuffer.get(mStart + i);
+            }
+            return new String(bytes, StandardCharsets.US_ASCII);
+        }
+    }
+}
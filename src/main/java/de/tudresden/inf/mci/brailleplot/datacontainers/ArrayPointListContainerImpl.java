@@ -0,0 +1,114 @@
+package de.tudresden.inf.mci.brailleplot.datacontainers;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
+/**
+ * An implementation of {@link PointListContainer}{@literal <}{@link PointList}{@literal >}, that stores the point lists
+ * in an {@link ArrayList} and keeps the extrema as primitive values. Its spliterator supports parallel streams.
+ * Usually holds {@link ArrayPointListImpl} objects.
+ * @author Georg Graßnick
+ * @version 2019.10.17
+ */
+public class ArrayPointListContainerImpl implements PointListContainer<PointList> {
+
+    private final ArrayList<PointList> mElements;
+    private double mMinX = Double.POSITIVE_INFINITY;
+    private double mMaxX = Double.NEGATIVE_INFINITY;
+    private double mMinY = Double.POSITIVE_INFINITY;
+    private double mMaxY = Double.NEGATIVE_INFINITY;
+
+    public ArrayPointListContainerImpl() {
+        mElements = new ArrayList<>();
+    }
+
+    public ArrayPointListContainerImpl(final List<PointList> initialElements) {
+        Objects.requireNonNull(initialElements);
+        mElements = new ArrayList<>(initialElements);
+        calculateExtrema();
+    }
+
+    @Override
+    public final int getSize() {
+        return mElements.size();
+    }
+
+    @Override
+    public final void pushBack(final PointList element) {
+        Objects.requireNonNull(element);
+        mElements.add(element);
+        checkExtrema(element);
+    }
+
+    @Override
+    public final boolean removeFirstOccurrence(final PointList elementToRemove) {
+        Objects.requireNonNull(elementToRemove);
+        return mElements.remove(elementToRemove);
+    }
+
+    @Override
+    public final Iterator<PointList> iterator() {
+        return mElements.iterator();
+    }
+
+    @Override
+    public final Spliterator<PointList> spliterator() {
+        return mElements.spliterator();
+    }
+
+    @Override
+    public final Stream<PointList> stream() {
+        return mElements.stream();
+    }
+
+    @Override
+    public final Double getMinX() {
+        return mMinX;
+    }
+
+    @Override
+    public final Double getMaxX() {
+        return mMaxX;
+    }
+
+    @Override
+    public final Double getMinY() {
+        return mMinY;
+    }
+
+    @Override
+    public final Double getMaxY() {
+        return mMaxY;
+    }
+
+    @Override
+    public final void calculateExtrema() {
+        mMinX = Double.POSITIVE_INFINITY;
+        mMaxX = Double.NEGATIVE_INFINITY;
+        mMinY = Double.POSITIVE_INFINITY;
+        mMaxY = Double.NEGATIVE_INFINITY;
+        for (PointList element : mElements) {
+            checkExtrema(element);
+        }
+    }
+
+    private void checkExtrema(final PointList element) {
+        mMaxX = Math.max(element.getMaxX(), mMaxX);
+        mMinX = Math.min(element.getMinX(), mMinX);
+        mMaxY = Math.max(element.getMaxY(), mMaxY);
+        mMinY = Math.min(element.getMinY(), mMinY);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder().append(getClass()).append(":\n");
+        for (PointList element : mElements) {
+            sb.append(element);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,500 @@
+package de.tudresden.inf.mci.brailleplot.datacontainers;
+
+import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An implementation of {@link PointList}, that stores the coordinates in two growable double arrays instead of
+ * {@link Point2DDouble} objects. The extrema are kept as primitive values. {@link Point2DDouble} objects are only created
+ * when the points are iterated, the coordinates can also be accessed directly by index. The spliterators split the
+ * index range, so that the points can be processed in parallel streams.
+ * @author Georg Graßnick
+ * @version 2019.10.17
+ */
+public class ArrayPointListImpl implements PointList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    // Below this size, insertion sort is faster than merging
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private String mName;
+    private double[] mX;
+    private double[] mY;
+    private int mSize;
+    private int mModificationCount;
+    private double mMinX = Double.POSITIVE_INFINITY;
+    private double mMaxX = Double.NEGATIVE_INFINITY;
+    private double mMinY = Double.POSITIVE_INFINITY;
+    private double mMaxY = Double.NEGATIVE_INFINITY;
+
+    public ArrayPointListImpl() {
+        this("");
+    }
+
+    public ArrayPointListImpl(final String name) {
+        this(name, DEFAULT_CAPACITY);
+    }
+
+    public ArrayPointListImpl(final String name, final int initialCapacity) {
+        Objects.requireNonNull(name);
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        mName = name;
+        mX = new double[initialCapacity];
+        mY = new double[initialCapacity];
+    }
+
+    public ArrayPointListImpl(final PointList pointList) {
+        this(Objects.requireNonNull(pointList).getName(), pointList.getSize());
+        for (Point2DDouble point : pointList) {
+            pushBack(point);
+        }
+    }
+
+    private ArrayPointListImpl(final ArrayPointListImpl other) {
+        mName = other.mName;
+        mX = Arrays.copyOf(other.mX, other.mSize);
+        mY = Arrays.copyOf(other.mY, other.mSize);
+        mSize = other.mSize;
+        mMinX = other.mMinX;
+        mMaxX = other.mMaxX;
+        mMinY = other.mMinY;
+        mMaxY = other.mMaxY;
+    }
+
+    @Override
+    public final int getSize() {
+        return mSize;
+    }
+
+    @Override
+    public final void pushBack(final Point2DDouble element) {
+        Objects.requireNonNull(element);
+        pushBack(element.getX(), element.getY());
+    }
+
+    /**
+     * Adds a point to the list, without creating a {@link Point2DDouble}.
+     * Also updates min and max values if required.
+     * @param x The position on the x axis.
+     * @param y The position on the y axis.
+     */
+    public final void pushBack(final double x, final double y) {
+        growIfFull();
+        mX[mSize] = x;
+        mY[mSize] = y;
+        mSize++;
+        mModificationCount++;
+        checkExtrema(x, y);
+    }
+
+    /**
+     * Get the position of a point on the x axis.
+     * @param index The index of the point.
+     * @return The position on the x axis.
+     * @throws IndexOutOfBoundsException If the index is {@literal <} 0 or {@literal >=} {@link #getSize()}.
+     */
+    public final double getX(final int index) {
+        Objects.checkIndex(index, mSize);
+        return mX[index];
+    }
+
+    /**
+     * Get the position of a point on the y axis.
+     * @param index The index of the point.
+     * @return The position on the y axis.
+     * @throws IndexOutOfBoundsException If the index is {@literal <} 0 or {@literal >=} {@link #getSize()}.
+     */
+    public final double getY(final int index) {
+        Objects.checkIndex(index, mSize);
+        return mY[index];
+    }
+
+    /**
+     * Get the point at an index.
+     * @param index The index of the point.
+     * @return A new {@link Point2DDouble} with the coordinates of the point.
+     * @throws IndexOutOfBoundsException If the index is {@literal <} 0 or {@literal >=} {@link #getSize()}.
+     */
+    public final Point2DDouble get(final int index) {
+        Objects.checkIndex(index, mSize);
+        return new Point2DDouble(mX[index], mY[index]);
+    }
+
+    @Override
+    public final boolean removeFirstOccurrence(final Point2DDouble elementToRemove) {
+        Objects.requireNonNull(elementToRemove);
+        for (int i = 0; i < mSize; i++) {
+            // Same comparison as Point2D#equals
+            if (Double.valueOf(mX[i]).equals(elementToRemove.getX()) && Double.valueOf(mY[i]).equals(elementToRemove.getY())) {
+                remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void growIfFull() {
+        if (mSize == mX.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, mSize + (mSize >> 1));
+            mX = Arrays.copyOf(mX, capacity);
+            mY = Arrays.copyOf(mY, capacity);
+        }
+    }
+
+    private void remove(final int index) {
+        System.arraycopy(mX, index + 1, mX, index, mSize - index - 1);
+        System.arraycopy(mY, index + 1, mY, index, mSize - index - 1);
+        mSize--;
+        mModificationCount++;
+    }
+
+    private void insert(final int index, final double x, final double y) {
+        growIfFull();
+        System.arraycopy(mX, index, mX, index + 1, mSize - index);
+        System.arraycopy(mY, index, mY, index + 1, mSize - index);
+        mX[index] = x;
+        mY[index] = y;
+        mSize++;
+        mModificationCount++;
+    }
+
+    @Override
+    public final Iterator<Point2DDouble> iterator() {
+        return getListIterator();
+    }
+
+    @Override
+    public final ListIterator<Point2DDouble> getListIterator() {
+        return new PointListIterator();
+    }
+
+    @Override
+    public final Spliterator<Point2DDouble> spliterator() {
+        return new PointSpliterator(0, mSize, mModificationCount);
+    }
+
+    @Override
+    public final Stream<Point2DDouble> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Get the positions of all points on the x axis.
+     * @return A {@link DoubleStream} over the positions, which can be processed in parallel.
+     */
+    public final DoubleStream xStream() {
+        return Arrays.stream(mX, 0, mSize);
+    }
+
+    /**
+     * Get the positions of all points on the y axis.
+     * @return A {@link DoubleStream} over the positions, which can be processed in parallel.
+     */
+    public final DoubleStream yStream() {
+        return Arrays.stream(mY, 0, mSize);
+    }
+
+    @Override
+    public final Double getMinX() {
+        return mMinX;
+    }
+
+    @Override
+    public final Double getMaxX() {
+        return mMaxX;
+    }
+
+    @Override
+    public final Double getMinY() {
+        return mMinY;
+    }
+
+    @Override
+    public final Double getMaxY() {
+        return mMaxY;
+    }
+
+    @Override
+    public final void calculateExtrema() {
+        mMinX = Double.POSITIVE_INFINITY;
+        mMaxX = Double.NEGATIVE_INFINITY;
+        mMinY = Double.POSITIVE_INFINITY;
+        mMaxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < mSize; i++) {
+            checkExtrema(mX[i], mY[i]);
+        }
+    }
+
+    private void checkExtrema(final double x, final double y) {
+        mMaxX = Math.max(x, mMaxX);
+        mMinX = Math.min(x, mMinX);
+        mMaxY = Math.max(y, mMaxY);
+        mMinY = Math.min(y, mMinY);
+    }
+
+    @Override
+    public PointList sortXAscend() {
+        ArrayPointListImpl result = new ArrayPointListImpl(this);
+        result.sortXAscendInPlace();
+        return result;
+    }
+
+    /**
+     * Sorts this list by the x-values in ascending fashion. Points with the same x-value keep their order.
+     * The coordinates are sorted as primitive values, without creating {@link Point2DDouble} objects.
+     */
+    public final void sortXAscendInPlace() {
+        mModificationCount++;
+        if (isSortedByX(0, mSize)) {
+            return;
+        }
+        // Merge sort, stable unlike the primitive sorts of Arrays
+        double[] bufferX = new double[mSize];
+        double[] bufferY = new double[mSize];
+        for (int start = 0; start < mSize; start += INSERTION_SORT_THRESHOLD) {
+            insertionSort(start, Math.min(start + INSERTION_SORT_THRESHOLD, mSize));
+        }
+        double[] sourceX = mX;
+        double[] sourceY = mY;
+        for (int width = INSERTION_SORT_THRESHOLD; width < mSize; width *= 2) {
+            for (int start = 0; start < mSize; start += 2 * width) {
+                int middle = Math.min(start + width, mSize);
+                int end = Math.min(start + 2 * width, mSize);
+                merge(sourceX, sourceY, bufferX, bufferY, start, middle, end);
+            }
+            double[] swapX = sourceX;
+            double[] swapY = sourceY;
+            sourceX = bufferX;
+            sourceY = bufferY;
+            bufferX = swapX;
+            bufferY = swapY;
+        }
+        if (sourceX != mX) {
+            System.arraycopy(sourceX, 0, mX, 0, mSize);
+            System.arraycopy(sourceY, 0, mY, 0, mSize);
+        }
+    }
+
+    private boolean isSortedByX(final int start, final int end) {
+        for (int i = start + 1; i < end; i++) {
+            if (mX[i - 1] > mX[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void insertionSort(final int start, final int end) {
+        for (int i = start + 1; i < end; i++) {
+            double x = mX[i];
+            double y = mY[i];
+            int j = i - 1;
+            while (j >= start && mX[j] > x) {
+                mX[j + 1] = mX[j];
+                mY[j + 1] = mY[j];
+                j--;
+            }
+            mX[j + 1] = x;
+            mY[j + 1] = y;
+        }
+    }
+
+    private static void merge(final double[] sourceX, final double[] sourceY, final double[] targetX, final double[] targetY,
+                              final int start, final int middle, final int end) {
+        int left = start;
+        int right = middle;
+        for (int i = start; i < end; i++) {
+            if (left < middle && (right >= end || sourceX[left] <= sourceX[right])) {
+                targetX[i] = sourceX[left];
+                targetY[i] = sourceY[left++];
+            } else {
+                targetX[i] = sourceX[right];
+                targetY[i] = sourceY[right++];
+            }
+        }
+    }
+
+    @Override
+    public final String getName() {
+        return mName;
+    }
+
+    @Override
+    public final void setName(final String newName) {
+        Objects.requireNonNull(newName);
+        mName = newName;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(getName()).append(getClass()).append(":\n");
+        for (int i = 0; i < mSize; i++) {
+            sb.append("    (").append(mX[i]).append(", ").append(mY[i]).append(")\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * List iterator creating the {@link Point2DDouble} objects on demand. Modifications through the iterator do not
+     * update the minimum and maximum values, like {@link #removeFirstOccurrence(Point2DDouble)}.
+     */
+    private final class PointListIterator implements ListIterator<Point2DDouble> {
+        private int mCursor;
+        private int mLastReturned = -1;
+        private int mExpectedModificationCount = mModificationCount;
+
+        @Override
+        public boolean hasNext() {
+            return mCursor < mSize;
+        }
+
+        @Override
+        public Point2DDouble next() {
+            checkForModification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            mLastReturned = mCursor++;
+            return new Point2DDouble(mX[mLastReturned], mY[mLastReturned]);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return mCursor > 0;
+        }
+
+        @Override
+        public Point2DDouble previous() {
+            checkForModification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            mLastReturned = --mCursor;
+            return new Point2DDouble(mX[mLastReturned], mY[mLastReturned]);
+        }
+
+        @Override
+        public int nextIndex() {
+            return mCursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return mCursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForModification();
+            if (mLastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            ArrayPointListImpl.this.remove(mLastReturned);
+            mCursor = mLastReturned;
+            mLastReturned = -1;
+            mExpectedModificationCount = mModificationCount;
+        }
+
+        @Override
+        public void set(final Point2DDouble point) {
+            Objects.requireNonNull(point);
+            checkForModification();
+            if (mLastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            mX[mLastReturned] = point.getX();
+            mY[mLastReturned] = point.getY();
+        }
+
+        @Override
+        public void add(final Point2DDouble point) {
+            Objects.requireNonNull(point);
+            checkForModification();
+            insert(mCursor++, point.getX(), point.getY());
+            mLastReturned = -1;
+            mExpectedModificationCount = mModificationCount;
+        }
+
+        private void checkForModification() {
+            if (mModificationCount != mExpectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Spliterator over a range of indices, which is split in halves.
+     */
+    private final class PointSpliterator implements Spliterator<Point2DDouble> {
+        private int mIndex;
+        private final int mEnd;
+        private final int mExpectedModificationCount;
+
+        PointSpliterator(final int start, final int end, final int expectedModificationCount) {
+            mIndex = start;
+            mEnd = end;
+            mExpectedModificationCount = expectedModificationCount;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Point2DDouble> action) {
+            Objects.requireNonNull(action);
+            if (mIndex >= mEnd) {
+                return false;
+            }
+            int index = mIndex++;
+            action.accept(new Point2DDouble(mX[index], mY[index]));
+            checkForModification();
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super Point2DDouble> action) {
+            Objects.requireNonNull(action);
+            for (; mIndex < mEnd; mIndex++) {
+                action.accept(new Point2DDouble(mX[mIndex], mY[mIndex]));
+            }
+            checkForModification();
+        }
+
+        @Override
+        public Spliterator<Point2DDouble> trySplit() {
+            int middle = (mIndex + mEnd) >>> 1;
+            if (middle <= mIndex) {
+                return null;
+            }
+            Spliterator<Point2DDouble> prefix = new PointSpliterator(mIndex, middle, mExpectedModificationCount);
+            mIndex = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return mEnd - mIndex;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+
+        private void checkForModification() {
+            if (mModificationCount != mExpectedModificationCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
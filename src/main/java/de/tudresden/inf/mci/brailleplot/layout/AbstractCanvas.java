@@ -2,6 +2,7 @@ package de.tudresden.inf.mci.brailleplot.layout;
 
 import de.tudresden.inf.mci.brailleplot.configparser.Format;
 import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.configparser.PropertySnapshot;
 import de.tudresden.inf.mci.brailleplot.configparser.Representation;
 import de.tudresden.inf.mci.brailleplot.printabledata.PrintableData;
 import org.slf4j.Logger;
@@ -10,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Objects;
 
 /**
  * Representation of a target onto which can be drawn. It wraps a {@link PrintableData} instance and specifies the size of the drawing area (in mm).
@@ -24,6 +26,9 @@ public abstract class AbstractCanvas<T extends PrintableData> {
     Printer mPrinter;
     Representation mRepresentation;
     Format mFormat;
+    PropertySnapshot mPrinterProperties;
+    PropertySnapshot mRepresentationProperties;
+    PropertySnapshot mFormatProperties;
 
     Rectangle mPrintableArea;
 
@@ -32,14 +37,25 @@ public abstract class AbstractCanvas<T extends PrintableData> {
     private double mConstraintTop;
 
     List<T> mPageContainer;
+    private int mPageCount;
+    private int mCompletedPageCount;
+    private boolean mRetainPages = true;
+    private boolean mFinished = false;
+    private final List<PageListener<? super T>> mPageListeners = new ArrayList<>();
 
     AbstractCanvas(final Printer printer, final Representation representation, final Format format) throws InsufficientRenderingAreaException {
 
         mLogger.trace("Creating new canvas");
 
-        mPrinter = printer;
+        mPrinter = Objects.requireNonNull(printer, "The given printer configuration for the canvas was null!");
         mRepresentation = representation;
-        mFormat = format;
+        mFormat = Objects.requireNonNull(format, "The given format configuration for the canvas was null!");
+        mPrinterProperties = printer.snapshot();
+        mFormatProperties = format.snapshot();
+        // The representation is not needed to set up the canvas, it is only read by the rasterizers and plotters.
+        if (representation != null) {
+            mRepresentationProperties = representation.snapshot();
+        }
         mPageContainer = new ArrayList<>();
 
         readConfig();
@@ -53,17 +69,17 @@ public abstract class AbstractCanvas<T extends PrintableData> {
         // New approach using a box model:
 
         // Create a page box
-        double pageWidth = mFormat.getProperty("page.width").toInt();
-        double pageHeight = mFormat.getProperty("page.height").toInt();
+        double pageWidth = mFormatProperties.getInt("page.width");
+        double pageHeight = mFormatProperties.getInt("page.height");
         Rectangle pageBox = new Rectangle(0, 0, pageWidth, pageHeight);
         mLogger.trace("Determined page box: {}", pageBox);
 
         // Create a margin box
         mLogger.trace("Cropping edges by defined margins:");
-        double marginTop = mFormat.getProperty("margin.top").toInt();
-        double marginLeft = mFormat.getProperty("margin.left").toInt();
-        double marginBottom = mFormat.getProperty("margin.bottom").toInt();
-        double marginRight = mFormat.getProperty("margin.right").toInt();
+        double marginTop = mFormatProperties.getInt("margin.top");
+        double marginLeft = mFormatProperties.getInt("margin.left");
+        double marginBottom = mFormatProperties.getInt("margin.bottom");
+        double marginRight = mFormatProperties.getInt("margin.right");
         Rectangle marginBox = new Rectangle(pageBox);
         try {
             marginBox.removeFromTop(marginTop);
@@ -76,16 +92,16 @@ public abstract class AbstractCanvas<T extends PrintableData> {
         mLogger.trace("Determined margin box: {}", marginBox);
 
         // Create a constraint box
-        double constraintTop = mPrinter.getProperty("constraint.top").toDouble();
-        double constraintLeft = mPrinter.getProperty("constraint.left").toDouble();
+        double constraintTop = mPrinterProperties.getDouble("constraint.top");
+        double constraintLeft = mPrinterProperties.getDouble("constraint.left");
         double constraintHeight, constraintWidth;
-        if (mPrinter.getPropertyNames().contains("constraint.height")) {
-            constraintHeight = mPrinter.getProperty("constraint.height").toDouble();
+        if (mPrinterProperties.contains("constraint.height")) {
+            constraintHeight = mPrinterProperties.getDouble("constraint.height");
         } else {
             constraintHeight = Integer.MAX_VALUE;
         }
-        if (mPrinter.getPropertyNames().contains("constraint.width")) {
-            constraintWidth = mPrinter.getProperty("constraint.width").toDouble();
+        if (mPrinterProperties.contains("constraint.width")) {
+            constraintWidth = mPrinterProperties.getDouble("constraint.width");
         } else {
             constraintWidth = Integer.MAX_VALUE;
         }
@@ -95,11 +111,11 @@ public abstract class AbstractCanvas<T extends PrintableData> {
         mPrintableArea = calculatePrintingArea(marginBox, constraintBox);
         mLogger.info("The calculated available printing area equals: {}", mPrintableArea);
 
-        mDotDiameter = mPrinter.getProperty("raster.dotDiameter").toDouble();
+        mDotDiameter = mPrinterProperties.getDouble("raster.dotDiameter");
 
         // Constraints
-        mConstraintLeft =  mPrinter.getProperty("constraint.left").toDouble();
-        mConstraintTop =  mPrinter.getProperty("constraint.top").toDouble();
+        mConstraintLeft =  mPrinterProperties.getDouble("constraint.left");
+        mConstraintTop =  mPrinterProperties.getDouble("constraint.top");
 
     }
 
@@ -132,11 +148,11 @@ public abstract class AbstractCanvas<T extends PrintableData> {
     }
 
     public final double getPageWidth() {
-        return mFormat.getProperty("page.width").toDouble();
+        return mFormatProperties.getDouble("page.width");
     }
 
     public final double getPageHeight() {
-        return mFormat.getProperty("page.height").toDouble();
+        return mFormatProperties.getDouble("page.height");
     }
 
     /**
@@ -163,11 +179,12 @@ public abstract class AbstractCanvas<T extends PrintableData> {
      * @return The number of pages.
      */
     public int getPageCount() {
-        return mPageContainer.size();
+        return mPageCount;
     }
 
     /**
      * Get an Iterator for the PrintableData instances representing the canvas pages.
+     * If the canvas does not retain its pages (see {@link #setRetainPages(boolean)}), only the current page is contained.
      * @return A {@link ListIterator}&lt;{@link PrintableData}&gt;.
      */
     public ListIterator<T> getPageIterator() {
@@ -199,6 +216,30 @@ public abstract class AbstractCanvas<T extends PrintableData> {
         return mFormat;
     }
 
+    /**
+     * Get the properties of the Printer Configuration, as they were when the canvas was created.
+     * @return A {@link PropertySnapshot} of the {@link Printer}.
+     */
+    public PropertySnapshot getPrinterProperties() {
+        return mPrinterProperties;
+    }
+
+    /**
+     * Get the properties of the Representation Configuration, as they were when the canvas was created.
+     * @return A {@link PropertySnapshot} of the {@link Representation}, or null if the canvas was created without one.
+     */
+    public PropertySnapshot getRepresentationProperties() {
+        return mRepresentationProperties;
+    }
+
+    /**
+     * Get the properties of the Format Configuration, as they were when the canvas was created.
+     * @return A {@link PropertySnapshot} of the {@link Format}.
+     */
+    public PropertySnapshot getFormatProperties() {
+        return mFormatProperties;
+    }
+
 
     public final T getCurrentPage() {
         if (mPageContainer.size() < 1) {
@@ -209,5 +250,65 @@ public abstract class AbstractCanvas<T extends PrintableData> {
 
     public abstract T getNewPage();
 
+    /**
+     * Register a listener, that is notified about every completed page. Must be called before rendering.
+     * @param listener The {@link PageListener}.
+     */
+    public final void addPageListener(final PageListener<? super T> listener) {
+        mPageListeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * Set whether completed pages are kept in the canvas. Pages that are handed off to a {@link PageListener}
+     * do not need to be kept, unless the whole canvas is processed afterwards (e.g. by an SVG exporter).
+     * @param retainPages false, if only the current page should be kept, true (default) if all pages should be kept.
+     */
+    public final void setRetainPages(final boolean retainPages) {
+        mRetainPages = retainPages;
+    }
+
+    /**
+     * Signal that rendering is done. Notifies the listeners about the last page and that no more pages will follow.
+     * Calling this method more than once has no further effect.
+     */
+    public final void finish() {
+        if (mFinished) {
+            return;
+        }
+        completeCurrentPage();
+        mFinished = true;
+        for (PageListener<? super T> listener : mPageListeners) {
+            listener.canvasFinished();
+        }
+    }
+
+    /**
+     * Add a new page to the canvas. The previous page is completed and handed off to the listeners.
+     * @param page The new page.
+     * @throws IllegalStateException If the canvas is already finished.
+     */
+    final void addPage(final T page) {
+        if (mFinished) {
+            throw new IllegalStateException("Can not add a page to a finished canvas");
+        }
+        completeCurrentPage();
+        if (!mRetainPages) {
+            mPageContainer.clear();
+        }
+        mPageContainer.add(page);
+        mPageCount++;
+    }
+
+    private void completeCurrentPage() {
+        if (mCompletedPageCount == mPageCount) {
+            return;
+        }
+        T page = mPageContainer.get(mPageContainer.size() - 1);
+        for (PageListener<? super T> listener : mPageListeners) {
+            listener.pageCompleted(page, mCompletedPageCount);
+        }
+        mCompletedPageCount++;
+    }
+
 
 }
@@ -0,0 +1,26 @@
+package de.tudresden.inf.mci.brailleplot.layout;
+
+import de.tudresden.inf.mci.brailleplot.printabledata.PrintableData;
+
+/**
+ * Listener, that gets notified by an {@link AbstractCanvas} as soon as a page is completed.
+ * A page is completed when the next page is started or when the canvas is finished. Completed pages are not
+ * modified by the renderers anymore, so they can be processed (assembled, dumped, printed) while rendering goes on.
+ * @param <T> The type of the pages.
+ * @author Georg Graßnick
+ * @version 2019.10.12
+ */
+public interface PageListener<T extends PrintableData> {
+
+    /**
+     * Called when a page of the canvas is completed. Called by the rendering thread.
+     * @param page The completed page.
+     * @param pageIndex The index of the page in the canvas, starting at 0.
+     */
+    void pageCompleted(T page, int pageIndex);
+
+    /**
+     * Called after the last page was completed and no more pages will follow.
+     */
+    default void canvasFinished() { }
+}
@@ -0,0 +1,89 @@
+package de.tudresden.inf.mci.brailleplot.layout;
+
+import de.tudresden.inf.mci.brailleplot.printabledata.PrintableData;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link PageListener}, that hands off completed pages from the rendering thread to a consuming thread through a
+ * bounded queue. If the consumer can not keep up, the rendering thread is blocked until there is space in the queue
+ * again, so the number of pages waiting for processing stays limited.
+ * @param <T> The type of the pages.
+ * @author Georg Graßnick
+ * @version 2019.10.12
+ */
+public final class PageQueue<T extends PrintableData> implements PageListener<T> {
+
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> mQueue;
+    private final AtomicBoolean mFinished = new AtomicBoolean(false);
+    private volatile boolean mAborted = false;
+
+    /**
+     * Constructor.
+     * @param capacity The maximum number of pages waiting in the queue.
+     */
+    public PageQueue(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be at least 1, got " + capacity);
+        }
+        mQueue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public void pageCompleted(final T page, final int pageIndex) {
+        put(page);
+    }
+
+    @Override
+    public void canvasFinished() {
+        if (mFinished.compareAndSet(false, true)) {
+            put(END);
+        }
+    }
+
+    /**
+     * Get the next completed page. Blocks until a page is available or the canvas is finished.
+     * @return The next page or null, if the canvas is finished and all pages were taken.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    @SuppressWarnings("unchecked")
+    public T take() throws InterruptedException {
+        if (mAborted) {
+            return null;
+        }
+        Object next = mQueue.take();
+        if (next == END) {
+            // Keep the end marker, so that subsequent calls return immediately.
+            mQueue.offer(END);
+            return null;
+        }
+        return (T) next;
+    }
+
+    /**
+     * Stop consuming pages. Pages completed afterwards are dropped, a rendering thread blocked on the full
+     * queue is released.
+     */
+    public void abort() {
+        mAborted = true;
+        mQueue.clear();
+    }
+
+    private void put(final Object element) {
+        // After an abort, the cleared queue has room for the one element, that might slip in before the flag
+        // is seen. All further elements are dropped here.
+        if (mAborted) {
+            return;
+        }
+        try {
+            mQueue.put(element);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while handing off a completed page", e);
+        }
+    }
+}
@@ -3,8 +3,8 @@ package de.tudresden.inf.mci.brailleplot.layout;
 import de.tudresden.inf.mci.brailleplot.configparser.Format;
 import de.tudresden.inf.mci.brailleplot.configparser.Printer;
 import de.tudresden.inf.mci.brailleplot.configparser.Representation;
+import de.tudresden.inf.mci.brailleplot.printabledata.ColumnarFloatingPointDataImpl;
 import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
-import de.tudresden.inf.mci.brailleplot.printabledata.SimpleFloatingPointDataImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -76,7 +76,7 @@ public class PlotCanvas extends AbstractCanvas<FloatingPointData<Boolean>> {
     }
 
     public final FloatingPointData<Boolean> getNewPage() {
-        mPageContainer.add(new SimpleFloatingPointDataImpl<>(mPrinter, mFormat));
+        addPage(new ColumnarFloatingPointDataImpl(mPrinter, mFormat));
         return getCurrentPage();
     }
 
@@ -96,31 +96,31 @@ public class PlotCanvas extends AbstractCanvas<FloatingPointData<Boolean>> {
     public void readConfig() {
         mLogger.trace("Reading plot specific configuration");
 
-        mResolution = mPrinter.getProperty("floatingDot.resolution").toDouble();
-        mCellWidth = mPrinter.getProperty("raster.dotDistance.horizontal").toDouble();
-        mCellHeight = 2 * mPrinter.getProperty("raster.dotDistance.vertical").toDouble();
-        mCellDistHor = mPrinter.getProperty("raster.cellDistance.horizontal").toDouble();
-        mCellDistVer = mPrinter.getProperty("raster.cellDistance.vertical").toDouble();
-        mDotDistHor = mPrinter.getProperty("raster.dotDistance.horizontal").toDouble();
-        mDotDistVer = mPrinter.getProperty("raster.dotDistance.vertical").toDouble();
-        mFloatConstraintLeft = mPrinter.getProperty("constraint.left").toDouble();
-
-        mMarginLeft = mFormat.getProperty("margin.left").toDouble();
-        mMarginTop = mFormat.getProperty("margin.top").toDouble();
-        mMarginRight = mFormat.getProperty("margin.right").toDouble();
-
-        mMinBarWidth = mRepresentation.getProperty("floatingDot.minBarWidth").toDouble();
-        mMaxBarWidth = mRepresentation.getProperty("floatingDot.maxBarWidth").toDouble();
-        mMinBarDist = mRepresentation.getProperty("floatingDot.minBarDist").toDouble();
-        mSecondAxis = mRepresentation.getProperty("floatingDot.secondAxis").toBool();
-        mFrames = mRepresentation.getProperty("floatingDot.frames").toBool();
-        mAxesDerivation = mRepresentation.getProperty("floatingDot.derivation").toBool();
-        mGrid = mRepresentation.getProperty("floatingDot.grid").toBool();
-        mDotFrame = mRepresentation.getProperty("floatingDot.dotFrame").toBool();
-        mLang = mRepresentation.getProperty("general.brailleLanguage").toString();
-        mLegendKeyWord = mRepresentation.getProperty("general.legendKeyword").toString();
-        mMaxTitleLines = mRepresentation.getProperty("general.maxTitleHeight").toInt();
-        mBarAcc = mRepresentation.getProperty("floatingDot.barAccumulation").toBool();
+        mResolution = mPrinterProperties.getDouble("floatingDot.resolution");
+        mCellWidth = mPrinterProperties.getDouble("raster.dotDistance.horizontal");
+        mCellHeight = 2 * mPrinterProperties.getDouble("raster.dotDistance.vertical");
+        mCellDistHor = mPrinterProperties.getDouble("raster.cellDistance.horizontal");
+        mCellDistVer = mPrinterProperties.getDouble("raster.cellDistance.vertical");
+        mDotDistHor = mPrinterProperties.getDouble("raster.dotDistance.horizontal");
+        mDotDistVer = mPrinterProperties.getDouble("raster.dotDistance.vertical");
+        mFloatConstraintLeft = mPrinterProperties.getDouble("constraint.left");
+
+        mMarginLeft = mFormatProperties.getDouble("margin.left");
+        mMarginTop = mFormatProperties.getDouble("margin.top");
+        mMarginRight = mFormatProperties.getDouble("margin.right");
+
+        mMinBarWidth = mRepresentationProperties.getDouble("floatingDot.minBarWidth");
+        mMaxBarWidth = mRepresentationProperties.getDouble("floatingDot.maxBarWidth");
+        mMinBarDist = mRepresentationProperties.getDouble("floatingDot.minBarDist");
+        mSecondAxis = mRepresentationProperties.getBool("floatingDot.secondAxis");
+        mFrames = mRepresentationProperties.getBool("floatingDot.frames");
+        mAxesDerivation = mRepresentationProperties.getBool("floatingDot.derivation");
+        mGrid = mRepresentationProperties.getBool("floatingDot.grid");
+        mDotFrame = mRepresentationProperties.getBool("floatingDot.dotFrame");
+        mLang = mRepresentationProperties.getString("general.brailleLanguage");
+        mLegendKeyWord = mRepresentationProperties.getString("general.legendKeyword");
+        mMaxTitleLines = mRepresentationProperties.getInt("general.maxTitleHeight");
+        mBarAcc = mRepresentationProperties.getBool("floatingDot.barAccumulation");
 
     }
 
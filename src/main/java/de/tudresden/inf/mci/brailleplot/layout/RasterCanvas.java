@@ -3,9 +3,9 @@ package de.tudresden.inf.mci.brailleplot.layout;
 import de.tudresden.inf.mci.brailleplot.configparser.Format;
 import de.tudresden.inf.mci.brailleplot.configparser.Printer;
 import de.tudresden.inf.mci.brailleplot.configparser.Representation;
+import de.tudresden.inf.mci.brailleplot.printabledata.BoolMatrixDataImpl;
 import de.tudresden.inf.mci.brailleplot.printabledata.BrailleCell6;
 import de.tudresden.inf.mci.brailleplot.printabledata.MatrixData;
-import de.tudresden.inf.mci.brailleplot.printabledata.SimpleMatrixDataImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -86,7 +86,7 @@ public class RasterCanvas extends AbstractCanvas<MatrixData<Boolean>> {
     }
 
     public final MatrixData<Boolean> getNewPage() {
-        mPageContainer.add(new SimpleMatrixDataImpl<Boolean>(mPrinter, mFormat, mRowCount, mColumnCount, false));
+        addPage(new BoolMatrixDataImpl(mPrinter, mFormat, mRowCount, mColumnCount, false));
         return getCurrentPage();
     }
 
@@ -96,17 +96,17 @@ public class RasterCanvas extends AbstractCanvas<MatrixData<Boolean>> {
         mLogger.trace("Reading raster specific configuration");
 
         // What are the dot and cell distances in mm?
-        mHorizontalDotDistance = mPrinter.getProperty("raster.dotDistance.horizontal").toDouble();
-        mVerticalDotDistance = mPrinter.getProperty("raster.dotDistance.vertical").toDouble();
-        mHorizontalCellDistance = mPrinter.getProperty("raster.cellDistance.horizontal").toDouble();
-        mVerticalCellDistance = mPrinter.getProperty("raster.cellDistance.vertical").toDouble();
+        mHorizontalDotDistance = mPrinterProperties.getDouble("raster.dotDistance.horizontal");
+        mVerticalDotDistance = mPrinterProperties.getDouble("raster.dotDistance.vertical");
+        mHorizontalCellDistance = mPrinterProperties.getDouble("raster.cellDistance.horizontal");
+        mVerticalCellDistance = mPrinterProperties.getDouble("raster.cellDistance.vertical");
 
         // Calculate cell size in mm
         mCellHorizontalMM = mHorizontalDotDistance * (mCellWidth - 1) + mHorizontalCellDistance; // Full width of one cell + padding in mm
         mCellVerticalMM = mVerticalDotDistance * (mCellHeight - 1) + mVerticalCellDistance; // Full height of one cell + padding in mm
 
-        mRasterConstraintTop = mPrinter.getProperty("raster.constraint.top").toInt();
-        mRasterConstraintLeft = mPrinter.getProperty("raster.constraint.left").toInt();
+        mRasterConstraintTop = mPrinterProperties.getInt("raster.constraint.top");
+        mRasterConstraintLeft = mPrinterProperties.getInt("raster.constraint.left");
     }
 
     private void calculateRasterSize() throws InsufficientRenderingAreaException {
@@ -131,16 +131,16 @@ public class RasterCanvas extends AbstractCanvas<MatrixData<Boolean>> {
         // also possible to set a raster.indentation counted in amount of cells and lines. Those must be removed additionally.
 
         // Create a raster constraint box
-        int rasterConstraintTop = mPrinter.getProperty("raster.constraint.top").toInt();
-        int rasterConstraintLeft = mPrinter.getProperty("raster.constraint.left").toInt();
+        int rasterConstraintTop = mPrinterProperties.getInt("raster.constraint.top");
+        int rasterConstraintLeft = mPrinterProperties.getInt("raster.constraint.left");
         int rasterConstraintHeight, rasterConstraintWidth;
-        if (mPrinter.getPropertyNames().contains("raster.constraint.height")) {
-            rasterConstraintHeight = mPrinter.getProperty("raster.constraint.height").toInt();
+        if (mPrinterProperties.contains("raster.constraint.height")) {
+            rasterConstraintHeight = mPrinterProperties.getInt("raster.constraint.height");
         } else {
             rasterConstraintHeight = Integer.MAX_VALUE;
         }
-        if (mPrinter.getPropertyNames().contains("raster.constraint.width")) {
-            rasterConstraintWidth = mPrinter.getProperty("raster.constraint.width").toInt();
+        if (mPrinterProperties.contains("raster.constraint.width")) {
+            rasterConstraintWidth = mPrinterProperties.getInt("raster.constraint.width");
         } else {
             rasterConstraintWidth = Integer.MAX_VALUE;
         }
@@ -0,0 +1,211 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+
+import java.util.Iterator;
+
+/**
+ * A memory efficient implementation of the {@link MatrixData} interface for {@link Boolean} values.
+ * The dots are stored as single bits in a long[] bitset. The matrix is stored row by row, each row starting at
+ * a new word, so that a dot can be accessed by a simple shift and mask without any locking or boxing.
+ * Use {@link SimpleMatrixDataImpl} if other types than {@link Boolean} are required.
+ * @author Georg Graßnick
+ * @version 2019.10.07
+ */
+public class BoolMatrixDataImpl extends AbstractPrintableData implements MatrixData<Boolean> {
+
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = Long.SIZE - 1;
+
+    private final int mRows;
+    private final int mColumns;
+    private final int mWordsPerRow;
+    private final long[] mData;
+
+    /**
+     * Constructor.
+     * @param printer The according {@link Printer} object.
+     * @param format The according {@link Format} object.
+     * @param rowCount The height of the matrix.
+     * @param columnCount The width of the matrix.
+     * @param defaultValue The default value each element will be assigned.
+     * @throws IllegalArgumentException if rowCount {@literal <} 0 or columnCount {@literal <} 0
+     */
+    public BoolMatrixDataImpl(final Printer printer, final Format format, final int rowCount, final int columnCount, final boolean defaultValue) {
+        super(printer, format);
+        if (rowCount <= 0 || columnCount <= 0) {
+            throw new IllegalArgumentException("rowCount and columnCount must be a non zero positive integer");
+        }
+        mRows = rowCount;
+        mColumns = columnCount;
+        mWordsPerRow = (columnCount + WORD_MASK) >>> WORD_SHIFT;
+        mData = new long[rowCount * mWordsPerRow];
+        if (defaultValue) {
+            for (int row = 0; row < mRows; row++) {
+                for (int column = 0; column < mColumns; column++) {
+                    set(row, column, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if the given position is inside the matrix.
+     * @param row The row index of the position.
+     * @param column The column index of the position.
+     * @throws IndexOutOfBoundsException If row or column are negative or larger than the size of the matrix.
+     */
+    private void checkIndex(final int row, final int column) {
+        if (row >= mRows || column >= mColumns || row < 0 || column < 0) {
+            throw new IndexOutOfBoundsException("Index (" + row + "," + column + ") out of bounds");
+        }
+    }
+
+    /**
+     * Get the value for a specific position in the matrix without boxing it.
+     * @param row The row index of the position.
+     * @param column The column index of the position.
+     * @return The value at the requested position.
+     * @throws IndexOutOfBoundsException If row or column are negative or larger than the size of the matrix.
+     */
+    public final boolean get(final int row, final int column) {
+        checkIndex(row, column);
+        return (mData[row * mWordsPerRow + (column >>> WORD_SHIFT)] & (1L << column)) != 0;
+    }
+
+    /**
+     * Set the value at a specific position without boxing it.
+     * @param row The row index of the position.
+     * @param column The column index of the position.
+     * @param value The value to set.
+     * @throws IndexOutOfBoundsException If row or column are negative or larger than the size of the matrix.
+     */
+    public final void set(final int row, final int column, final boolean value) {
+        checkIndex(row, column);
+        int index = row * mWordsPerRow + (column >>> WORD_SHIFT);
+        if (value) {
+            mData[index] |= 1L << column;
+        } else {
+            mData[index] &= ~(1L << column);
+        }
+    }
+
+    @Override
+    public Boolean getValue(final int row, final int column) {
+        return get(row, column);
+    }
+
+    @Override
+    public void setValue(final int row, final int column, final Boolean value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        set(row, column, value);
+    }
+
+    @Override
+    public Iterator<Boolean> getDotIterator(final int width, final int height) {
+        return new MatrixDotIterator<>(width, height, this);
+    }
+
+    @Override
+    public Iterator<BrailleCell6<Boolean>> getBrailleCell6Iterator() {
+        return new BrailleCell6Iterator<>(this);
+    }
+
+    @Override
+    public int getCellRowMasks(final int cellRow, final int width, final int height, final int[] target) {
+        if (width <= 0 || height <= 0 || width * height > Integer.SIZE) {
+            throw new IllegalArgumentException("Invalid cell size: " + width + "x" + height);
+        }
+        int firstRow = cellRow * height;
+        if (cellRow < 0 || firstRow >= mRows) {
+            throw new IndexOutOfBoundsException("Cell row " + cellRow + " out of bounds");
+        }
+        int rowsInCell = Math.min(height, mRows - firstRow);
+        int cellCount = (mColumns + width - 1) / width;
+        for (int cell = 0; cell < cellCount; cell++) {
+            target[cell] = 0;
+        }
+        // Walk each dot row of the cell row, skipping empty words of the bitset entirely.
+        for (int dy = 0; dy < rowsInCell; dy++) {
+            int rowOffset = (firstRow + dy) * mWordsPerRow;
+            for (int column = 0; column < mColumns; column++) {
+                long word = mData[rowOffset + (column >>> WORD_SHIFT)];
+                if (word == 0) {
+                    // Skip the remainder of an empty word
+                    column |= WORD_MASK;
+                    continue;
+                }
+                if ((word & (1L << column)) != 0) {
+                    int cell = column / width;
+                    target[cell] |= 1 << ((column - cell * width) * height + dy);
+                }
+            }
+        }
+        return cellCount;
+    }
+
+    /**
+     * Set all dots of one cell at once from a packed bit mask, the counterpart of {@link #getCellRowMasks}.
+     * The dots of the cell are indexed top to bottom and then left to right, dots with a set bit are set to true,
+     * all others to false. Each dot row of the cell is written with one masked word operation (two, if the cell
+     * crosses a word boundary).
+     * @param row The row index of the upper left dot of the cell.
+     * @param column The column index of the upper left dot of the cell.
+     * @param width The width of the cell (at most 4).
+     * @param height The height of the cell (at most 8).
+     * @param mask The dots of the cell.
+     * @throws IllegalArgumentException If the cell size is invalid.
+     * @throws IndexOutOfBoundsException If the cell exceeds the bounds of the matrix. Nothing is written in that case.
+     */
+    public final void setCellMask(final int row, final int column, final int width, final int height, final int mask) {
+        if (width <= 0 || height <= 0 || width * height > Integer.SIZE) {
+            throw new IllegalArgumentException("Invalid cell size: " + width + "x" + height);
+        }
+        checkIndex(row, column);
+        checkIndex(row + height - 1, column + width - 1);
+        long rowMask = (1L << width) - 1;
+        int shift = column & WORD_MASK;
+        int spill = shift + width - Long.SIZE;
+        for (int dy = 0; dy < height; dy++) {
+            // Gather the dots of this row of the cell, which are height bits apart in the mask
+            long bits = 0;
+            for (int dx = 0; dx < width; dx++) {
+                bits |= (long) ((mask >>> (dx * height + dy)) & 1) << dx;
+            }
+            int index = (row + dy) * mWordsPerRow + (column >>> WORD_SHIFT);
+            mData[index] = (mData[index] & ~(rowMask << shift)) | (bits << shift);
+            if (spill > 0) {
+                mData[index + 1] = (mData[index + 1] & ~(rowMask >>> (width - spill))) | (bits >>> (width - spill));
+            }
+        }
+    }
+
+    @Override
+    public int getColumnCount() {
+        return mColumns;
+    }
+
+    @Override
+    public int getRowCount() {
+        return mRows;
+    }
+
+    public final String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < getRowCount(); i++) {
+            for (int j = 0; j < getColumnCount(); j++) {
+                if (get(i, j)) {
+                    sb.append("o");
+                } else {
+                    sb.append(" ");
+                }
+                sb.append(" ");
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,34 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import java.util.Iterator;
+
+/**
+ * Iterator that returns {@link BrailleCell6} objects rather than the dots themselves.
+ * See {@link MatrixData#getBrailleCell6Iterator()} for details.
+ * @param <T> The type of the matrix elements.
+ * @author Georg Graßnick
+ * @version 2019.10.07
+ */
+class BrailleCell6Iterator<T> implements Iterator<BrailleCell6<T>> {
+
+    private final Iterator<T> mElemIter;
+
+    BrailleCell6Iterator(final MatrixData<T> matrix) {
+        mElemIter = matrix.getDotIterator(BrailleCell6.COLUMN_COUNT, BrailleCell6.ROW_COUNT);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return mElemIter.hasNext();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public BrailleCell6<T> next() {
+        T[] vals = (T[]) new Object[BrailleCell6.DOT_COUNT];
+        for (int i = 0; i < BrailleCell6.DOT_COUNT; i++) {
+            vals[i] = mElemIter.next();
+        }
+        return new BrailleCell6<>(vals);
+    }
+}
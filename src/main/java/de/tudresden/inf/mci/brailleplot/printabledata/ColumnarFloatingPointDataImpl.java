@@ -0,0 +1,147 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
+import tec.units.ri.quantity.Quantities;
+import tec.units.ri.unit.MetricPrefix;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import static tec.units.ri.unit.Units.METRE;
+
+/**
+ * A columnar implementation of the {@link FloatingPointData} interface for {@link Boolean} values.
+ * The positions of the points are stored in millimetres in two growable double[] columns, the values in a {@link BitSet}.
+ * Points can be added by their primitive coordinates without creating any objects, see {@link FloatingDotSink}.
+ * The positions are additionally sorted into a uniform grid with a cell size of {@link FloatingPointData#RANGE} mm.
+ * Checking for an existing point in range therefore only has to look at the points of 9 grid cells.
+ * The {@link Quantity} based methods of the interface are still supported; {@link #getIterator()} creates the
+ * {@link Point2DValued} objects lazily while iterating.
+ * @author Georg Graßnick
+ * @version 2019.10.10
+ */
+public class ColumnarFloatingPointDataImpl extends AbstractPrintableData implements FloatingPointData<Boolean>, FloatingDotSink {
+
+    private static final Unit<Length> MILLIMETRE = MetricPrefix.MILLI(METRE);
+    private static final int INITIAL_CAPACITY = 64;
+
+    private double[] mX;
+    private double[] mY;
+    private final BitSet mValues;
+    private int mSize;
+    private final PointGridIndex mIndex;
+
+    public ColumnarFloatingPointDataImpl(final Printer printer, final Format format) {
+        super(printer, format);
+        mX = new double[INITIAL_CAPACITY];
+        mY = new double[INITIAL_CAPACITY];
+        mValues = new BitSet();
+        mIndex = new PointGridIndex(RANGE);
+    }
+
+    @Override
+    public final void addPoint(final double x, final double y) {
+        add(x, y, true);
+    }
+
+    @Override
+    public final boolean addPointIfNotExisting(final double x, final double y) {
+        if (mIndex.containsInRange(x, y)) {
+            return false;
+        }
+        add(x, y, true);
+        return true;
+    }
+
+    @Override
+    public final boolean pointExists(final double x, final double y) {
+        return mIndex.containsInRange(x, y);
+    }
+
+    private void add(final double x, final double y, final boolean value) {
+        if (mSize == mX.length) {
+            int capacity = mX.length * 2;
+            double[] x2 = new double[capacity];
+            double[] y2 = new double[capacity];
+            System.arraycopy(mX, 0, x2, 0, mSize);
+            System.arraycopy(mY, 0, y2, 0, mSize);
+            mX = x2;
+            mY = y2;
+        }
+        mX[mSize] = x;
+        mY[mSize] = y;
+        mValues.set(mSize, value);
+        mSize++;
+        mIndex.add(x, y);
+    }
+
+    @Override
+    public Iterator<Point2DValued<Quantity<Length>, Boolean>> getIterator() {
+        return new Iterator<>() {
+            private int mNext = 0;
+
+            @Override
+            public boolean hasNext() {
+                return mNext < mSize;
+            }
+
+            @Override
+            public Point2DValued<Quantity<Length>, Boolean> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int i = mNext++;
+                return new Point2DValued<>(Quantities.getQuantity(mX[i], MILLIMETRE), Quantities.getQuantity(mY[i], MILLIMETRE), mValues.get(i));
+            }
+        };
+    }
+
+    @Override
+    public void addPointIfNotExisting(final Point2DValued<Quantity<Length>, Boolean> point) {
+        Objects.requireNonNull(point);
+        double x = toMillimetre(point.getX());
+        double y = toMillimetre(point.getY());
+        if (!mIndex.containsInRange(x, y)) {
+            add(x, y, point.getVal());
+        }
+    }
+
+    @Override
+    public void addPoint(final Point2DValued<Quantity<Length>, Boolean> point) {
+        Objects.requireNonNull(point);
+        add(toMillimetre(point.getX()), toMillimetre(point.getY()), point.getVal());
+    }
+
+    @Override
+    public boolean pointExists(final Point2DValued<Quantity<Length>, Boolean> point) {
+        return mIndex.containsInRange(toMillimetre(point.getX()), toMillimetre(point.getY()));
+    }
+
+    @Override
+    public int getPointCount() {
+        return mSize;
+    }
+
+    @Override
+    public double getXMillimetre(final int index) {
+        Objects.checkIndex(index, mSize);
+        return mX[index];
+    }
+
+    @Override
+    public double getYMillimetre(final int index) {
+        Objects.checkIndex(index, mSize);
+        return mY[index];
+    }
+
+    private static double toMillimetre(final Quantity<Length> quantity) {
+        return quantity.to(MILLIMETRE).getValue().doubleValue();
+    }
+}
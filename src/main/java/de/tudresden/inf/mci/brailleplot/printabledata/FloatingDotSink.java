@@ -0,0 +1,83 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
+import tec.units.ri.quantity.Quantities;
+import tec.units.ri.unit.MetricPrefix;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+import javax.measure.quantity.Length;
+import java.util.Objects;
+
+import static tec.units.ri.unit.Units.METRE;
+
+/**
+ * Receiver for embossed dots, addressed by their primitive coordinates in mm.
+ * Used by the plotters to emit dots without creating {@link Point2DValued} objects for each dot.
+ * @author Georg Graßnick
+ * @version 2019.10.11
+ */
+public interface FloatingDotSink {
+
+    /**
+     * Adds a dot if there is no dot in range yet. See {@link FloatingPointData#addPointIfNotExisting(Point2DValued)}.
+     * @param x The x coordinate in mm.
+     * @param y The y coordinate in mm.
+     * @return true, if the dot was added, false if it already existed.
+     */
+    boolean addPointIfNotExisting(double x, double y);
+
+    /**
+     * Adds a dot. See {@link FloatingPointData#addPoint(Point2DValued)}.
+     * @param x The x coordinate in mm.
+     * @param y The y coordinate in mm.
+     */
+    void addPoint(double x, double y);
+
+    /**
+     * Checks if a dot in range exists. See {@link FloatingPointData#pointExists(Point2DValued)}.
+     * @param x The x coordinate in mm.
+     * @param y The y coordinate in mm.
+     * @return true, if a dot in range exists, else false.
+     */
+    boolean pointExists(double x, double y);
+
+    /**
+     * Get a sink writing to the given floating point data. If the data is a sink itself, it is returned directly.
+     * Otherwise the dots are converted to {@link Point2DValued} objects with value true.
+     * @param data The {@link FloatingPointData} to write to.
+     * @return The sink.
+     */
+    static FloatingDotSink of(final FloatingPointData<Boolean> data) {
+        Objects.requireNonNull(data);
+        if (data instanceof FloatingDotSink) {
+            return (FloatingDotSink) data;
+        }
+        Unit<Length> millimetre = MetricPrefix.MILLI(METRE);
+        return new FloatingDotSink() {
+            @Override
+            public boolean addPointIfNotExisting(final double x, final double y) {
+                Point2DValued<Quantity<Length>, Boolean> point = toPoint(x, y);
+                if (data.pointExists(point)) {
+                    return false;
+                }
+                data.addPoint(point);
+                return true;
+            }
+
+            @Override
+            public void addPoint(final double x, final double y) {
+                data.addPoint(toPoint(x, y));
+            }
+
+            @Override
+            public boolean pointExists(final double x, final double y) {
+                return data.pointExists(toPoint(x, y));
+            }
+
+            private Point2DValued<Quantity<Length>, Boolean> toPoint(final double x, final double y) {
+                return new Point2DValued<>(Quantities.getQuantity(x, millimetre), Quantities.getQuantity(y, millimetre), true);
+            }
+        };
+    }
+}
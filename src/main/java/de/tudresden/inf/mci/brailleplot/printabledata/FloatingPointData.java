@@ -44,4 +44,28 @@ public interface FloatingPointData<T> extends PrintableData {
      * @param point The point to be added.
      */
     void addPoint(Point2DValued<Quantity<Length>, T> point);
+
+    /**
+     * Getter.
+     * @return The number of points in the data.
+     */
+    int getPointCount();
+
+    /**
+     * Get the x coordinate of a point in mm, without creating any {@link Quantity} objects.
+     * The points are indexed in the same order as returned by {@link #getIterator()}.
+     * @param index The index of the point.
+     * @return The x coordinate in mm.
+     * @throws IndexOutOfBoundsException If the index is negative or not smaller than {@link #getPointCount()}.
+     */
+    double getXMillimetre(int index);
+
+    /**
+     * Get the y coordinate of a point in mm, without creating any {@link Quantity} objects.
+     * The points are indexed in the same order as returned by {@link #getIterator()}.
+     * @param index The index of the point.
+     * @return The y coordinate in mm.
+     * @throws IndexOutOfBoundsException If the index is negative or not smaller than {@link #getPointCount()}.
+     */
+    double getYMillimetre(int index);
 }
@@ -58,6 +58,26 @@ public interface MatrixData<T> extends PrintableData {
      */
     Iterator<BrailleCell6<T>> getBrailleCell6Iterator();
 
+    /**
+     * Get the dots of one row of cells as packed bit masks, one int per cell.
+     * This allows to traverse the matrix cell by cell without creating any objects.
+     * The dots of a cell are indexed top to bottom and then left to right, like in {@link BrailleCell6}.
+     * Bit i of a mask is set if the dot with index i is set, i.e. its value equals {@link Boolean#TRUE}.
+     * Dots of cells exceeding the bounds of the matrix are treated as not set.
+     * Example: width = 2, height = 3; the bits of the mask are assigned to the dots as follows:
+     *
+     * 0  3
+     * 1  4
+     * 2  5
+     *
+     * @param cellRow The index of the row of cells, starting at 0.
+     * @param width The width of a Braille cell (at most 4).
+     * @param height The height of a Braille cell (at most 8).
+     * @param target The array to write the masks into. Must be able to hold at least ceil(columnCount / width) elements.
+     * @return The number of cells written into target.
+     */
+    int getCellRowMasks(int cellRow, int width, int height, int[] target);
+
     /**
      * Set the value at a specific position.
      * Indices start at 0.
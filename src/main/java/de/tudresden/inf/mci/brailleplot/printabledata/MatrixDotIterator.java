@@ -0,0 +1,66 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import java.util.Iterator;
+
+/**
+ * Iterator that iterates all elements of a {@link MatrixData} in a pattern that iterates Braille cells of specified height
+ * and width from left to right and top to bottom.
+ * See {@link MatrixData#getDotIterator(int, int)} for details.
+ * @param <T> The type of the matrix elements.
+ * @author Georg Graßnick
+ * @version 2019.10.07
+ */
+class MatrixDotIterator<T> implements Iterator<T> {
+
+    private final MatrixData<T> mMatrix;
+
+    private final int mCellWidth;
+    private final int mCellHeight;
+
+    // We use indices starting at 1, so that we do not have to check for the x-index to be 0 in the next() method call
+    private int mCurrentX = 1;
+    private int mCurrentY = 1;
+
+    private boolean mIsFirstElem = true;
+
+    MatrixDotIterator(final int cellWidth, final int cellHeight, final MatrixData<T> matrix) {
+        if (matrix.getColumnCount() % cellWidth != 0) {
+            throw new IllegalArgumentException("Cannot create requested iterator: matrix column count (" + matrix.getColumnCount() + ") is not a multiple of cell height (" + cellHeight + ")");
+        }
+        if (matrix.getRowCount() % cellHeight != 0) {
+            throw new IllegalArgumentException("Cannot create requested iterator: matrix row count (" + matrix.getRowCount() + ") is not a multiple of cell width (" + cellWidth + ")");
+        }
+        mMatrix = matrix;
+        mCellWidth = cellWidth;
+        mCellHeight = cellHeight;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !(mCurrentY == mMatrix.getRowCount() && mCurrentX == mMatrix.getColumnCount());
+    }
+
+    @Override
+    public T next() {
+        if (mIsFirstElem) {
+            mIsFirstElem = false;
+        } else if (mCurrentY % mCellHeight != 0) {
+            // Staying in the current cell, move down
+            mCurrentY++;
+        } else if (mCurrentX % mCellWidth != 0) {
+            // Staying in current cell, move right, set y to the top most index of the current cell
+            mCurrentX++;
+            mCurrentY = (((mCurrentY / mCellHeight) - 1) * mCellHeight) + 1;
+        } else if (mCurrentX < mMatrix.getColumnCount()) { // Moving on to the next cell
+            // Right is possible
+            mCurrentX += 1;
+            mCurrentY = (((mCurrentY / mCellHeight) - 1) * mCellHeight) + 1;
+        } else {
+            // We need to go downwards
+            mCurrentY += 1;
+            mCurrentX = 1;
+        }
+        // Correct index to match the specifications of the MatrixData interface
+        return mMatrix.getValue(mCurrentY - 1, mCurrentX - 1);
+    }
+}
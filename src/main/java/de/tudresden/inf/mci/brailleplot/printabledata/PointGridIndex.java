@@ -0,0 +1,107 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Spatial index over point coordinates (in mm), organized as a uniform grid of square buckets.
+ * The bucket size equals the search range, so that all points within the range of a coordinate are located in the
+ * bucket of the coordinate itself or one of its 8 neighbours.
+ * @author Georg Graßnick
+ * @version 2019.10.09
+ */
+final class PointGridIndex {
+
+    private static final int INITIAL_BUCKET_CAPACITY = 8;
+    private static final int COORDINATE_BITS = 32;
+    private static final long LOWER_HALF = 0xFFFFFFFFL;
+
+    private final double mRange;
+    private final Map<Long, Bucket> mBuckets = new HashMap<>();
+
+    /**
+     * Constructor.
+     * @param range The search range in mm, which is also used as bucket size.
+     */
+    PointGridIndex(final double range) {
+        if (!(range > 0)) {
+            throw new IllegalArgumentException("range must be positive");
+        }
+        mRange = range;
+    }
+
+    /**
+     * Add a coordinate to the index.
+     * @param x The x coordinate in mm.
+     * @param y The y coordinate in mm.
+     */
+    void add(final double x, final double y) {
+        long key = key(cell(x), cell(y));
+        Bucket bucket = mBuckets.get(key);
+        if (bucket == null) {
+            bucket = new Bucket();
+            mBuckets.put(key, bucket);
+        }
+        bucket.add(x, y);
+    }
+
+    /**
+     * Check if there is a coordinate in the index, that lies within the range of the given coordinate in
+     * both directions (borders included).
+     * @param x The x coordinate in mm.
+     * @param y The y coordinate in mm.
+     * @return true, if a coordinate in range was found, else false.
+     */
+    boolean containsInRange(final double x, final double y) {
+        int cellX = cell(x);
+        int cellY = cell(y);
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                Bucket bucket = mBuckets.get(key(cellX + dx, cellY + dy));
+                if (bucket != null && bucket.containsInRange(x, y, mRange)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int cell(final double coordinate) {
+        return (int) Math.floor(coordinate / mRange);
+    }
+
+    private static long key(final int cellX, final int cellY) {
+        return ((long) cellX << COORDINATE_BITS) | (cellY & LOWER_HALF);
+    }
+
+    /**
+     * The coordinates located in a single grid cell, stored interleaved as x, y pairs.
+     */
+    private static final class Bucket {
+
+        private double[] mCoordinates = new double[INITIAL_BUCKET_CAPACITY];
+        private int mSize;
+
+        void add(final double x, final double y) {
+            if (mSize + 2 > mCoordinates.length) {
+                double[] grown = new double[mCoordinates.length * 2];
+                System.arraycopy(mCoordinates, 0, grown, 0, mSize);
+                mCoordinates = grown;
+            }
+            mCoordinates[mSize++] = x;
+            mCoordinates[mSize++] = y;
+        }
+
+        boolean containsInRange(final double x, final double y, final double range) {
+            for (int i = 0; i < mSize; i += 2) {
+                double oldX = mCoordinates[i];
+                double oldY = mCoordinates[i + 1];
+                // Same comparison as SimpleFloatingPointDataImpl#pointExists
+                if (x >= oldX - range && x <= oldX + range && y >= oldY - range && y <= oldY + range) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -7,15 +7,15 @@ import tec.units.ri.unit.MetricPrefix;
 
 import javax.measure.Quantity;
 import javax.measure.quantity.Length;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.Objects;
 
 import static tec.units.ri.unit.Units.METRE;
 
 /**
  * A low effort implementation of the {@link FloatingPointData} interface.
- * The underlying data is organized in a {@link LinkedList}, which makes insertions fast, but slows down random access.
+ * The underlying data is organized in an {@link ArrayList}, every existence check has to look at all points.
  * @param <T> The type used for representing the intensity. Could be set to {@link Boolean} for basic Braille support,
  *           but could also by set to {@link Short} if different embossing strengths are required.
  * @author Georg Graßnick
@@ -23,11 +23,11 @@ import static tec.units.ri.unit.Units.METRE;
  */
 public class SimpleFloatingPointDataImpl<T> extends AbstractPrintableData implements FloatingPointData<T> {
 
-    private LinkedList<Point2DValued<Quantity<Length>, T>> mPoints;
+    private ArrayList<Point2DValued<Quantity<Length>, T>> mPoints;
 
     public SimpleFloatingPointDataImpl(final Printer printer, final Format format) {
         super(printer, format);
-        mPoints = new LinkedList<>();
+        mPoints = new ArrayList<>();
     }
 
     @Override
@@ -40,14 +40,14 @@ public class SimpleFloatingPointDataImpl<T> extends AbstractPrintableData implem
         Objects.requireNonNull(point);
 
         if (!pointExists(point)) {
-            mPoints.addLast(point);
+            mPoints.add(point);
         }
     }
 
     @Override
     public void addPoint(final Point2DValued<Quantity<Length>, T> point) {
         Objects.requireNonNull(point);
-        mPoints.addLast(point);
+        mPoints.add(point);
     }
 
     @Override
@@ -70,6 +70,22 @@ public class SimpleFloatingPointDataImpl<T> extends AbstractPrintableData implem
         return false;
     }
 
+    @Override
+    public int getPointCount() {
+        return mPoints.size();
+    }
+
+    @Override
+    public double getXMillimetre(final int index) {
+        return toMillimetre(mPoints.get(index).getX());
+    }
 
+    @Override
+    public double getYMillimetre(final int index) {
+        return toMillimetre(mPoints.get(index).getY());
+    }
 
+    private static double toMillimetre(final Quantity<Length> quantity) {
+        return quantity.to(MetricPrefix.MILLI(METRE)).getValue().doubleValue();
+    }
 }
@@ -72,12 +72,40 @@ public class SimpleMatrixDataImpl<T> extends AbstractPrintableData implements Ma
 
     @Override
     public Iterator<T> getDotIterator(final int width, final int height) {
-        return new ElementIter(width, height, this);
+        return new MatrixDotIterator<>(width, height, this);
     }
 
     @Override
     public Iterator<BrailleCell6<T>> getBrailleCell6Iterator() {
-        return new BrailleCell6Iterator(this);
+        return new BrailleCell6Iterator<>(this);
+    }
+
+    @Override
+    public int getCellRowMasks(final int cellRow, final int width, final int height, final int[] target) {
+        if (width <= 0 || height <= 0 || width * height > Integer.SIZE) {
+            throw new IllegalArgumentException("Invalid cell size: " + width + "x" + height);
+        }
+        int firstRow = cellRow * height;
+        if (cellRow < 0 || firstRow >= mRows) {
+            throw new IndexOutOfBoundsException("Cell row " + cellRow + " out of bounds");
+        }
+        int lastRow = Math.min(firstRow + height, mRows);
+        int cellCount = (mColumns + width - 1) / width;
+        for (int cell = 0; cell < cellCount; cell++) {
+            int mask = 0;
+            int firstColumn = cell * width;
+            int lastColumn = Math.min(firstColumn + width, mColumns);
+            for (int column = firstColumn; column < lastColumn; column++) {
+                int bit = (column - firstColumn) * height;
+                for (int row = firstRow; row < lastRow; row++) {
+                    if (Boolean.TRUE.equals(mData.get(row * mColumns + column))) {
+                        mask |= 1 << (bit + row - firstRow);
+                    }
+                }
+            }
+            target[cell] = mask;
+        }
+        return cellCount;
     }
 
     @Override
@@ -118,92 +146,4 @@ public class SimpleMatrixDataImpl<T> extends AbstractPrintableData implements Ma
         }
         return sb.toString();
     }
-
-    /**
-     * Iterator that iterates all elements of the matrix in a pattern that iterates Braille cells of specified height
-     * and width from left to right and top to bottom.
-     * See {@link MatrixData#getDotIterator(int, int)} for details.
-     */
-    class ElementIter implements Iterator<T> {
-
-        private final SimpleMatrixDataImpl<T> mMatrix;
-
-        private final int mCellWidth;
-        private final int mCellHeight;
-
-        // We use indices starting at 1, so that we do not have to check for the x-index to be 0 in the next() method call
-        private int mCurrentX = 1;
-        private int mCurrentY = 1;
-
-        private boolean mIsFirstElem = true;
-
-        ElementIter(final int cellWidth, final int cellHeight, final SimpleMatrixDataImpl<T> matrix) {
-            if (matrix.getColumnCount() % cellWidth != 0) {
-                throw new IllegalArgumentException("Cannot create requested iterator: matrix column count (" + matrix.getColumnCount() + ") is not a multiple of cell height (" + cellHeight + ")");
-            }
-            if (matrix.getRowCount() % cellHeight != 0) {
-                throw new IllegalArgumentException("Cannot create requested iterator: matrix row count (" + matrix.getRowCount() + ") is not a multiple of cell width (" + cellWidth + ")");
-            }
-            mMatrix = matrix;
-            mCellWidth = cellWidth;
-            mCellHeight = cellHeight;
-        }
-
-        @Override
-        public boolean hasNext() {
-            return !(mCurrentY == mMatrix.getRowCount() && mCurrentX == mMatrix.getColumnCount());
-        }
-
-        @Override
-        public T next() {
-            if (mIsFirstElem) {
-                mIsFirstElem = false;
-            } else if (mCurrentY % mCellHeight != 0) {
-                // Staying in the current cell, move down
-                mCurrentY++;
-            } else if (mCurrentX % mCellWidth != 0) {
-                // Staying in current cell, move right, set y to the top most index of the current cell
-                mCurrentX++;
-                mCurrentY = (((mCurrentY / mCellHeight) - 1) * mCellHeight) + 1;
-            } else if (mCurrentX < mMatrix.getColumnCount()) { // Moving on to the next cell
-                // Right is possible
-                mCurrentX += 1;
-                mCurrentY = (((mCurrentY / mCellHeight) - 1) * mCellHeight) + 1;
-            } else {
-                // We need to go downwards
-                mCurrentY += 1;
-                mCurrentX = 1;
-            }
-            // Correct index to match the specifications of the MatrixData interface
-            return mMatrix.getValue(mCurrentY - 1, mCurrentX - 1);
-        }
-    }
-
-    /**
-     * Iterator that returns {@link BrailleCell6} objects rather than the dots themselves.
-     * See {@link MatrixData#getBrailleCell6Iterator()} for details.
-     */
-    class BrailleCell6Iterator implements Iterator<BrailleCell6<T>> {
-
-        private final Iterator<T> mElemIter;
-
-        BrailleCell6Iterator(final SimpleMatrixDataImpl<T> matrix) {
-            mElemIter = matrix.getDotIterator(BrailleCell6.COLUMN_COUNT, BrailleCell6.ROW_COUNT);
-        }
-
-        @Override
-        public boolean hasNext() {
-            return mElemIter.hasNext();
-        }
-
-        @Override
-        @SuppressWarnings("unchecked")
-        public BrailleCell6<T> next() {
-            T[] vals = (T[]) new Object[BrailleCell6.DOT_COUNT];
-            for (int i = 0; i < BrailleCell6.DOT_COUNT; i++) {
-                vals[i] = mElemIter.next();
-            }
-            return new BrailleCell6<>(vals);
-        }
-    }
 }
@@ -1,12 +1,16 @@
 package de.tudresden.inf.mci.brailleplot.printerbackend;
 
-import de.tudresden.inf.mci.brailleplot.brailleparser.AbstractBrailleTableParser;
 import de.tudresden.inf.mci.brailleplot.printabledata.PrintableData;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
 /**
  * This class provides an extension point for further implementation
  * and protocol building for documents that need to be send to the printer.
- * The common Interface is the getDocument() and assemble() method.
+ * The common Interface is the getDocument() and assemble() method. Documents can also be written to a channel with
+ * assembleTo(), which builders may implement by streaming the document through a reusable direct buffer.
  * Its usable for all braille printers.
  * @param <T> Type of Data.
  * @author Andrey Ruzhanskiy
@@ -15,10 +19,19 @@ import de.tudresden.inf.mci.brailleplot.printabledata.PrintableData;
 
 abstract class AbstractDocumentBuilder<T extends PrintableData> {
 
-    T mData;
+    /**
+     * Form feed, starts a new page.
+     */
+    static final byte FORM_FEED = 0x0C;
 
+    /**
+     * Capacity of the buffer used by {@link #assembleTo(PrintableData, WritableByteChannel)}.
+     */
+    static final int BUFFER_CAPACITY = 65536;
 
-    AbstractBrailleTableParser mParser;
+    T mData;
+
+    private ByteBuffer mChannelBuffer;
 
     /**
      * Complex method for complex construction of an document for the printer.
@@ -27,4 +40,88 @@ abstract class AbstractDocumentBuilder<T extends PrintableData> {
      */
     abstract byte[] assemble(T data);
 
+    /**
+     * Construct the document for the printer and write it to the given channel. The channel is not closed.
+     * The default implementation writes the result of {@link #assemble(PrintableData)}.
+     * @param data Raw data to be printed without any escape sequences
+     * @param channel The channel to write the document to.
+     * @throws IOException If writing to the channel fails.
+     */
+    void assembleTo(final T data, final WritableByteChannel channel) throws IOException {
+        ByteBuffer document = ByteBuffer.wrap(assemble(data));
+        while (document.hasRemaining()) {
+            channel.write(document);
+        }
+    }
+
+    /**
+     * Get the byte sequence separating two assembled pages in a multi-page document. Defaults to a form feed.
+     * @return The separator, inserted between the assembled pages.
+     */
+    byte[] getPageSeparator() {
+        return new byte[] {FORM_FEED};
+    }
+
+    /**
+     * Get the direct buffer for writing to a channel. The buffer is allocated once per builder and reused.
+     * @return The cleared buffer.
+     */
+    final ByteBuffer getChannelBuffer() {
+        if (mChannelBuffer == null) {
+            mChannelBuffer = ByteBuffer.allocateDirect(BUFFER_CAPACITY);
+        }
+        mChannelBuffer.clear();
+        return mChannelBuffer;
+    }
+
+    /**
+     * Write the buffered bytes to the channel and clear the buffer.
+     * @param buffer The buffer in write mode.
+     * @param channel The channel.
+     * @throws IOException If writing to the channel fails.
+     */
+    static void drain(final ByteBuffer buffer, final WritableByteChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Put the bytes into the buffer. If there is not enough space left, the buffer is drained to the channel first.
+     * @param buffer The buffer in write mode.
+     * @param bytes The array containing the bytes.
+     * @param offset The index of the first byte to put.
+     * @param length The number of bytes to put.
+     * @param channel The channel.
+     * @throws IOException If writing to the channel fails.
+     */
+    static void put(final ByteBuffer buffer, final byte[] bytes, final int offset, final int length,
+                    final WritableByteChannel channel) throws IOException {
+        if (buffer.remaining() < length) {
+            drain(buffer, channel);
+        }
+        if (buffer.remaining() < length) {
+            // Larger than the whole buffer, bypass it
+            ByteBuffer wrapped = ByteBuffer.wrap(bytes, offset, length);
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
+            }
+            return;
+        }
+        buffer.put(bytes, offset, length);
+    }
+
+    /**
+     * Put the bytes into the buffer, draining it to the channel first if necessary.
+     * @param buffer The buffer in write mode.
+     * @param bytes The bytes to put.
+     * @param channel The channel.
+     * @throws IOException If writing to the channel fails.
+     */
+    static void put(final ByteBuffer buffer, final byte[] bytes, final WritableByteChannel channel) throws IOException {
+        put(buffer, bytes, 0, bytes.length, channel);
+    }
+
 }
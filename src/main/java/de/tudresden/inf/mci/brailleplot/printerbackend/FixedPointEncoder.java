@@ -0,0 +1,81 @@
+package de.tudresden.inf.mci.brailleplot.printerbackend;
+
+/**
+ * Encoder for writing coordinates as ASCII decimal numbers with two fractional digits, as used by the
+ * FloatingDotArea protocol. The value is converted to hundredths and written digit by digit into a byte array.
+ * The result is identical to {@code String.format(Locale.ENGLISH, "%.2f", value)}. Values, for which this can not be
+ * guaranteed by the fixed point arithmetic (negative including negative zero, very large or exactly between two
+ * hundredths), are rejected and must be formatted by the caller.
+ * @author Andrey Ruzhanskiy
+ * @version 2019.10.13
+ */
+final class FixedPointEncoder {
+
+    /**
+     * Maximum number of bytes written for a single value.
+     */
+    static final int MAX_LENGTH = 10;
+
+    /**
+     * Upper bound (exclusive) of the values handled, so that the integer part has at most 7 digits.
+     */
+    private static final double LIMIT = 1e7;
+
+    /**
+     * If the scaled value is closer than this to a rounding tie, the result may depend on the decimal representation
+     * of the double, so the value is rejected.
+     */
+    private static final double TIE_TOLERANCE = 1e-6;
+
+    private static final double HALF = 0.5;
+    private static final int SCALE = 100;
+    private static final int RADIX = 10;
+    private static final byte ZERO = '0';
+    private static final byte POINT = '.';
+
+    private FixedPointEncoder() { }
+
+    /**
+     * Write the value with two fractional digits into the target array.
+     * @param value The value to encode.
+     * @param target The target array, must have at least {@link #MAX_LENGTH} bytes left after offset.
+     * @param offset The position of the first byte to write.
+     * @return The number of bytes written or -1, if the value can not be encoded and nothing was written.
+     */
+    static int encode(final double value, final byte[] target, final int offset) {
+        // The sign bit also rejects negative zero, which is formatted as "-0.00"
+        if (Double.doubleToRawLongBits(value) < 0 || !(value < LIMIT)) {
+            return -1;
+        }
+        double scaled = value * SCALE;
+        long hundredths = (long) scaled;
+        double fraction = scaled - hundredths;
+        if (Math.abs(fraction - HALF) < TIE_TOLERANCE) {
+            return -1;
+        }
+        if (fraction > HALF) {
+            hundredths++;
+        }
+        if (hundredths >= LIMIT * SCALE) {
+            // Rounded up to 8 integer digits
+            return -1;
+        }
+        long integer = hundredths / SCALE;
+        int cents = (int) (hundredths % SCALE);
+
+        // Count the digits of the integer part, then fill them in from the back
+        int digits = 1;
+        for (long rest = integer / RADIX; rest > 0; rest /= RADIX) {
+            digits++;
+        }
+        int pos = offset + digits;
+        for (int i = pos - 1; i >= offset; i--) {
+            target[i] = (byte) (ZERO + integer % RADIX);
+            integer /= RADIX;
+        }
+        target[pos++] = POINT;
+        target[pos++] = (byte) (ZERO + cents / RADIX);
+        target[pos++] = (byte) (ZERO + cents % RADIX);
+        return pos - offset;
+    }
+}
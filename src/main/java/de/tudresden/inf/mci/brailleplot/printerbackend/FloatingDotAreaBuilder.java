@@ -1,20 +1,17 @@
 package de.tudresden.inf.mci.brailleplot.printerbackend;
 
-
-import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
 import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
-import tec.units.ri.unit.MetricPrefix;
 
-import javax.measure.Quantity;
-import javax.measure.quantity.Length;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.Iterator;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 import java.util.Objects;
 
-import static tec.units.ri.unit.Units.METRE;
-
 /**
  * Class representing the FloatingDotArea protocol for the braille Index Everest V4 for printing
  * variable areas on paper via coordinates.
@@ -30,38 +27,70 @@ class FloatingDotAreaBuilder extends AbstractIndexV4Builder<FloatingPointData<Bo
     FloatingDotAreaBuilder() { }
 
     /**
-     * Currently not implemented.
+     * Assembles the FloatingDotArea document: the start sequence, followed by one "x:y" line per dot (in mm with two
+     * fractional digits) and the terminating semicolon. The document is built by
+     * {@link #assembleTo(FloatingPointData, WritableByteChannel)} into a byte array, that is sized for the number of
+     * dots in advance.
      * @param data Raw data to be printed via the FloatingDotArea
-     * @return Exception.
+     * @return The assembled document.
      */
     @Override
     byte[] assemble(final FloatingPointData<Boolean> data) {
-        mData = Objects.requireNonNull(data);
-        Iterator<Point2DValued<Quantity<Length>, Boolean>> iter = mData.getIterator();
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        int headerLength = mStartFloatingMode.length + mSemicolon.length + mNewLine.length;
+        int pointLength = 2 * FixedPointEncoder.MAX_LENGTH + mColon.length + mNewLine.length;
+        ByteArrayOutputStream stream = new ByteArrayOutputStream(headerLength + Objects.requireNonNull(data).getPointCount() * pointLength + mSemicolon.length);
         try {
-            stream.write(mStartFloatingMode);
-            stream.write(mSemicolon);
-            stream.write(mNewLine);
-            // Start iteration over values
-            while (iter.hasNext()) {
-                Point2DValued<Quantity<Length>, Boolean> current = iter.next();
-                Quantity<Length> x = current.getX().to(MetricPrefix.MILLI(METRE));
-                Quantity<Length> y = current.getY().to(MetricPrefix.MILLI(METRE));
-                String xFormated = String.format(Locale.ENGLISH, "%.2f", x.getValue().doubleValue());
-                String yFormated = String.format(Locale.ENGLISH, "%.2f", y.getValue().doubleValue());
-                stream.write(xFormated.getBytes());
-                stream.write(mColon);
-                stream.write(yFormated.getBytes());
-                if (iter.hasNext()) {
-                    stream.write(mNewLine);
-                }
-            }
-            // End with ;
-            stream.write(mSemicolon);
+            assembleTo(data, Channels.newChannel(stream));
         } catch (IOException e) {
-            e.printStackTrace();
+            // Not thrown by a ByteArrayOutputStream
+            throw new UncheckedIOException(e);
         }
         return stream.toByteArray();
     }
+
+    /**
+     * Writes the FloatingDotArea document to the channel. The coordinates are encoded by the {@link FixedPointEncoder}
+     * and written into the reusable buffer, which is drained to the channel when full. The dots are written in the order
+     * given by the {@link HeadTravelOptimizer}.
+     * @param data Raw data to be printed via the FloatingDotArea
+     * @param channel The channel to write the document to.
+     * @throws IOException If writing to the channel fails.
+     */
+    @Override
+    void assembleTo(final FloatingPointData<Boolean> data, final WritableByteChannel channel) throws IOException {
+        mData = Objects.requireNonNull(data);
+        Objects.requireNonNull(channel);
+        int pointCount = mData.getPointCount();
+        int[] order = HeadTravelOptimizer.getOrder(mData);
+        ByteBuffer buffer = getChannelBuffer();
+        byte[] coordinate = new byte[FixedPointEncoder.MAX_LENGTH];
+        put(buffer, mStartFloatingMode, channel);
+        put(buffer, mSemicolon, channel);
+        put(buffer, mNewLine, channel);
+        for (int i = 0; i < pointCount; i++) {
+            int index = HeadTravelOptimizer.indexAt(order, i);
+            putCoordinate(buffer, mData.getXMillimetre(index), coordinate, channel);
+            put(buffer, mColon, channel);
+            putCoordinate(buffer, mData.getYMillimetre(index), coordinate, channel);
+            if (i < pointCount - 1) {
+                put(buffer, mNewLine, channel);
+            }
+        }
+        put(buffer, mSemicolon, channel);
+        drain(buffer, channel);
+    }
+
+    private static void putCoordinate(final ByteBuffer buffer, final double value, final byte[] coordinate,
+                                      final WritableByteChannel channel) throws IOException {
+        int written = FixedPointEncoder.encode(value, coordinate, 0);
+        if (written >= 0) {
+            put(buffer, coordinate, 0, written, channel);
+        } else {
+            put(buffer, format(value), channel);
+        }
+    }
+
+    private static byte[] format(final double value) {
+        return String.format(Locale.ENGLISH, "%.2f", value).getBytes(StandardCharsets.US_ASCII);
+    }
 }
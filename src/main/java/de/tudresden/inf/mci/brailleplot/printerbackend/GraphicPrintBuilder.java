@@ -1,13 +1,44 @@
 package de.tudresden.inf.mci.brailleplot.printerbackend;
 
 
+import de.tudresden.inf.mci.brailleplot.brailleparser.CompiledBrailleTable;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.configparser.PropertySnapshot;
+import de.tudresden.inf.mci.brailleplot.printabledata.BrailleCell6;
 import de.tudresden.inf.mci.brailleplot.printabledata.MatrixData;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
 /**
  * Class representing the graphic mode protocol from braille Index Everest D4.
+ * The document starts with a temporary document header ([ESC]D ... ;), which sets the graphic dot distance and the
+ * printing area according to the {@link Printer} configuration. It is followed by the lines of Braille cells, which
+ * are embossed on an equidistant grid with the graphic dot distance. The cells are encoded with the braille table of
+ * the printer, straight from the packed dot masks of the {@link MatrixData}.
  * @author Andrey Ruzhanskiy
+ * @version 2019.10.13
  */
-class GraphicPrintBuilder extends AbstractIndexV4Builder<MatrixData> {
+@SuppressWarnings("checkstyle:MagicNumber")
+class GraphicPrintBuilder extends AbstractIndexV4Builder<MatrixData<Boolean>> {
+
+    private static final byte[] LINE_BREAK = {0x0D, 0x0A};
+
+    /**
+     * Supported graphic dot distances in mm, the index equals the value of the GD parameter.
+     */
+    private static final double[] GRAPHIC_DOT_DISTANCES = {2.0, 2.5, 1.6};
+    private static final double DOT_DISTANCE_TOLERANCE = 1e-3;
+
+    private static final int MAX_BINDING_MARGIN = 10;
+    private static final int MAX_CHARS_PER_LINE = 48;
+    private static final int MAX_TOP_MARGIN = 10;
 
     /**
      * Constructor. Does not have any functionality. Should only be used in  {@link PrintDirector}
@@ -15,12 +46,138 @@ class GraphicPrintBuilder extends AbstractIndexV4Builder<MatrixData> {
      GraphicPrintBuilder() { }
 
     /**
-     * Currently not implemented.
+     * Method for assembling the final document from the data parameter.
+     * The document is built by {@link #assembleTo(MatrixData, WritableByteChannel)} into a byte array.
      * @param data Raw data to be printed without any escape sequences
-     * @return Exception.
+     * @return the final, printable document.
      */
     @Override
-    byte[] assemble(final MatrixData data) {
-        throw new UnsupportedOperationException();
+    byte[] assemble(final MatrixData<Boolean> data) {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try {
+            assembleTo(data, Channels.newChannel(stream));
+        } catch (IOException e) {
+            // Not thrown by a ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+        return stream.toByteArray();
+    }
+
+    /**
+     * Method for writing the final document from the data parameter to a channel. First, the header is built from
+     * the printer configuration of the data. Then the lines of Braille cells are written, including the cells at the
+     * right and bottom border, that are only partially covered by the matrix.
+     * @param data Raw data to be printed without any escape sequences
+     * @param channel The channel to write the document to.
+     * @throws IOException If writing to the channel fails.
+     */
+    @Override
+    void assembleTo(final MatrixData<Boolean> data, final WritableByteChannel channel) throws IOException {
+        mData = Objects.requireNonNull(data);
+        Objects.requireNonNull(channel);
+        CompiledBrailleTable table;
+        try {
+            table = CompiledBrailleTable.getTable(mData.getPrinterConfig(), "brailletable", BrailleCell6.DOT_COUNT);
+        } catch (NotSupportedFileExtensionException e) {
+            throw new RuntimeException(e);
+        }
+
+        ByteBuffer buffer = getChannelBuffer();
+        put(buffer, buildHeader(mData.getPrinterConfig()), channel);
+
+        // Getting width and height in braille cells, rounded up.
+        int width = (mData.getColumnCount() + BrailleCell6.COLUMN_COUNT - 1) / BrailleCell6.COLUMN_COUNT;
+        int height = (mData.getRowCount() + BrailleCell6.ROW_COUNT - 1) / BrailleCell6.ROW_COUNT;
+
+        // Buffer for the packed dot masks of one line of cells.
+        int[] cells = new int[width];
+
+        for (int row = 0; row < height; row++) {
+            mData.getCellRowMasks(row, BrailleCell6.COLUMN_COUNT, BrailleCell6.ROW_COUNT, cells);
+            for (int i = 0; i < width; i++) {
+                if (!buffer.hasRemaining()) {
+                    drain(buffer, channel);
+                }
+                buffer.put((byte) table.getByte(cells[i]));
+            }
+            put(buffer, LINE_BREAK, channel);
+        }
+        drain(buffer, channel);
+    }
+
+    /**
+     * Build the temporary document header for the given printer configuration. The graphic dot distance (GD) is
+     * derived from the dot distance of the raster, the binding margin (BI), characters per line (CH), top margin (TM)
+     * and lines per page (LP) from the raster constraints, if specified.
+     * @param printer The printer configuration.
+     * @return The header, starting with [ESC]D and ending with a semicolon.
+     * @throws IllegalArgumentException If the configuration can not be expressed with the parameters of the printer.
+     */
+    byte[] buildHeader(final Printer printer) {
+        Objects.requireNonNull(printer);
+        mGraphicDotDistanceValue = toAscii(getGraphicDotDistance(printer));
+        mBindingMarginValue = toAscii(getRasterConstraint(printer, "raster.constraint.left", MAX_BINDING_MARGIN));
+        mCharsPerLineValue = toAscii(getRasterConstraint(printer, "raster.constraint.width", MAX_CHARS_PER_LINE));
+        mTopMarginValue = toAscii(getRasterConstraint(printer, "raster.constraint.top", MAX_TOP_MARGIN));
+        mLinesPerPageValue = toAscii(getRasterConstraint(printer, "raster.constraint.height", Integer.MAX_VALUE));
+        if (mLinesPerPageValue != null && mTopMarginValue == null) {
+            // LP requires TM
+            mTopMarginValue = toAscii(0);
+        }
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        header.writeBytes(mStartTemporaryDoc);
+        header.writeBytes(mGraphicDotDistanceName);
+        header.writeBytes(mGraphicDotDistanceValue);
+        addParameter(header, mBindingMarginName, mBindingMarginValue);
+        addParameter(header, mCharsPerLineName, mCharsPerLineValue);
+        addParameter(header, mTopMarginName, mTopMarginValue);
+        addParameter(header, mLinesPerPageName, mLinesPerPageValue);
+        header.writeBytes(mSemicolon);
+        return header.toByteArray();
+    }
+
+    private void addParameter(final ByteArrayOutputStream header, final byte[] name, final byte[] value) {
+        if (value == null) {
+            return;
+        }
+        header.writeBytes(mComma);
+        header.writeBytes(name);
+        header.writeBytes(value);
+    }
+
+    private static int getGraphicDotDistance(final Printer printer) {
+        PropertySnapshot properties = printer.snapshot();
+        double horizontal = properties.getDouble("raster.dotDistance.horizontal");
+        double vertical = properties.getDouble("raster.dotDistance.vertical");
+        if (Math.abs(horizontal - vertical) > DOT_DISTANCE_TOLERANCE) {
+            throw new IllegalArgumentException("The graphic mode requires equal horizontal and vertical dot distances, got "
+                    + horizontal + " and " + vertical);
+        }
+        for (int i = 0; i < GRAPHIC_DOT_DISTANCES.length; i++) {
+            if (Math.abs(GRAPHIC_DOT_DISTANCES[i] - horizontal) <= DOT_DISTANCE_TOLERANCE) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("The dot distance " + horizontal + " is not supported by the graphic mode");
+    }
+
+    private static Integer getRasterConstraint(final Printer printer, final String name, final int max) {
+        PropertySnapshot properties = printer.snapshot();
+        if (!properties.contains(name)) {
+            return null;
+        }
+        int value = properties.getInt(name);
+        if (value < 0 || value > max) {
+            throw new IllegalArgumentException("The value of " + name + " must be between 0 and " + max + ", got " + value);
+        }
+        return value;
+    }
+
+    private static byte[] toAscii(final Integer value) {
+        if (value == null) {
+            return null;
+        }
+        return value.toString().getBytes(StandardCharsets.US_ASCII);
     }
 }
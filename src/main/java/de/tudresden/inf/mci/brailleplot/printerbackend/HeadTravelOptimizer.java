@@ -0,0 +1,187 @@
+package de.tudresden.inf.mci.brailleplot.printerbackend;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Orders the dots of a floating dot page, so that the embosser head travels less. The page is divided into horizontal
+ * bands of the height of the embosser head. The bands are processed from top to bottom, the dots within a band
+ * alternately from left to right and from right to left (serpentine order).
+ * The estimated travel distance (sum of the distances between consecutive dots) before and after ordering is logged.
+ * @author Andrey Ruzhanskiy
+ * @version 2019.10.14
+ */
+final class HeadTravelOptimizer {
+
+    /**
+     * Name of the optional printer property specifying the band height in mm. The ordering is disabled if it is
+     * missing or 0.
+     */
+    static final String BAND_HEIGHT_PROPERTY = "floatingDot.bandHeight";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadTravelOptimizer.class);
+
+    // Below this size, insertion sort is faster than merging
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final double mBandHeight;
+
+    /**
+     * Constructor.
+     * @param bandHeight The height of a band in mm, should match the embosser head.
+     * @throws IllegalArgumentException If the band height is not positive.
+     */
+    HeadTravelOptimizer(final double bandHeight) {
+        if (!(bandHeight > 0)) {
+            throw new IllegalArgumentException("The band height must be positive, got " + bandHeight);
+        }
+        mBandHeight = bandHeight;
+    }
+
+    /**
+     * Get the order, in which the dots of the data should be embossed. If the printer configuration of the data
+     * specifies a band height, the dots are ordered by an optimizer, otherwise they keep the order of insertion.
+     * @param data The data.
+     * @return The indices of the dots in the order of embossing, or null if they keep the order of insertion.
+     */
+    static int[] getOrder(final FloatingPointData<?> data) {
+        Printer printer = data.getPrinterConfig();
+        if (printer != null && printer.snapshot().contains(BAND_HEIGHT_PROPERTY)) {
+            double bandHeight = printer.snapshot().getDouble(BAND_HEIGHT_PROPERTY);
+            if (bandHeight > 0) {
+                return new HeadTravelOptimizer(bandHeight).order(data);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Order the dots of the data in serpentine row-band order. The data itself is not changed.
+     * The band and the coordinates of every dot are copied into primitive arrays once, the indices are then sorted by
+     * a stable merge sort, which compares these arrays.
+     * @param data The data.
+     * @return The indices of the dots in the order of embossing.
+     */
+    int[] order(final FloatingPointData<?> data) {
+        int pointCount = data.getPointCount();
+        int[] bands = new int[pointCount];
+        double[] x = new double[pointCount];
+        double[] y = new double[pointCount];
+        int[] order = new int[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            x[i] = data.getXMillimetre(i);
+            y[i] = data.getYMillimetre(i);
+            bands[i] = (int) Math.floor(y[i] / mBandHeight);
+            order[i] = i;
+        }
+        SortKeys keys = new SortKeys(bands, x, y);
+        for (int start = 0; start < pointCount; start += INSERTION_SORT_THRESHOLD) {
+            keys.insertionSort(order, start, Math.min(start + INSERTION_SORT_THRESHOLD, pointCount));
+        }
+        int[] source = order;
+        int[] buffer = new int[pointCount];
+        for (int width = INSERTION_SORT_THRESHOLD; width < pointCount; width *= 2) {
+            for (int start = 0; start < pointCount; start += 2 * width) {
+                keys.merge(source, buffer, start, Math.min(start + width, pointCount), Math.min(start + 2 * width, pointCount));
+            }
+            int[] swap = source;
+            source = buffer;
+            buffer = swap;
+        }
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Estimated head travel for {} dots: {} mm in insertion order, {} mm in band order",
+                    pointCount, Math.round(travelDistance(data, null)), Math.round(travelDistance(data, source)));
+        }
+        return source;
+    }
+
+    /**
+     * Estimate the travel distance of the embosser head, as the sum of the distances between consecutive dots.
+     * @param data The data.
+     * @param order The indices of the dots in the order of embossing, or null for the order of insertion.
+     * @return The travel distance in mm.
+     */
+    static double travelDistance(final FloatingPointData<?> data, final int[] order) {
+        double distance = 0;
+        for (int i = 1; i < data.getPointCount(); i++) {
+            int previous = indexAt(order, i - 1);
+            int current = indexAt(order, i);
+            distance += Math.hypot(data.getXMillimetre(current) - data.getXMillimetre(previous),
+                    data.getYMillimetre(current) - data.getYMillimetre(previous));
+        }
+        return distance;
+    }
+
+    /**
+     * Get the index of the dot, that is embossed at the given position.
+     * @param order The order as returned by {@link #getOrder(FloatingPointData)}, may be null.
+     * @param position The position in the order of embossing.
+     * @return The index of the dot.
+     */
+    static int indexAt(final int[] order, final int position) {
+        if (order == null) {
+            return position;
+        }
+        return order[position];
+    }
+
+    /**
+     * The sort keys of the dots in primitive arrays, so that comparing two indices neither boxes them nor queries the
+     * data.
+     */
+    private static final class SortKeys {
+
+        private final int[] mBands;
+        private final double[] mX;
+        private final double[] mY;
+
+        SortKeys(final int[] bands, final double[] x, final double[] y) {
+            mBands = bands;
+            mX = x;
+            mY = y;
+        }
+
+        private int compare(final int a, final int b) {
+            int band = Integer.compare(mBands[a], mBands[b]);
+            if (band != 0) {
+                return band;
+            }
+            int x = Double.compare(mX[a], mX[b]);
+            if (mBands[a] % 2 != 0) {
+                // Odd bands are traversed from right to left
+                x = -x;
+            }
+            if (x != 0) {
+                return x;
+            }
+            return Double.compare(mY[a], mY[b]);
+        }
+
+        void insertionSort(final int[] order, final int start, final int end) {
+            for (int i = start + 1; i < end; i++) {
+                int index = order[i];
+                int j = i - 1;
+                while (j >= start && compare(order[j], index) > 0) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = index;
+            }
+        }
+
+        // Equal dots keep their order, because the left run wins ties
+        void merge(final int[] source, final int[] target, final int start, final int middle, final int end) {
+            int left = start;
+            int right = middle;
+            for (int i = start; i < end; i++) {
+                if (left < middle && (right >= end || compare(source[left], source[right]) <= 0)) {
+                    target[i] = source[left++];
+                } else {
+                    target[i] = source[right++];
+                }
+            }
+        }
+    }
+}
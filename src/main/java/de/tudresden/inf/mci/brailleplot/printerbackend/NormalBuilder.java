@@ -1,11 +1,15 @@
 package de.tudresden.inf.mci.brailleplot.printerbackend;
 
-import de.tudresden.inf.mci.brailleplot.brailleparser.AbstractBrailleTableParser;
+import de.tudresden.inf.mci.brailleplot.brailleparser.CompiledBrailleTable;
 import de.tudresden.inf.mci.brailleplot.printabledata.BrailleCell6;
 import de.tudresden.inf.mci.brailleplot.printabledata.MatrixData;
 
 import java.io.ByteArrayOutputStream;
-import java.util.Iterator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Objects;
 
 
@@ -18,6 +22,7 @@ import java.util.Objects;
 @SuppressWarnings("checkstyle:MagicNumber")
 class NormalBuilder extends AbstractDocumentBuilder<MatrixData<Boolean>> {
 
+    private static final byte[] LINE_BREAK = {0x0D, 0x0A};
 
     /**
      * Constructor. Does not have any functionality. Should only be used in  {@link PrintDirector}
@@ -26,56 +31,73 @@ class NormalBuilder extends AbstractDocumentBuilder<MatrixData<Boolean>> {
 
     /**
      * Method for assembling the final document from the data parameter.
-     * In normalbuilder, it first sets the correct parser according to the file extension, then initializes the iterator
-     * from the {@link MatrixData} object and the stream for writing bytes into an array and lastly loops through the {@link MatrixData}
-     * to build the correct document.
+     * The document is built by {@link #assembleTo(MatrixData, WritableByteChannel)} into a byte array.
      * @param data Raw data to be printed without any escape sequences
      * @return the final, printable document.
      */
     @Override
     byte[] assemble(final MatrixData<Boolean> data) {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try {
+            assembleTo(data, Channels.newChannel(stream));
+        } catch (IOException e) {
+            // Not thrown by a ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+        return stream.toByteArray();
+    }
+
+    /**
+     * Method for writing the final document from the data parameter to a channel.
+     * In normalbuilder, it first gets the compiled braille table of the printer and lastly loops through the lines of
+     * Braille cells of the {@link MatrixData} to write the correct document through the reusable buffer.
+     * @param data Raw data to be printed without any escape sequences
+     * @param channel The channel to write the document to.
+     * @throws IOException If writing to the channel fails.
+     * @throws IllegalArgumentException If the size of the data is not a multiple of the size of a Braille cell.
+     */
+    @Override
+    void assembleTo(final MatrixData<Boolean> data, final WritableByteChannel channel) throws IOException {
 
 
         //Check if null object was given.
         mData = Objects.requireNonNull(data);
-        // Setting the right parser, catch if not found and throw RuntimeException which can be handled.
+        Objects.requireNonNull(channel);
+        // Only whole Braille cells can be printed.
+        if (mData.getColumnCount() % BrailleCell6.COLUMN_COUNT != 0 || mData.getRowCount() % BrailleCell6.ROW_COUNT != 0) {
+            throw new IllegalArgumentException("The matrix size (" + mData.getRowCount() + "x" + mData.getColumnCount()
+                    + ") is not a multiple of the Braille cell size (" + BrailleCell6.ROW_COUNT + "x" + BrailleCell6.COLUMN_COUNT + ")");
+        }
+        // Getting the compiled braille table (parsed once per table file), catch if not found and throw RuntimeException which can be handled.
+        CompiledBrailleTable table;
         try {
-            mParser = AbstractBrailleTableParser.getParser(mData.getPrinterConfig(), "brailletable");
+            table = CompiledBrailleTable.getTable(mData.getPrinterConfig(), "brailletable", BrailleCell6.DOT_COUNT);
         } catch (NotSupportedFileExtensionException e) {
             throw new RuntimeException();
         }
 
-        // Get iterator for cells.
-        Iterator<BrailleCell6<Boolean>> iter = mData.getBrailleCell6Iterator();
-
-        // Set stream for final output.
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
-
-        // Getting width in braille cells.
-        int width = mData.getColumnCount() / 2;
+        // Set buffer for final output.
+        ByteBuffer buffer = getChannelBuffer();
 
-        // Declaration of  local variables for better readability.
-        BrailleCell6 current;
-        String key;
-        int value;
+        // Getting width and height in braille cells.
+        int width = mData.getColumnCount() / BrailleCell6.COLUMN_COUNT;
+        int height = mData.getRowCount() / BrailleCell6.ROW_COUNT;
 
-        // Count variable for the loop
-        int i = 0;
+        // Buffer for the packed dot masks of one line of cells.
+        int[] cells = new int[width];
 
-        // Loop through data and write to stream.
-        while (iter.hasNext()) {
-            current = iter.next();
-            key = current.getBitRepresentationFromBool();
-            value = mParser.getByteAsIntBackEnd(key);
-            stream.write(value);
-            i++;
-            // Setting the Linebreaks
-            if (i == width) {
-                i = 0;
-                stream.write(0x0D);
-                stream.write(0x0A);
+        // Loop through data line by line and write to buffer, which is drained to the channel when full.
+        for (int row = 0; row < height; row++) {
+            mData.getCellRowMasks(row, BrailleCell6.COLUMN_COUNT, BrailleCell6.ROW_COUNT, cells);
+            for (int i = 0; i < width; i++) {
+                if (!buffer.hasRemaining()) {
+                    drain(buffer, channel);
+                }
+                buffer.put((byte) table.getByte(cells[i]));
             }
+            // Setting the Linebreaks
+            put(buffer, LINE_BREAK, channel);
         }
-        return stream.toByteArray();
+        drain(buffer, channel);
     }
 }
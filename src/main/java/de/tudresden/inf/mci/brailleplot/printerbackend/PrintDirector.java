@@ -17,9 +17,17 @@ import javax.print.SimpleDoc;
 import javax.print.attribute.HashPrintRequestAttributeSet;
 import javax.print.attribute.PrintRequestAttributeSet;
 import javax.print.attribute.standard.JobName;
-import javax.print.attribute.standard.PrinterState;
 import javax.print.event.PrintJobEvent;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 /**
  * Implements a variation of the GoF design pattern Builder. This class is used for setting the printer configuration and
  * for printing.
@@ -28,6 +36,22 @@ import java.util.Objects;
  */
 public class PrintDirector {
 
+    /**
+     * Executor for sending jobs to the print service. A single thread, so jobs are submitted in order.
+     */
+    private static final ExecutorService PRINT_EXECUTOR = createDaemonExecutor("PrintDirector-print");
+
+    /**
+     * Executor for assembling documents of asynchronous jobs, so that the next job is assembled while the current
+     * one is printed.
+     */
+    private static final ExecutorService ASSEMBLY_EXECUTOR = createDaemonExecutor("PrintDirector-assembly");
+
+    /**
+     * Cached result of the print service lookup. Null if the lookup has to be repeated.
+     */
+    private static volatile PrintService[] sServices;
+
     private AbstractDocumentBuilder mBuilder;
     private final PrinterCapability mPrinter;
     private PrintService mService;
@@ -35,6 +59,9 @@ public class PrintDirector {
     private DocFlavor mDocflavor;
     private final Logger mLogger = LoggerFactory.getLogger(PrintDirector.class);
     private DocPrintJob mPrintJob;
+    private ByteArrayOutputStream mDocument = new ByteArrayOutputStream();
+    private int mDocumentPageCount = 0;
+    private CompletableFuture<Void> mLastJob = CompletableFuture.completedFuture(null);
 
 
     /**
@@ -70,30 +97,35 @@ public class PrintDirector {
     }
 
     /**
-     * Public method for printing the given document with the given data.
+     * Public method for printing the given document with the given data. Blocks until the print job is done.
      * @param data {@link de.tudresden.inf.mci.brailleplot.printabledata.MatrixData} to be printed.
      */
-
-
-    // Needed if someone tries to use a normal builder with something that is not a boolean.
-
-    @SuppressWarnings("unchecked")
     public void print(final PrintableData data)  {
         mLogger.info("Starting with print process");
         Objects.requireNonNull(data);
-        mLogger.info("Setting up docflavour and service");
-        setUpDoc();
-        setUpService();
-        byte[] result;
-        mLogger.info("Finished setting up doc and service");
-        try {
-            mLogger.trace("Assembling the data according to protocol: {}", mBuilder.getClass().getCanonicalName());
-            result = mBuilder.assemble(data);
-        } catch (ClassCastException e) {
-            throw new IllegalArgumentException(e.getMessage(), e);
-        }
+        byte[] result = assemble(data);
         mLogger.info("Finished assembling data");
-        print(result);
+        await(startJob(result));
+    }
+
+    /**
+     * Print the given data asynchronously. The data is assembled on a background thread, while the previous job
+     * may still be transferred to the printer. Jobs are sent to the printer in the order of the calls, each one after
+     * the previous job is done (or failed).
+     * @param data The data to be printed.
+     * @return A future, which is completed as soon as the print service reports the job as done. Completed
+     * exceptionally, if the data could not be assembled or the job failed.
+     */
+    public synchronized CompletableFuture<Void> printAsync(final PrintableData data) {
+        Objects.requireNonNull(data);
+        mLogger.info("Queueing asynchronous print job");
+        CompletableFuture<byte[]> assembled = CompletableFuture.supplyAsync(() -> assemble(data), ASSEMBLY_EXECUTOR);
+        // A failed job must not stop the following ones
+        CompletableFuture<Void> previous = mLastJob.exceptionally(e -> null);
+        CompletableFuture<Void> job = assembled.thenCombine(previous, (bytes, ignored) -> bytes)
+                .thenComposeAsync(this::startJob, PRINT_EXECUTOR);
+        mLastJob = job;
+        return job;
     }
 
     /**
@@ -101,19 +133,101 @@ public class PrintDirector {
      * @param data Data to be later dumped.
      * @return Byte array containing the sequence for the printer.
      */
-    @SuppressWarnings("unchecked")
     public byte[] byteDump(final PrintableData data) {
         mLogger.info("Starting with textdump process");
-        byte[] result;
-        try {
-            mLogger.trace("Assembling the data according to protocol: {}", mBuilder.getClass().getCanonicalName());
-            result = mBuilder.assemble(data);
-        } catch (ClassCastException e) {
-            throw new IllegalArgumentException(e.getMessage(), e);
-        }
+        byte[] result = assemble(data);
         mLogger.info("Finished with creating textdump");
         return result;
     }
+
+    /**
+     * Method for writing the byte sequence for the printer to a channel (e.g. of a file), without creating the whole
+     * sequence in memory first. The channel is not closed.
+     * @param data Data to be dumped.
+     * @param channel The channel to write the sequence to.
+     * @throws IOException If writing to the channel fails.
+     */
+    public void byteDump(final PrintableData data, final WritableByteChannel channel) throws IOException {
+        mLogger.info("Starting with textdump process");
+        assembleTo(data, channel);
+        mLogger.info("Finished with creating textdump");
+    }
+
+    /**
+     * Assemble the given page and append it to the pending multi-page document. Pages are separated by the
+     * page separator of the protocol (a form feed). The document is sent to the printer with {@link #printDocument()}.
+     * @param data The page to be appended.
+     */
+    public void addToDocument(final PrintableData data) {
+        Objects.requireNonNull(data);
+        if (mDocumentPageCount > 0) {
+            mDocument.writeBytes(mBuilder.getPageSeparator());
+        }
+        try {
+            assembleTo(data, Channels.newChannel(mDocument));
+        } catch (IOException e) {
+            // Not thrown by a ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+        mDocumentPageCount++;
+    }
+
+    /**
+     * Print all pages added with {@link #addToDocument(PrintableData)} as a single print job and wait for its completion.
+     * Afterwards, the pending document is empty again.
+     * @throws IllegalStateException If no page was added to the document.
+     */
+    public void printDocument() {
+        if (mDocumentPageCount == 0) {
+            throw new IllegalStateException("The document does not contain any pages");
+        }
+        mLogger.info("Printing document with {} pages as a single print job", mDocumentPageCount);
+        byte[] document = mDocument.toByteArray();
+        mDocument = new ByteArrayOutputStream();
+        mDocumentPageCount = 0;
+        await(startJob(document));
+    }
+
+    /**
+     * Assemble the data according to the protocol. The builders keep state while assembling, so concurrent calls
+     * (i.e. byte dumps while asynchronous jobs are assembled) are serialized.
+     * @param data The data to assemble.
+     * @return The assembled document.
+     */
+    @SuppressWarnings("unchecked")
+    private byte[] assemble(final PrintableData data) {
+        synchronized (mBuilder) {
+            try {
+                mLogger.trace("Assembling the data according to protocol: {}", mBuilder.getClass().getCanonicalName());
+                return mBuilder.assemble(data);
+            } catch (ClassCastException e) {
+                // Needed if someone tries to use a normal builder with something that is not a boolean.
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Assemble the data according to the protocol and write it to the channel. Serialized like
+     * {@link #assemble(PrintableData)}, as the builder reuses its buffer.
+     * @param data The data to assemble.
+     * @param channel The channel to write the document to.
+     * @throws IOException If writing to the channel fails.
+     */
+    @SuppressWarnings("unchecked")
+    private void assembleTo(final PrintableData data, final WritableByteChannel channel) throws IOException {
+        Objects.requireNonNull(data);
+        synchronized (mBuilder) {
+            try {
+                mLogger.trace("Assembling the data according to protocol: {}", mBuilder.getClass().getCanonicalName());
+                mBuilder.assembleTo(data, channel);
+            } catch (ClassCastException e) {
+                // Needed if someone tries to use a normal builder with something that is not a boolean.
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        }
+    }
+
     /**
      * Method for setting up the DocFlavor for printing. Currently, not parameterised because the printer can
      * (hopefully) understand raw bytes with an octet stream.
@@ -124,29 +238,52 @@ public class PrintDirector {
 
 
     /**
-     * Method for setting the correct printer service for the printer name.
+     * Method for setting the correct printer service for the printer name. The services known to the system are
+     * looked up once and cached. If the printer is not among the cached services, the lookup is repeated once,
+     * in case it was added in the meantime.
      * @throws RuntimeException If the system cant find the service.
      */
 
     private void setUpService() {
         Objects.requireNonNull(mPrinterName);
-        PrintService[] services = PrintServiceLookup.lookupPrintServices(null, null);
+        PrintService service = findService(lookupPrintServices(false));
+        if (service == null) {
+            service = findService(lookupPrintServices(true));
+        }
+        if (service == null) {
+            throw new RuntimeException("Cant register Printerservice for the printername : " + mPrinterName);
+        }
+        mService = service;
+    }
+
+    private PrintService findService(final PrintService[] services) {
         for (PrintService service: services) {
             if (service.getName().equals(mPrinterName) || mPrinterName.equals("Dummy Printer")) {
-                mService = service;
-                return;
+                return service;
             }
         }
-        throw new RuntimeException("Cant register Printerservice for the printername : " + mPrinterName);
+        return null;
     }
 
     /**
-     * Private method for sending the data to the printer. Separated from the public method so that the assemble process
-     * and the printing process are separated logically, but from outside it looks like it all happens in one method.
+     * Set up the doc flavor and the service and send the data to the printer.
      * @param data Data to be printed.
+     * @return A future, which is completed as soon as the print service reports the job as done.
      */
+    private synchronized CompletableFuture<Void> startJob(final byte[] data) {
+        mLogger.info("Setting up docflavour and service");
+        setUpDoc();
+        setUpService();
+        mLogger.info("Finished setting up doc and service");
+        return submitJob(data);
+    }
 
-    private void print(final byte[] data) {
+    /**
+     * Sends the data to the printer without waiting for the job to be done.
+     * @param data Data to be printed.
+     * @return A future, which is completed by the {@link PrintJobListener} as soon as the job is done.
+     */
+    private CompletableFuture<Void> submitJob(final byte[] data) {
         Objects.requireNonNull(data);
         Objects.requireNonNull(mService);
         Objects.requireNonNull(mDocflavor);
@@ -155,24 +292,35 @@ public class PrintDirector {
         PrintRequestAttributeSet asset = new HashPrintRequestAttributeSet();
         DocPrintJob job = mService.createPrintJob();
         mLogger.trace("Finished setting up doc, asset and job");
-        PrinterState state;
         asset.add(new JobName("Braille Printing", null));
+        CompletableFuture<Void> done = new CompletableFuture<>();
         try {
             mLogger.trace("Adding job to the PrintJobListener");
-            PrintJobListener listener = new PrintJobListener();
-            job.addPrintJobListener(listener);
+            job.addPrintJobListener(new PrintJobListener(done));
             mLogger.trace("Starting printing");
-            //PrinterIsAcceptingJobs set = mService.getAttribute(PrinterIsAcceptingJobs.class);
-            //PrinterStateReasons reasons = mService.getAttribute(PrinterStateReasons.class);
             job.print(doc, asset);
-            //set = mService.getAttribute(PrinterIsAcceptingJobs.class);
-            //reasons = mService.getAttribute(PrinterStateReasons.class);
-            listener.waitForDone();
             mPrintJob = job;
         } catch (PrintException pe) {
+            // The cached service might be stale
+            invalidatePrintServices();
             throw new RuntimeException(pe);
         }
+        return done;
+    }
 
+    /**
+     * Wait for a print job and rethrow its failure.
+     * @param job The future of the print job.
+     */
+    private static void await(final CompletableFuture<Void> job) {
+        try {
+            job.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     /**
@@ -180,19 +328,50 @@ public class PrintDirector {
      * @return true, if activated, false if not.
      */
     public static boolean isPrintServiceOn() {
-        PrintService[] services = PrintServiceLookup.lookupPrintServices(null, null);
+        PrintService[] services = lookupPrintServices(false);
         if (services.length == 0) {
-            return false;
+            // Do not rely on a cached negative result
+            services = lookupPrintServices(true);
         }
-        return true;
+        return services.length > 0;
+    }
+
+    /**
+     * Discard the cached print services, so that the next print job looks them up again.
+     * Should be called if printers were added to or removed from the system.
+     */
+    public static void invalidatePrintServices() {
+        sServices = null;
+    }
+
+    private static PrintService[] lookupPrintServices(final boolean refresh) {
+        PrintService[] services = sServices;
+        if (services == null || refresh) {
+            services = PrintServiceLookup.lookupPrintServices(null, null);
+            sServices = services;
+        }
+        return services;
+    }
+
+    private static ExecutorService createDaemonExecutor(final String name) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
      * Eventlistener which receives updates regarding printing.
      * Because of enormous shortcoming in the implementation of printing in java, some events are never received.
+     * The job is considered done as soon as any of the final events (completed, failed, canceled, no more events) arrives.
      */
     private class PrintJobListener implements javax.print.event.PrintJobListener {
-        boolean done = false;
+        private final CompletableFuture<Void> mDone;
+
+        PrintJobListener(final CompletableFuture<Void> done) {
+            mDone = done;
+        }
 
         @Override
         public void printDataTransferCompleted(final PrintJobEvent pje) {
@@ -202,52 +381,31 @@ public class PrintDirector {
         @Override
         public void printJobCompleted(final PrintJobEvent pje) {
             mLogger.info("Printjob completed");
-            synchronized (PrintJobListener.this) {
-                done = true;
-                PrintJobListener.this.notify();
-            }
+            mDone.complete(null);
         }
 
         @Override
         public void printJobFailed(final PrintJobEvent pje) {
             mLogger.info("Printjob failed");
-            synchronized (PrintJobListener.this) {
-                done = true;
-                PrintJobListener.this.notify();
-            }
+            invalidatePrintServices();
+            mDone.completeExceptionally(new RuntimeException("The print job failed"));
         }
 
         @Override
         public void printJobCanceled(final PrintJobEvent pje) {
             mLogger.info("Printjob was canceled");
-            synchronized (PrintJobListener.this) {
-                done = true;
-                PrintJobListener.this.notify();
-            }
+            mDone.completeExceptionally(new RuntimeException("The print job was canceled"));
         }
 
         @Override
         public void printJobNoMoreEvents(final PrintJobEvent pje) {
             mLogger.info("Printjob has no more events");
-            synchronized (PrintJobListener.this) {
-                done = true;
-            }
+            mDone.complete(null);
         }
 
         @Override
         public void printJobRequiresAttention(final PrintJobEvent pje) {
-            mLogger.info("Printjob requires attention");
-            PrintJobListener.this.notify();
-        }
-        public synchronized void waitForDone() {
-            try {
-                // Not busy waiting, sleeping as long as not notified.
-                while (!done) {
-                    wait();
-                }
-            } catch (InterruptedException e) {
-                return;
-            }
+            mLogger.warn("Printjob requires attention");
         }
     }
 
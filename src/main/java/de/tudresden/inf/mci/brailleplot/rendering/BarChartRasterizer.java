@@ -85,21 +85,21 @@ public class BarChartRasterizer implements Rasterizer<CategoricalBarChart> {
         final double tenth = 0.1, fifth = 0.2, quarter = 0.25, half = 0.5, full = 1.0;
         mUnitScalings = new double[]{tenth, fifth, quarter, half, full};
 
-        mMaximumTitleHeightCells = canvas.getRepresentation().getProperty("general.maxTitleHeight").toInt();
+        mMaximumTitleHeightCells = canvas.getRepresentationProperties().getInt("general.maxTitleHeight");
         mCaptionLengthCells = 1;
         mXAxisHeightCells = 2;
 
-        mMaxBarThicknessCells = canvas.getRepresentation().getProperty("rasterize.barChart.maxBarThickness").toInt();
-        mMinBarThicknessCells = canvas.getRepresentation().getProperty("rasterize.barChart.minBarThickness").toInt();
+        mMaxBarThicknessCells = canvas.getRepresentationProperties().getInt("rasterize.barChart.maxBarThickness");
+        mMinBarThicknessCells = canvas.getRepresentationProperties().getInt("rasterize.barChart.minBarThickness");
 
-        mTitlePaddingCells = canvas.getRepresentation().getProperty("rasterize.barChart.padding.title").toInt();
-        mCaptionPaddingCells = canvas.getRepresentation().getProperty("rasterize.barChart.padding.caption").toInt();
-        mGroupPaddingCells = canvas.getRepresentation().getProperty("rasterize.barChart.padding.groups").toInt();
-        mBarPaddingCells = canvas.getRepresentation().getProperty("rasterize.barChart.padding.bars").toInt();
+        mTitlePaddingCells = canvas.getRepresentationProperties().getInt("rasterize.barChart.padding.title");
+        mCaptionPaddingCells = canvas.getRepresentationProperties().getInt("rasterize.barChart.padding.caption");
+        mGroupPaddingCells = canvas.getRepresentationProperties().getInt("rasterize.barChart.padding.groups");
+        mBarPaddingCells = canvas.getRepresentationProperties().getInt("rasterize.barChart.padding.bars");
 
-        nonexistentDataText = canvas.getRepresentation().getProperty("general.nonexistentDataText").toString();
+        nonexistentDataText = canvas.getRepresentationProperties().getString("general.nonexistentDataText");
 
-        mBrailleLanguage = BrailleLanguage.Language.valueOf(canvas.getRepresentation().getProperty("general.brailleLanguage").toString());
+        mBrailleLanguage = BrailleLanguage.Language.valueOf(canvas.getRepresentationProperties().getString("general.brailleLanguage"));
 
         // Load textures
         double[] rotate90 = {0, 0, 0, 1, 1, 0};
@@ -0,0 +1,117 @@
+package de.tudresden.inf.mci.brailleplot.rendering;
+
+import de.tudresden.inf.mci.brailleplot.brailleparser.AbstractBrailleTableParser;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
+import de.tudresden.inf.mci.brailleplot.printabledata.BoolMatrixDataImpl;
+import de.tudresden.inf.mci.brailleplot.printabledata.MatrixData;
+import de.tudresden.inf.mci.brailleplot.printerbackend.NotSupportedFileExtensionException;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of pre-rasterized braille glyphs of a semantic table. Each entry of the table ("110000", or several cells
+ * separated by "," for special characters) is compiled only once into dot masks, one int per cell. The dots of a
+ * cell are indexed top to bottom and then left to right, like in {@link MatrixData#getCellRowMasks}.
+ * The caches are shared process-wide, one per semantic table, so that the table is also only parsed once, although
+ * the rasterizers create new text rasterizers for every rendering.
+ * @author Andrey Ruzhanskiy
+ * @version 2019.10.16
+ */
+public final class BrailleGlyphCache {
+
+    private static final String SEMANTIC_TABLE_PROPERTY = "semantictable";
+    private static final Map<String, BrailleGlyphCache> CACHES = new ConcurrentHashMap<>();
+
+    private final AbstractBrailleTableParser mParser;
+    private final Map<String, int[]> mGlyphs = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     * @param parser The parser of the semantic table.
+     */
+    BrailleGlyphCache(final AbstractBrailleTableParser parser) {
+        mParser = Objects.requireNonNull(parser);
+    }
+
+    /**
+     * Get the shared glyph cache for the semantic table of the given printer. It is created on the first request.
+     * @param printer The printer, whose property "semantictable" specifies the table.
+     * @return The glyph cache.
+     * @throws RuntimeException If the semantic table can not be parsed.
+     */
+    public static BrailleGlyphCache getInstance(final Printer printer) {
+        Objects.requireNonNull(printer, "The given printer for the BrailleGlyphCache was null!");
+        String table = printer.getProperty(SEMANTIC_TABLE_PROPERTY).toString();
+        return CACHES.computeIfAbsent(table, key -> {
+            try {
+                return new BrailleGlyphCache(AbstractBrailleTableParser.getParser(printer, SEMANTIC_TABLE_PROPERTY));
+            } catch (NotSupportedFileExtensionException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * Get the glyph of a character, e.g. "a" or "CAP".
+     * @param key The key of the character in the semantic table.
+     * @return The dot masks of the cells of the glyph, usually only one. The array is shared and must not be modified.
+     * @throws RuntimeException If the character is not contained in the semantic table.
+     */
+    public int[] getGlyph(final String key) {
+        Objects.requireNonNull(key, "The given key for getGlyph was null!");
+        return mGlyphs.computeIfAbsent(key, k -> compile(mParser.getCharToBraille(k)));
+    }
+
+    /**
+     * Compile an entry of the semantic table into dot masks.
+     * @param braille The entry, e.g. "110000", or several cells separated by ",".
+     * @return The dot masks, one per cell. Bit i is set, if the i-th character of the cell is '1'.
+     */
+    static int[] compile(final String braille) {
+        String[] cells = braille.split(",");
+        int[] masks = new int[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            String cell = cells[i].trim();
+            if (cell.length() > Integer.SIZE) {
+                throw new IllegalArgumentException("The braille cell '" + cell + "' has more than " + Integer.SIZE + " dots");
+            }
+            for (int dot = 0; dot < cell.length(); dot++) {
+                if (cell.charAt(dot) == '1') {
+                    masks[i] |= 1 << dot;
+                }
+            }
+        }
+        return masks;
+    }
+
+    /**
+     * Write one cell into the page. All dots of the cell are overwritten, dots without a set bit in the mask are
+     * set to false.
+     * @param page The page to write to.
+     * @param row The row index of the upper left dot of the cell.
+     * @param column The column index of the upper left dot of the cell.
+     * @param width The width of a cell.
+     * @param height The height of a cell.
+     * @param mask The dots of the cell.
+     * @throws InsufficientRenderingAreaException If the cell exceeds the bounds of the page.
+     */
+    public static void stamp(final MatrixData<Boolean> page, final int row, final int column, final int width,
+                             final int height, final int mask) throws InsufficientRenderingAreaException {
+        try {
+            if (page instanceof BoolMatrixDataImpl) {
+                ((BoolMatrixDataImpl) page).setCellMask(row, column, width, height, mask);
+                return;
+            }
+            for (int dx = 0; dx < width; dx++) {
+                for (int dy = 0; dy < height; dy++) {
+                    page.setValue(row + dy, column + dx, ((mask >>> (dx * height + dy)) & 1) != 0);
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new InsufficientRenderingAreaException("The area given to the brailletextrasterizer was too small!");
+        }
+    }
+}
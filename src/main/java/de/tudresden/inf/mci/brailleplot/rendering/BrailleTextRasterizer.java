@@ -1,11 +1,9 @@
 package de.tudresden.inf.mci.brailleplot.rendering;
 
-import de.tudresden.inf.mci.brailleplot.brailleparser.AbstractBrailleTableParser;
 import de.tudresden.inf.mci.brailleplot.configparser.Printer;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
 import de.tudresden.inf.mci.brailleplot.layout.RasterCanvas;
 import de.tudresden.inf.mci.brailleplot.layout.Rectangle;
-import de.tudresden.inf.mci.brailleplot.printerbackend.NotSupportedFileExtensionException;
 
 
 
@@ -17,7 +15,7 @@ import de.tudresden.inf.mci.brailleplot.printerbackend.NotSupportedFileExtension
 @Deprecated
 public final class BrailleTextRasterizer implements Rasterizer<BrailleText> {
 
-    private AbstractBrailleTableParser mParser;
+    private BrailleGlyphCache mGlyphs;
 
 
     // Parameters for rasterizing
@@ -36,11 +34,7 @@ public final class BrailleTextRasterizer implements Rasterizer<BrailleText> {
     // TODO:
 
     public BrailleTextRasterizer(final Printer printer) {
-        try {
-            mParser = AbstractBrailleTableParser.getParser(printer, "semantictable");
-        } catch (NotSupportedFileExtensionException e) {
-            throw new RuntimeException(e);
-        }
+        mGlyphs = BrailleGlyphCache.getInstance(printer);
     }
 
 
@@ -103,12 +97,11 @@ public final class BrailleTextRasterizer implements Rasterizer<BrailleText> {
     }
 
 
-    private boolean checkForSpecialChars(final String check) {
-        String possibleMultiString = mParser.getCharToBraille(check);
-        if (possibleMultiString.length() > mCanvas.getCellHeight() * mCanvas.getCellWidth()) {
-            String[] possibleStringArray = possibleMultiString.split(",");
-            for (int i = 0; i < possibleStringArray.length; i++) {
-                rasterizeBrailleCell(possibleStringArray[i].split(""), x, y, mCanvas);
+    private boolean checkForSpecialChars(final String check) throws InsufficientRenderingAreaException {
+        int[] glyph = mGlyphs.getGlyph(check);
+        if (glyph.length > 1) {
+            for (int i = 0; i < glyph.length; i++) {
+                rasterizeBrailleCell(glyph[i], x, y, mCanvas);
                 jumpToNextCell();
             }
             return true;
@@ -120,17 +113,15 @@ public final class BrailleTextRasterizer implements Rasterizer<BrailleText> {
      * Method for writing the given String, assuming its a char.
      * @param s
      */
-    private void writeChar(final String s) {
-        String[] braille = mParser.getCharToBraille(s).split("");
-        rasterizeBrailleCell(braille, x, y, mCanvas);
+    private void writeChar(final String s) throws InsufficientRenderingAreaException {
+        rasterizeBrailleCell(mGlyphs.getGlyph(s)[0], x, y, mCanvas);
         jumpToNextCell();
     }
 
-    private boolean checkAndWriteForUpperCase(final char charAt) {
+    private boolean checkAndWriteForUpperCase(final char charAt) throws InsufficientRenderingAreaException {
         // If the char is uppercase, we need to add a special char(CAP) to signal that the coming braille char is uppercase
         if (Character.isUpperCase(charAt)) {
-            String[] specialUpperChar = mParser.getCharToBraille("CAP").split("");
-            rasterizeBrailleCell(specialUpperChar, x, y, mCanvas);
+            rasterizeBrailleCell(mGlyphs.getGlyph("CAP")[0], x, y, mCanvas);
             jumpToNextCell();
             return true;
         }
@@ -150,22 +141,13 @@ public final class BrailleTextRasterizer implements Rasterizer<BrailleText> {
 
     /**
      * Helper method to rasterize a single Braille cell on a given canvas with an index.
-     * @param letterAsBraille Braillecell to set on the canvas.
+     * @param glyph Braillecell to set on the canvas, as dot mask of the {@link BrailleGlyphCache}.
      * @param offsetX Offset to ensure that we set the values on the correct X positions.
      * @param canvas Where to set the values.
      */
 
-    private void rasterizeBrailleCell(final String[] letterAsBraille, final int offsetX, final int offsetY, final RasterCanvas canvas) {
-        int temp = 0;
-        for (int j = 0; j < canvas.getCellWidth(); j++) {
-            for (int k = 0; k < canvas.getCellHeight(); k++) {
-                // If it is 1, returns 1, if not return false
-                canvas.getCurrentPage().setValue(k + offsetY, j + offsetX, letterAsBraille[temp].equals("1"));
-                boolean a = canvas.getCurrentPage().getValue(k, j);
-                temp++;
-
-            }
-        }
+    private void rasterizeBrailleCell(final int glyph, final int offsetX, final int offsetY, final RasterCanvas canvas) throws InsufficientRenderingAreaException {
+        BrailleGlyphCache.stamp(canvas.getCurrentPage(), offsetY, offsetX, canvas.getCellWidth(), canvas.getCellHeight(), glyph);
     }
 
 
@@ -197,10 +179,12 @@ public final class BrailleTextRasterizer implements Rasterizer<BrailleText> {
     public int calculateRequiredWidth(final String text, final RasterCanvas canvas) {
         // TODO: Add calculations for required width to fit the given text into the given canvas. (Extra spacing for equidistant grid!)
         // Until then we use a dummy value assuming single character on braille grid:
-        String mode = canvas.getPrinter().getProperty("mode").toString();
+        String mode = canvas.getPrinterProperties().getString("mode");
         switch (mode) {
         //    case "normalprinter": return calculateWidthNormal(text, xPos, yPos, canvas);
-            case "normalprinter": return Math.min((int) getBrailleStringLengthInCells(text, canvas), canvas.getCellRectangle().intWrapper().getX());
+            case "normalprinter":
+            case "index_everest_d_v4_graphic_printer":
+                return Math.min((int) getBrailleStringLengthInCells(text, canvas), canvas.getCellRectangle().intWrapper().getX());
             // For the time being
             default: throw new UnsupportedOperationException();
         }
@@ -222,11 +206,7 @@ public final class BrailleTextRasterizer implements Rasterizer<BrailleText> {
         String lowerText = text.toLowerCase();
         String[] textAsArray = lowerText.split("");
         for (int i = 0; i < textAsArray.length; i++) {
-            if (mParser.getCharToBraille(textAsArray[i]).split(",").length > 1) {
-                String[] test = mParser.getCharToBraille(textAsArray[i]).split(",");
-                result += mParser.getCharToBraille(textAsArray[i]).split(",").length;
-                result--;
-            }
+            result += mGlyphs.getGlyph(textAsArray[i]).length - 1;
         }
         return result;
     }
@@ -40,7 +40,7 @@ public class LegendRasterizer implements Rasterizer<Legend> {
         mTextRasterizer = new LiblouisBrailleTextRasterizer(canvas.getPrinter());
         mCanvas = canvas;
         mLegend = legend;
-        mLegendKeyword = mCanvas.getRepresentation().getProperty("general.legendKeyword").toString();
+        mLegendKeyword = mCanvas.getRepresentationProperties().getString("general.legendKeyword");
 
         // Create a fresh page on the canvas.
         canvas.getNewPage();
@@ -1,48 +1,39 @@
 package de.tudresden.inf.mci.brailleplot.rendering;
 
 import de.tudresden.inf.mci.brailleplot.rendering.language.BrailleLanguage;
-import de.tudresden.inf.mci.brailleplot.util.GeneralResource;
-import de.tudresden.inf.mci.brailleplot.brailleparser.AbstractBrailleTableParser;
 import de.tudresden.inf.mci.brailleplot.configparser.Printer;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
 import de.tudresden.inf.mci.brailleplot.layout.RasterCanvas;
 import de.tudresden.inf.mci.brailleplot.layout.Rectangle;
-import de.tudresden.inf.mci.brailleplot.printerbackend.NotSupportedFileExtensionException;
 import de.tudresden.inf.mci.brailleplot.util.NativeLibraryHelper;
 import de.tudresden.inf.mci.brailleplot.util.NoSuchNativeLibraryException;
-import org.liblouis.DisplayException;
-import org.liblouis.DisplayTable;
 import org.liblouis.Louis;
-import org.liblouis.TranslationException;
-import org.liblouis.TranslationResult;
-import org.liblouis.Translator;
 
-import java.io.File;
 import java.util.Objects;
 
 import static java.lang.Math.ceil;
 
 /**
  * Class representing a brailletextrasterizing approach using the liblouis library.
+ * The translators are shared via the {@link LiblouisTranslatorRegistry}, the glyphs of the semantic table via the
+ * {@link BrailleGlyphCache}.
  * @author Andrey Ruzhanskiy
  * @version 27.09.2019
  */
 
 public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
 
-    private static boolean mNativeLibInitialized = false;
+    private static volatile boolean mNativeLibInitialized = false;
 
-    private AbstractBrailleTableParser mParser;
+    private BrailleGlyphCache mGlyphs;
     // Parameters for rasterizing
     private int x;
     private int y;
     private int origX;
     private RasterCanvas mCanvas;
     private int mMaxWidth;
-    private Translator mTranslator;
-
-    // translator needs whole table directory, therefore it is exported one time at start (static resource).
-    private static File mLibLouisTableDirectory = GeneralResource.getOrExportResourceFile("mapping/liblouis/");
+    // Name of the liblouis table, the shared translator is taken from the LiblouisTranslatorRegistry.
+    private String mTable = LiblouisTranslatorRegistry.DEFAULT_TABLE;
 
     /**
      * Constructor for liblouistextrasterizer.
@@ -51,18 +42,7 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
      */
     public LiblouisBrailleTextRasterizer(final Printer printer) {
         Objects.requireNonNull(printer, "The given printer for the LiblouisBrailleTextRasterizer was null!");
-        try {
-            mParser = AbstractBrailleTableParser.getParser(printer, "semantictable");
-        } catch (NotSupportedFileExtensionException e) {
-            throw new RuntimeException(e);
-        }
-        try {
-            File tableFile = mLibLouisTableDirectory.toPath().resolve("de-g0.utb").toFile(); // reference to specific table file in exported directory
-            String tableFilePath = tableFile.getAbsolutePath();
-            mTranslator = new Translator(tableFilePath);
-        } catch (Exception e) {
-            throw new RuntimeException("Error while creating liblouis translator", e);
-        }
+        mGlyphs = BrailleGlyphCache.getInstance(printer);
     }
 
 
@@ -73,22 +53,10 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
         if (data.getText() == "") {
             return;
         }
-        try {
-            File tableFile = mLibLouisTableDirectory.toPath().resolve(data.getLanguage()).toFile(); // reference to specific table file in exported directory
-            String tableFilePath = tableFile.getAbsolutePath();
-            mTranslator = new Translator(tableFilePath);
-        } catch (Exception e) {
-            throw new RuntimeException("Error while creating liblouis translator", e);
-        }
+        mTable = data.getLanguage();
         Rectangle rect = data.getArea().intersectedWith(canvas.getDotRectangle());
         mCanvas = canvas;
-        TranslationResult result = null;
-        try {
-            result = mTranslator.translate(data.getText(), null, null, null, DisplayTable.StandardDisplayTables.DEFAULT);
-        } catch (TranslationException | DisplayException e) {
-            e.printStackTrace();
-        }
-        String[] resultAsArray = result.getBraille().split("");
+        String[] resultAsArray = LiblouisTranslatorRegistry.translate(mTable, data.getText()).split("");
 
 
         // We need to know where to start
@@ -102,29 +70,10 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
 
     }
 
-    private void writeToCanvas(final String[] braille, final int offsetX, final int offsetY, final RasterCanvas canvas) throws InsufficientRenderingAreaException {
-        Objects.requireNonNull(braille, "The string array given to writeToCanvas in liblouisBraileTextRasterizer was null!");
-        Objects.requireNonNull(canvas, "The canvas given to writeToCanvas was null");
-        int temp = 0;
-        for (int j = 0; j < canvas.getCellWidth(); j++) {
-            for (int k = 0; k < canvas.getCellHeight(); k++) {
-                // If it is 1, returns 1, if not return false
-                try {
-                    canvas.getCurrentPage().setValue(k + offsetY, j + offsetX, braille[temp].equals("1"));
-                    boolean a = canvas.getCurrentPage().getValue(k, j);
-                    temp++;
-                } catch (IndexOutOfBoundsException e) {
-                    throw new InsufficientRenderingAreaException("The area given to the brailletextrasterizer was too small!");
-                }
-
-            }
-        }
-    }
-
     private void writeChar(final String s) throws InsufficientRenderingAreaException {
         Objects.requireNonNull(s, "The given String to writeChar was null!");
-        String[] braille = mParser.getCharToBraille(s).split("");
-        writeToCanvas(braille, x, y, mCanvas);
+        int[] glyph = mGlyphs.getGlyph(s);
+        BrailleGlyphCache.stamp(mCanvas.getCurrentPage(), y, x, mCanvas.getCellWidth(), mCanvas.getCellHeight(), glyph[0]);
         jumpToNextCell();
     }
 
@@ -152,15 +101,7 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
         Objects.requireNonNull(text, "The given string for calculateRequiredHeight was null!");
         Objects.requireNonNull(canvas, "The given canvas for calculateRequiredHeight was null!");
 
-        TranslationResult result = null;
-        try {
-            result = mTranslator.translate(text, null, null, null, DisplayTable.StandardDisplayTables.DEFAULT);
-        } catch (TranslationException e) {
-            e.printStackTrace();
-        } catch (DisplayException e) {
-            e.printStackTrace();
-        }
-        String sResult = result.getBraille();
+        String sResult = LiblouisTranslatorRegistry.translate(mTable, text);
         int widthOfText = sResult.length();
         int tempMaxWidth;
         // If its not dividable by two, make it dividable by two;
@@ -186,17 +127,13 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
                                        final RasterCanvas canvas, final BrailleLanguage.Language language) {
         Objects.requireNonNull(text, "The given string for calculateRequiredHeight was null!");
         Objects.requireNonNull(canvas, "The given canvas for calculateRequiredHeight was null!");
-        Translator temp = mTranslator;
+        String temp = mTable;
+        mTable = BrailleLanguage.getCorrectLanguage(language);
         try {
-            File tableFile = mLibLouisTableDirectory.toPath().resolve(BrailleLanguage.getCorrectLanguage(language)).toFile(); // reference to specific table file in exported directory
-            String tableFilePath = tableFile.getAbsolutePath();
-            mTranslator = new Translator(tableFilePath);
-        } catch (Exception e) {
-            throw new RuntimeException("Error while creating liblouis translator", e);
+            return calculateRequiredHeight(text, maxWidth, canvas);
+        } finally {
+            mTable = temp;
         }
-        int length = calculateRequiredHeight(text, maxWidth, canvas);
-        mTranslator = temp;
-        return length;
     }
 
 
@@ -210,15 +147,7 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
         if (text == "") {
             return 0;
         }
-        TranslationResult result = null;
-        try {
-            result = mTranslator.translate(text, null, null, null, DisplayTable.StandardDisplayTables.DEFAULT);
-        } catch (TranslationException e) {
-            e.printStackTrace();
-        } catch (DisplayException e) {
-            e.printStackTrace();
-        }
-        return result.getBraille().length();
+        return LiblouisTranslatorRegistry.translate(mTable, text).length();
     }
 
     /**
@@ -232,24 +161,14 @@ public class LiblouisBrailleTextRasterizer implements Rasterizer<BrailleText> {
         if (text == "") {
             return 0;
         }
-        Translator temp = mTranslator;
-        try {
-            File tableFile = mLibLouisTableDirectory.toPath().resolve(BrailleLanguage.getCorrectLanguage(language)).toFile(); // reference to specific table file in exported directory
-            String tableFilePath = tableFile.getAbsolutePath();
-            mTranslator = new Translator(tableFilePath);
-        } catch (Exception e) {
-            throw new RuntimeException("Error while creating liblouis translator", e);
-        }
-        int length = getBrailleStringLength(text);
-        mTranslator = temp;
-        return length;
+        return LiblouisTranslatorRegistry.translate(BrailleLanguage.getCorrectLanguage(language), text).length();
     }
 
     /**
-     * Initializes the Module.
+     * Initializes the Module. May be called from any thread, the library is only loaded once.
      * @throws LibLouisLibraryMissingException If liblouis could not be loaded from neither the jar or the default JNI include path.
      */
-    public static void initModule() throws LibLouisLibraryMissingException {
+    public static synchronized void initModule() throws LibLouisLibraryMissingException {
         if (!mNativeLibInitialized) {
             try {
                 NativeLibraryHelper.loadNativeLibrary("liblouis");
@@ -0,0 +1,128 @@
+package de.tudresden.inf.mci.brailleplot.rendering;
+
+import de.tudresden.inf.mci.brailleplot.util.GeneralResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Export of the liblouis tables to the file system, where the native library can read them.
+ * Only the requested table and the tables it includes (transitively, following the include directives) are exported,
+ * instead of the whole table directory. Files, that are already exported with the same content, are not written again.
+ * The export of a table is done once per process, in the background, so that it can be started early and overlap
+ * with other initialization.
+ * @author Andrey Ruzhanskiy
+ * @version 2019.10.16
+ */
+final class LiblouisTableExport {
+
+    /**
+     * The classpath of the liblouis table directory.
+     */
+    static final String TABLE_DIRECTORY = "mapping/liblouis/";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LiblouisTableExport.class);
+    private static final String INCLUDE_OPCODE = "include";
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final Set<String> OPCODE_PREFIXES = Set.of("noback", "nofor");
+
+    private static final Map<String, CompletableFuture<Path>> EXPORTS = new ConcurrentHashMap<>();
+
+    private LiblouisTableExport() { }
+
+    /**
+     * Start the export of a table and its included tables in the background. The export is only started once per
+     * table, later calls return the same future.
+     * @param table The name of the table file in the liblouis table directory, e.g. "de-g0.utb".
+     * @return A future completing with the path of the exported table file.
+     */
+    static CompletableFuture<Path> exportAsync(final String table) {
+        Objects.requireNonNull(table, "The given table for the export was null!");
+        return EXPORTS.computeIfAbsent(table, t -> CompletableFuture.supplyAsync(() -> exportWithIncludes(t)));
+    }
+
+    /**
+     * Get the exported file of a table. Waits for the export, if it is still running, or starts it, if it was not
+     * requested before.
+     * @param table The name of the table file in the liblouis table directory, e.g. "de-g0.utb".
+     * @return The path of the exported table file.
+     * @throws RuntimeException If the table or one of its included tables can not be exported.
+     */
+    static Path export(final String table) {
+        try {
+            return exportAsync(table).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static Path exportWithIncludes(final String table) {
+        Set<String> visited = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.push(TABLE_DIRECTORY + table);
+        Path tableFile = null;
+        while (!pending.isEmpty()) {
+            String path = pending.pop();
+            if (!visited.add(path)) {
+                continue;
+            }
+            Path file = GeneralResource.getOrExportResourceFileOnly(path).toPath();
+            if (tableFile == null) {
+                tableFile = file;
+            }
+            List<String> lines;
+            try {
+                // Not every table is valid UTF-8, malformed characters are replaced instead of failing
+                lines = Arrays.asList(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).split("\\R"));
+            } catch (IOException e) {
+                throw new RuntimeException("Error while reading liblouis table " + path, e);
+            }
+            // Included tables are looked up relative to the including table first
+            String parent = path.substring(0, path.lastIndexOf('/') + 1);
+            for (String include : parseIncludes(lines)) {
+                pending.push(Path.of(parent + include).normalize().toString().replace('\\', '/'));
+            }
+        }
+        LOGGER.debug("Exported liblouis table " + table + " with " + (visited.size() - 1) + " included tables");
+        return tableFile;
+    }
+
+    /**
+     * Get the file names of the tables included by a table.
+     * @param lines The lines of the table file.
+     * @return The file names given by the include directives, in the order of the table.
+     */
+    static List<String> parseIncludes(final List<String> lines) {
+        List<String> includes = new ArrayList<>();
+        for (String line : lines) {
+            String[] tokens = line.replace(BYTE_ORDER_MARK, "").trim().split("\\s+");
+            int opcode = 0;
+            while (opcode < tokens.length && OPCODE_PREFIXES.contains(tokens[opcode])) {
+                opcode++;
+            }
+            if (opcode + 1 < tokens.length && tokens[opcode].equals(INCLUDE_OPCODE)) {
+                includes.add(tokens[opcode + 1]);
+            }
+        }
+        return includes;
+    }
+}
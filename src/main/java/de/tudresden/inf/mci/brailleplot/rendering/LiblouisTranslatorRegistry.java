@@ -0,0 +1,166 @@
+package de.tudresden.inf.mci.brailleplot.rendering;
+
+import org.liblouis.DisplayException;
+import org.liblouis.DisplayTable;
+import org.liblouis.TranslationException;
+import org.liblouis.Translator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide registry of liblouis translators, one per table file. Creating a {@link Translator} compiles its table,
+ * therefore all text rasterizers and plotters share the translators of this registry instead of creating their own.
+ * liblouis is not thread-safe: the native library keeps global state, and the Java binding translates through
+ * static buffers shared by all translators. Therefore all translators are created and used under one global lock, so
+ * only one translation runs at a time, even for different tables.
+ * The results of the translations are kept in a bounded LRU cache, as the same texts (titles, axis labels, ...) are
+ * translated repeatedly, e.g. for measuring the required space before drawing. Optionally, the translations are also
+ * kept in a {@link PersistentTranslationCache} across runs. Texts found in one of the caches are not translated by
+ * liblouis at all. Only the tables, that are used, are exported to the file system, see {@link LiblouisTableExport}.
+ * @author Andrey Ruzhanskiy
+ * @version 2019.10.14
+ */
+public final class LiblouisTranslatorRegistry {
+
+    /**
+     * The table used if no language is specified (Basisschrift).
+     */
+    public static final String DEFAULT_TABLE = "de-g0.utb";
+
+    /**
+     * The maximum number of cached translations.
+     */
+    static final int CACHE_CAPACITY = 4096;
+
+    private static final Object LIBLOUIS_LOCK = new Object();
+    private static final Map<String, Translator> TRANSLATORS = new ConcurrentHashMap<>();
+    private static final TranslationCache CACHE = new TranslationCache(CACHE_CAPACITY);
+    private static volatile PersistentTranslationCache sPersistentCache;
+
+    private LiblouisTranslatorRegistry() { }
+
+    /**
+     * Start exporting a table and the tables it includes to the file system in the background, so that the export
+     * overlaps with other initialization. The table is exported anyway, when its translator is created.
+     * @param table The name of the table file in the liblouis table directory, e.g. "de-g0.utb".
+     */
+    public static void prepareTable(final String table) {
+        LiblouisTableExport.exportAsync(table);
+    }
+
+    /**
+     * Get the translator for a table. It is created on the first request. Texts should be translated by
+     * {@link #translate(String, String)}, which holds the global liblouis lock.
+     * @param table The name of the table file in the liblouis table directory, e.g. "de-g0.utb".
+     * @return The shared translator.
+     * @throws RuntimeException If the translator can not be created.
+     */
+    public static Translator getTranslator(final String table) {
+        Objects.requireNonNull(table, "The given table for the liblouis translator was null!");
+        return TRANSLATORS.computeIfAbsent(table, LiblouisTranslatorRegistry::createTranslator);
+    }
+
+    /**
+     * Translate a text into braille with the given table. The result is taken from the cache, if the text was
+     * translated with the table before.
+     * @param table The name of the table file in the liblouis table directory, e.g. "de-g0.utb".
+     * @param text The text to translate.
+     * @return The translated text, in the standard display table of liblouis.
+     * @throws RuntimeException If the translator can not be created or the translation fails.
+     */
+    public static String translate(final String table, final String text) {
+        Objects.requireNonNull(text, "The given text for the liblouis translator was null!");
+        Objects.requireNonNull(table, "The given table for the liblouis translator was null!");
+        String braille = CACHE.get(table, text);
+        if (braille != null) {
+            return braille;
+        }
+        PersistentTranslationCache persistentCache = sPersistentCache;
+        if (persistentCache != null) {
+            braille = persistentCache.get(getTableFile(table), text);
+            if (braille != null) {
+                CACHE.put(table, text, braille);
+                return braille;
+            }
+        }
+        Translator translator = getTranslator(table);
+        try {
+            synchronized (LIBLOUIS_LOCK) {
+                braille = translator.translate(text, null, null, null, DisplayTable.StandardDisplayTables.DEFAULT).getBraille();
+            }
+        } catch (TranslationException | DisplayException e) {
+            throw new RuntimeException("Error while translating with liblouis table " + table, e);
+        }
+        CACHE.put(table, text, braille);
+        if (persistentCache != null) {
+            persistentCache.put(getTableFile(table), text, braille);
+        }
+        return braille;
+    }
+
+    /**
+     * Keep the translations in the given directory across runs. Translations, that are already stored in the
+     * directory, are used instead of translating with liblouis.
+     * New translations are written to the directory by {@link #flushPersistentCache()}.
+     * @param directory The cache directory. Created, if it does not exist.
+     * @throws IOException If the directory can not be created.
+     */
+    public static void enablePersistentCache(final Path directory) throws IOException {
+        sPersistentCache = new PersistentTranslationCache(directory);
+    }
+
+    /**
+     * Write the new translations to the persistent cache directory. Does nothing, if the persistent cache is not
+     * enabled.
+     * @throws IOException If the cache files can not be written.
+     */
+    public static void flushPersistentCache() throws IOException {
+        PersistentTranslationCache persistentCache = sPersistentCache;
+        if (persistentCache != null) {
+            persistentCache.flush();
+        }
+    }
+
+    /**
+     * Get the number of translations, that were taken from the cache.
+     * @return The number of cache hits.
+     */
+    public static long getCacheHits() {
+        return CACHE.getHits();
+    }
+
+    /**
+     * Get the number of translations, that were not found in the cache and had to be done by liblouis.
+     * @return The number of cache misses.
+     */
+    public static long getCacheMisses() {
+        return CACHE.getMisses();
+    }
+
+    /**
+     * Remove all cached translations and reset the hit and miss counters.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    private static Path getTableFile(final String table) {
+        // the table and its included tables are exported to the same directory
+        return LiblouisTableExport.export(table);
+    }
+
+    private static Translator createTranslator(final String table) {
+        try {
+            Path tableFile = getTableFile(table);
+            synchronized (LIBLOUIS_LOCK) {
+                return new Translator(tableFile.toAbsolutePath().toString());
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Error while creating liblouis translator", e);
+        }
+    }
+}
@@ -71,8 +71,8 @@ public class LineChartRasterizer implements Rasterizer<LineChart> {
         if (canvas.equals(null)) {
             throw new NullPointerException("The given canvas for the LineChartRasterizer was null!");
         }
-        mLanguage = BrailleLanguage.Language.valueOf(canvas.getRepresentation().getProperty("general.brailleLanguage").toString());
-        mTitleHeight = canvas.getRepresentation().getProperty("general.maxTitleHeight").toInt();
+        mLanguage = BrailleLanguage.Language.valueOf(canvas.getRepresentationProperties().getString("general.brailleLanguage"));
+        mTitleHeight = canvas.getRepresentationProperties().getInt("general.maxTitleHeight");
         mTextRasterizer = new LiblouisBrailleTextRasterizer(canvas.getPrinter());
         mLegend = new Legend(data.getTitle(), mLanguage); //
 
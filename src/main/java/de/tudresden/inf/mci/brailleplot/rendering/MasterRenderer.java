@@ -7,9 +7,12 @@ import de.tudresden.inf.mci.brailleplot.diagrams.CategoricalBarChart;
 import de.tudresden.inf.mci.brailleplot.diagrams.LineChart;
 import de.tudresden.inf.mci.brailleplot.diagrams.ScatterPlot;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
+import de.tudresden.inf.mci.brailleplot.layout.PageListener;
 import de.tudresden.inf.mci.brailleplot.layout.PlotCanvas;
 import de.tudresden.inf.mci.brailleplot.layout.RasterCanvas;
 import de.tudresden.inf.mci.brailleplot.layout.SixDotBrailleRasterCanvas;
+import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
+import de.tudresden.inf.mci.brailleplot.printabledata.MatrixData;
 import de.tudresden.inf.mci.brailleplot.rendering.floatingplotter.BarChartPlotter;
 import de.tudresden.inf.mci.brailleplot.rendering.floatingplotter.FunctionalPlotter;
 import de.tudresden.inf.mci.brailleplot.rendering.floatingplotter.LinePlotter;
@@ -79,22 +82,56 @@ public final class MasterRenderer {
     }
 
     public RasterCanvas rasterize(final Renderable data) throws InsufficientRenderingAreaException {
+        return rasterize(data, null, true);
+    }
+
+    /**
+     * Rasterize the given data and hand off every completed page to the given listener while rendering goes on.
+     * @param data The {@link Renderable} to rasterize.
+     * @param listener The {@link PageListener} to notify about completed pages, may be null.
+     * @param retainPages Whether the returned canvas should keep all pages, see {@link RasterCanvas#setRetainPages(boolean)}.
+     * @return The {@link RasterCanvas} containing the result.
+     * @throws InsufficientRenderingAreaException If there is not enough space to render the data.
+     */
+    public RasterCanvas rasterize(final Renderable data, final PageListener<? super MatrixData<Boolean>> listener, final boolean retainPages) throws InsufficientRenderingAreaException {
         mLogger.info("Preparing a new {} rasterizing on RenderingBase {}",
                 data.getClass().getSimpleName(), mRenderingBase);
         RasterCanvas canvas = createCompatibleRasterCanvas();
+        if (listener != null) {
+            canvas.addPageListener(listener);
+        }
+        canvas.setRetainPages(retainPages);
         mRenderingBase.setRasterCanvas(canvas);
         mRenderingBase.rasterize(data);
+        canvas.finish();
         mLogger.info("Rasterizing of {} on RenderingBase {} has finished, result containing {} pages",
                 data.getClass().getSimpleName(), mRenderingBase, canvas.getPageCount());
         return canvas;
     }
 
     public PlotCanvas plot(final Renderable data) throws InsufficientRenderingAreaException {
+        return plot(data, null, true);
+    }
+
+    /**
+     * Plot the given data and hand off every completed page to the given listener while rendering goes on.
+     * @param data The {@link Renderable} to plot.
+     * @param listener The {@link PageListener} to notify about completed pages, may be null.
+     * @param retainPages Whether the returned canvas should keep all pages, see {@link PlotCanvas#setRetainPages(boolean)}.
+     * @return The {@link PlotCanvas} containing the result.
+     * @throws InsufficientRenderingAreaException If there is not enough space to render the data.
+     */
+    public PlotCanvas plot(final Renderable data, final PageListener<? super FloatingPointData<Boolean>> listener, final boolean retainPages) throws InsufficientRenderingAreaException {
         mLogger.info("Preparing a new {} plotting on RenderingBase {}",
                 data.getClass().getSimpleName(), mRenderingBase);
         PlotCanvas canvas = new PlotCanvas(mPrinter, mRepresentation, mFormat);
+        if (listener != null) {
+            canvas.addPageListener(listener);
+        }
+        canvas.setRetainPages(retainPages);
         mRenderingBase.setPlotCanvas(canvas);
         mRenderingBase.plot(data);
+        canvas.finish();
         mLogger.info("Plotting of {} on RenderingBase {} has finished, result containing {} pages",
                 data.getClass().getSimpleName(), mRenderingBase, canvas.getPageCount());
         return canvas;
@@ -0,0 +1,411 @@
+package de.tudresden.inf.mci.brailleplot.rendering;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Cache of braille translations in a directory, which is kept across runs of the application.
+ * For every liblouis table, identified by the hash of its content and the content of the tables it includes, there is
+ * a data file containing the translations and an index file, which is a hash table mapping the hash of a text to the
+ * position of its translation in the data file. Both files are memory-mapped, when the table is used for the first
+ * time.
+ * New translations are kept in memory until {@link #flush()} is called, which appends them to the data file and
+ * writes a new generation of the index file. The index file is never replaced, because a memory-mapped file can not be
+ * replaced on Windows. Older generations are deleted, as soon as no process has them mapped any more.
+ * Other processes using the same directory are synchronized by a lock on the data file.
+ * @author Andrey Ruzhanskiy
+ * @version 2019.10.15
+ */
+final class PersistentTranslationCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PersistentTranslationCache.class);
+
+    private static final int MAGIC = 0x42504C54;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+    private static final int SLOT_SIZE = 2 * Long.BYTES;
+    private static final int MIN_CAPACITY = 16;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final int BYTE_MASK = 0xFF;
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String DATA_SUFFIX = ".dat";
+
+    private final Path mDirectory;
+    private final Map<Path, TableStore> mStores = new HashMap<>();
+
+    /**
+     * Constructor. Creates the directory, if it does not exist.
+     * @param directory The cache directory.
+     * @throws IOException If the directory can not be created.
+     */
+    PersistentTranslationCache(final Path directory) throws IOException {
+        mDirectory = Files.createDirectories(Objects.requireNonNull(directory));
+    }
+
+    /**
+     * Get a translation from the cache.
+     * @param tableFile The liblouis table file.
+     * @param text The text.
+     * @return The braille or null, if the translation is not cached.
+     */
+    synchronized String get(final Path tableFile, final String text) {
+        Objects.requireNonNull(text);
+        TableStore store = getStore(tableFile);
+        if (store == null) {
+            return null;
+        }
+        return store.get(text);
+    }
+
+    /**
+     * Add a translation to the cache. It is written to disk by {@link #flush()}.
+     * @param tableFile The liblouis table file.
+     * @param text The text.
+     * @param braille The translated text.
+     */
+    synchronized void put(final Path tableFile, final String text, final String braille) {
+        Objects.requireNonNull(text);
+        Objects.requireNonNull(braille);
+        TableStore store = getStore(tableFile);
+        if (store != null) {
+            store.mPending.put(text, braille);
+        }
+    }
+
+    /**
+     * Write all new translations to the cache directory.
+     * @throws IOException If the files can not be written.
+     */
+    synchronized void flush() throws IOException {
+        for (TableStore store : mStores.values()) {
+            if (store != null && !store.mPending.isEmpty()) {
+                store.flush();
+            }
+        }
+    }
+
+    private TableStore getStore(final Path tableFile) {
+        Objects.requireNonNull(tableFile);
+        if (!mStores.containsKey(tableFile)) {
+            TableStore store = null;
+            try {
+                store = new TableStore(hashTable(tableFile));
+            } catch (IOException e) {
+                // Translations with this table are not cached, but still work
+                LOGGER.warn("Could not open the translation cache for the table " + tableFile, e);
+            }
+            mStores.put(tableFile, store);
+        }
+        return mStores.get(tableFile);
+    }
+
+    /**
+     * Hash the content of a table and of all tables it includes, transitively. Included tables are looked up relative
+     * to the including table, like they are exported by {@link LiblouisTableExport}. Included tables, that do not exist
+     * there, are only identified by the include directive.
+     * @param tableFile The liblouis table file.
+     * @return The hexadecimal SHA-256 hash.
+     * @throws IOException If a table file can not be read.
+     */
+    private static String hashTable(final Path tableFile) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            Path root = tableFile.toAbsolutePath().normalize();
+            Set<Path> visited = new HashSet<>();
+            Deque<Path> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Path file = pending.pop();
+                if (!visited.add(file) || (!file.equals(root) && !Files.exists(file))) {
+                    continue;
+                }
+                byte[] content = Files.readAllBytes(file);
+                // The length separates the contents of the files
+                digest.update(ByteBuffer.allocate(Long.BYTES).putLong(content.length).array());
+                digest.update(content);
+                List<String> lines = Arrays.asList(new String(content, StandardCharsets.UTF_8).split("\\R"));
+                for (String include : LiblouisTableExport.parseIncludes(lines)) {
+                    pending.push(file.resolveSibling(include).normalize());
+                }
+            }
+            byte[] hash = digest.digest();
+            StringBuilder hex = new StringBuilder();
+            for (byte b : hash) {
+                String digits = Integer.toHexString(b & BYTE_MASK);
+                if (digits.length() == 1) {
+                    hex.append('0');
+                }
+                hex.append(digits);
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 64 bit FNV-1a hash of the UTF-8 encoded text.
+     * @param text The encoded text.
+     * @return The hash.
+     */
+    static long hashText(final byte[] text) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : text) {
+            hash ^= b & BYTE_MASK;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * The files of a single table.
+     */
+    private final class TableStore {
+        private final String mTableHash;
+        private final Path mDataFile;
+        private final Map<String, String> mPending = new LinkedHashMap<>();
+        private MappedByteBuffer mIndex;
+        private MappedByteBuffer mData;
+        private int mCapacity;
+
+        TableStore(final String tableHash) throws IOException {
+            mTableHash = tableHash;
+            mDataFile = mDirectory.resolve(tableHash + DATA_SUFFIX);
+            map();
+        }
+
+        private void map() throws IOException {
+            mIndex = null;
+            mData = null;
+            mCapacity = 0;
+            long generation = findLatestGeneration();
+            if (generation < 0 || !Files.exists(mDataFile)) {
+                return;
+            }
+            Path indexFile = getIndexFile(generation);
+            MappedByteBuffer index = mapReadOnly(indexFile);
+            if (index.capacity() < HEADER_SIZE || index.getInt(0) != MAGIC || index.getInt(Integer.BYTES) != FORMAT_VERSION) {
+                LOGGER.warn("Ignoring malformed translation cache index {}", indexFile);
+                return;
+            }
+            int capacity = index.getInt(2 * Integer.BYTES);
+            if (Integer.bitCount(capacity) != 1 || index.capacity() != HEADER_SIZE + (long) capacity * SLOT_SIZE) {
+                LOGGER.warn("Ignoring malformed translation cache index {}", indexFile);
+                return;
+            }
+            mIndex = index;
+            mData = mapReadOnly(mDataFile);
+            mCapacity = capacity;
+        }
+
+        String get(final String text) {
+            String braille = mPending.get(text);
+            if (braille != null || mIndex == null) {
+                return braille;
+            }
+            byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+            long hash = hashText(encoded);
+            int mask = mCapacity - 1;
+            for (int slot = (int) hash & mask, probes = 0; probes < mCapacity; slot = (slot + 1) & mask, probes++) {
+                int position = HEADER_SIZE + slot * SLOT_SIZE;
+                long offset = mIndex.getLong(position + Long.BYTES);
+                if (offset == 0) {
+                    return null; // empty slot, end of the probe sequence
+                }
+                if (mIndex.getLong(position) == hash) {
+                    braille = readRecord(offset - 1, encoded);
+                    if (braille != null) {
+                        return braille;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Read a record from the data file.
+         * @param offset The position of the record.
+         * @param text The expected text.
+         * @return The braille or null, if the record belongs to another text (hash collision) or is damaged.
+         */
+        private String readRecord(final long offset, final byte[] text) {
+            if (offset < 0 || offset + Integer.BYTES > mData.capacity()) {
+                return null;
+            }
+            ByteBuffer record = mData.duplicate();
+            record.position((int) offset);
+            int textLength = record.getInt();
+            if (textLength != text.length || record.remaining() < textLength + Integer.BYTES) {
+                return null;
+            }
+            for (byte b : text) {
+                if (record.get() != b) {
+                    return null;
+                }
+            }
+            int brailleLength = record.getInt();
+            if (brailleLength < 0 || record.remaining() < brailleLength) {
+                return null;
+            }
+            byte[] braille = new byte[brailleLength];
+            record.get(braille);
+            return new String(braille, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Get the index file of a generation.
+         * @param generation The generation.
+         * @return The path of the index file.
+         */
+        private Path getIndexFile(final long generation) {
+            return mDirectory.resolve(mTableHash + "." + generation + INDEX_SUFFIX);
+        }
+
+        /**
+         * Get the generations of the index files of this table in the cache directory.
+         * @return The generations, in no particular order.
+         * @throws IOException If the directory can not be listed.
+         */
+        private long[] findGenerations() throws IOException {
+            String prefix = mTableHash + ".";
+            try (Stream<Path> files = Files.list(mDirectory)) {
+                return files.map(file -> file.getFileName().toString())
+                        .filter(name -> name.startsWith(prefix) && name.endsWith(INDEX_SUFFIX))
+                        .map(name -> name.substring(prefix.length(), name.length() - INDEX_SUFFIX.length()))
+                        .filter(generation -> !generation.isEmpty() && generation.chars().allMatch(Character::isDigit))
+                        .mapToLong(Long::parseLong)
+                        .toArray();
+            }
+        }
+
+        /**
+         * Get the latest generation of the index file.
+         * @return The generation or -1, if there is no index file.
+         * @throws IOException If the directory can not be listed.
+         */
+        private long findLatestGeneration() throws IOException {
+            return Arrays.stream(findGenerations()).max().orElse(-1);
+        }
+
+        void flush() throws IOException {
+            try (FileChannel data = FileChannel.open(mDataFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // Released when the channel is closed
+                data.lock();
+                // Entries of the latest index on disk, which might have been written by another process
+                long generation = findLatestGeneration();
+                List<long[]> entries = readIndexEntries(generation, data.size());
+                long position = data.size();
+                for (Map.Entry<String, String> translation : mPending.entrySet()) {
+                    byte[] text = translation.getKey().getBytes(StandardCharsets.UTF_8);
+                    byte[] braille = translation.getValue().getBytes(StandardCharsets.UTF_8);
+                    ByteBuffer record = ByteBuffer.allocate(2 * Integer.BYTES + text.length + braille.length);
+                    record.putInt(text.length).put(text).putInt(braille.length).put(braille).flip();
+                    entries.add(new long[] {hashText(text), position + 1});
+                    while (record.hasRemaining()) {
+                        position += data.write(record, position);
+                    }
+                }
+                writeIndex(entries, generation + 1);
+                LOGGER.debug("Wrote {} translations to the cache {}", mPending.size(), mDataFile);
+                mPending.clear();
+                map();
+                deleteOlderGenerations(generation + 1);
+            }
+        }
+
+        /**
+         * Delete the index files older than the given generation. Files, that are still mapped by this or another
+         * process, can not be deleted on Windows. They are kept and deleted by a later flush.
+         * @param latest The latest generation, which is kept.
+         * @throws IOException If the directory can not be listed.
+         */
+        private void deleteOlderGenerations(final long latest) throws IOException {
+            for (long generation : findGenerations()) {
+                if (generation < latest) {
+                    try {
+                        Files.deleteIfExists(getIndexFile(generation));
+                    } catch (IOException e) {
+                        LOGGER.debug("Could not delete the old translation cache index " + getIndexFile(generation), e);
+                    }
+                }
+            }
+        }
+
+        private List<long[]> readIndexEntries(final long generation, final long dataSize) throws IOException {
+            List<long[]> entries = new ArrayList<>();
+            if (generation < 0) {
+                return entries;
+            }
+            ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(getIndexFile(generation)));
+            if (index.capacity() < HEADER_SIZE || index.getInt(0) != MAGIC || index.getInt(Integer.BYTES) != FORMAT_VERSION) {
+                return entries;
+            }
+            index.position(HEADER_SIZE);
+            while (index.remaining() >= SLOT_SIZE) {
+                long hash = index.getLong();
+                long offset = index.getLong();
+                if (offset > 0 && offset <= dataSize) {
+                    entries.add(new long[] {hash, offset});
+                }
+            }
+            return entries;
+        }
+
+        private void writeIndex(final List<long[]> entries, final long generation) throws IOException {
+            int capacity = MIN_CAPACITY;
+            while (capacity < 2 * entries.size()) {
+                capacity *= 2;
+            }
+            int mask = capacity - 1;
+            ByteBuffer index = ByteBuffer.allocate(HEADER_SIZE + capacity * SLOT_SIZE);
+            index.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(capacity).putInt(entries.size());
+            for (long[] entry : entries) {
+                int slot = (int) entry[0] & mask;
+                while (index.getLong(HEADER_SIZE + slot * SLOT_SIZE + Long.BYTES) != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                index.putLong(HEADER_SIZE + slot * SLOT_SIZE, entry[0]);
+                index.putLong(HEADER_SIZE + slot * SLOT_SIZE + Long.BYTES, entry[1]);
+            }
+            // Move the complete index to its name at once, so that readers never see a partially written index
+            Path temporary = Files.createTempFile(mDirectory, "index", ".tmp");
+            try {
+                Files.write(temporary, index.array());
+                Files.move(temporary, getIndexFile(generation), StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        }
+    }
+
+    private static MappedByteBuffer mapReadOnly(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
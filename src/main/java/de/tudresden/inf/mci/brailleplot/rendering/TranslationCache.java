@@ -0,0 +1,126 @@
+package de.tudresden.inf.mci.brailleplot.rendering;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of braille translations, keyed by table and text. If the cache is full, the least recently used
+ * translation is evicted. The number of hits and misses is counted.
+ * @author Andrey Ruzhanskiy
+ * @version 2019.10.14
+ */
+final class TranslationCache {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<Key, String> mEntries;
+    private final AtomicLong mHits = new AtomicLong();
+    private final AtomicLong mMisses = new AtomicLong();
+
+    /**
+     * Constructor.
+     * @param capacity The maximum number of cached translations.
+     * @throws IllegalArgumentException If the capacity is smaller than 1.
+     */
+    TranslationCache(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be at least 1, got " + capacity);
+        }
+        mEntries = new LinkedHashMap<>(capacity, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, String> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Get a cached translation. Counts a hit if found, a miss otherwise.
+     * @param table The name of the table.
+     * @param text The translated text.
+     * @return The braille or null, if the translation is not cached.
+     */
+    String get(final String table, final String text) {
+        String braille;
+        synchronized (mEntries) {
+            braille = mEntries.get(new Key(table, text));
+        }
+        if (braille == null) {
+            mMisses.incrementAndGet();
+        } else {
+            mHits.incrementAndGet();
+        }
+        return braille;
+    }
+
+    /**
+     * Add a translation to the cache.
+     * @param table The name of the table.
+     * @param text The translated text.
+     * @param braille The braille.
+     */
+    void put(final String table, final String text, final String braille) {
+        Objects.requireNonNull(braille);
+        synchronized (mEntries) {
+            mEntries.put(new Key(table, text), braille);
+        }
+    }
+
+    /**
+     * Get the number of cached translations.
+     * @return The number of cached translations.
+     */
+    int size() {
+        synchronized (mEntries) {
+            return mEntries.size();
+        }
+    }
+
+    /**
+     * Remove all translations and reset the counters.
+     */
+    void clear() {
+        synchronized (mEntries) {
+            mEntries.clear();
+        }
+        mHits.set(0);
+        mMisses.set(0);
+    }
+
+    long getHits() {
+        return mHits.get();
+    }
+
+    long getMisses() {
+        return mMisses.get();
+    }
+
+    /**
+     * Key of a translation.
+     */
+    private static final class Key {
+        private final String mTable;
+        private final String mText;
+
+        Key(final String table, final String text) {
+            mTable = Objects.requireNonNull(table);
+            mText = Objects.requireNonNull(text);
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return mTable.equals(key.mTable) && mText.equals(key.mText);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(mTable, mText);
+        }
+    }
+}
@@ -4,21 +4,13 @@ import de.tudresden.inf.mci.brailleplot.diagrams.Diagram;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
 import de.tudresden.inf.mci.brailleplot.layout.PlotCanvas;
 import de.tudresden.inf.mci.brailleplot.layout.Rectangle;
-import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
-import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
+import de.tudresden.inf.mci.brailleplot.printabledata.FloatingDotSink;
 import de.tudresden.inf.mci.brailleplot.rendering.BrailleText;
 import de.tudresden.inf.mci.brailleplot.rendering.Legend;
 import de.tudresden.inf.mci.brailleplot.rendering.language.BrailleLanguage;
-import tec.units.ri.quantity.Quantities;
-import tec.units.ri.unit.MetricPrefix;
-
-import javax.measure.Quantity;
-import javax.measure.quantity.Length;
 
 import java.util.Objects;
 
-import static tec.units.ri.unit.Units.METRE;
-
 
 /**
  * Abstract parent class for all plotting algorithms. Provides methods for axis drawing and point adding.
@@ -28,7 +20,7 @@ import static tec.units.ri.unit.Units.METRE;
 abstract class AbstractPlotter<T extends Diagram> {
 
     PlotCanvas mCanvas;
-    FloatingPointData<Boolean> mData;
+    FloatingDotSink mData;
     T mDiagram;
     Legend mLegend;
     char[] mSymbols;
@@ -163,7 +155,7 @@ abstract class AbstractPlotter<T extends Diagram> {
      * @param y Absolute y-value.
      */
     void addPoint(final double x, final double y) {
-        mData.addPointIfNotExisting(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(x, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(y, MetricPrefix.MILLI(METRE)), true));
+        mData.addPointIfNotExisting(x, y);
     }
 
     /**
@@ -497,7 +489,7 @@ abstract class AbstractPlotter<T extends Diagram> {
      * Sets mData by getting the current page of mCanvas.
      */
     void setData() {
-        mData = mCanvas.getCurrentPage();
+        mData = FloatingDotSink.of(mCanvas.getCurrentPage());
     }
 
     /**
@@ -5,43 +5,28 @@ import de.tudresden.inf.mci.brailleplot.configparser.Printer;
 import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
 import de.tudresden.inf.mci.brailleplot.layout.PlotCanvas;
 import de.tudresden.inf.mci.brailleplot.layout.Rectangle;
-import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
-import de.tudresden.inf.mci.brailleplot.printabledata.FloatingPointData;
+import de.tudresden.inf.mci.brailleplot.printabledata.FloatingDotSink;
 import de.tudresden.inf.mci.brailleplot.printerbackend.NotSupportedFileExtensionException;
 import de.tudresden.inf.mci.brailleplot.rendering.BrailleText;
-import de.tudresden.inf.mci.brailleplot.util.GeneralResource;
-import org.liblouis.DisplayException;
-import org.liblouis.DisplayTable;
-import org.liblouis.TranslationException;
-import org.liblouis.TranslationResult;
-import org.liblouis.Translator;
-import tec.units.ri.quantity.Quantities;
-import tec.units.ri.unit.MetricPrefix;
-
-import javax.measure.Quantity;
-import javax.measure.quantity.Length;
-import java.io.File;
+import de.tudresden.inf.mci.brailleplot.rendering.LiblouisTranslatorRegistry;
+
 import java.util.Objects;
 
-import static tec.units.ri.unit.Units.METRE;
 
 /**
  * Class representing a brailletextplotting approach using the liblouis library.
+ * The translators are shared via the {@link LiblouisTranslatorRegistry}.
  * @author Andrey Ruzhanskiy and Richard Schmidt
  */
 
 public class LiblouisBrailleTextPlotter implements Plotter<BrailleText> {
 
-    private FloatingPointData<Boolean> mData;
+    private FloatingDotSink mData;
     private AbstractBrailleTableParser mParser;
-    private Translator mTranslator;
 
     // constant
     private static final int ITERATORSCALE = 3;
 
-    // translator needs whole table directory, therefore it is exported one time at start (static resource).
-    private static File mLibLouisTableDirectory = GeneralResource.getOrExportResourceFile("mapping/liblouis/");
-
     /**
      * Constructor for liblouistextplotter.
      * @param printer Needed to get the semantictable according to the printer config.
@@ -54,13 +39,6 @@ public class LiblouisBrailleTextPlotter implements Plotter<BrailleText> {
         } catch (NotSupportedFileExtensionException e) {
             throw new RuntimeException(e);
         }
-        try {
-            File tableFile = mLibLouisTableDirectory.toPath().resolve("de-g0.utb").toFile(); // reference to specific table file in exported directory
-            String tableFilePath = tableFile.getAbsolutePath();
-            mTranslator = new Translator(tableFilePath);
-        } catch (Exception e) {
-            throw new RuntimeException(e.getCause());
-        }
     }
 
 
@@ -80,25 +58,8 @@ public class LiblouisBrailleTextPlotter implements Plotter<BrailleText> {
             return 0;
         }
 
-        try {
-            File tableFile = mLibLouisTableDirectory.toPath().resolve(data.getLanguage()).toFile(); // reference to specific table file in exported directory
-            String tableFilePath = tableFile.getAbsolutePath();
-            mTranslator = new Translator(tableFilePath);
-        } catch (Exception e) {
-            throw new RuntimeException("Error while creating liblouis translator", e);
-        }
-
         Rectangle rect = data.getArea();
-        TranslationResult result = null;
-        try {
-            result = mTranslator.translate(data.getText(), null, null, null, DisplayTable.StandardDisplayTables.DEFAULT);
-        } catch (TranslationException e) {
-            e.printStackTrace();
-        } catch (DisplayException e) {
-            e.printStackTrace();
-        }
-        assert result != null;
-        String[] resultAsArray = result.getBraille().split("");
+        String[] resultAsArray = LiblouisTranslatorRegistry.translate(data.getLanguage(), data.getText()).split("");
 
         double startX = rect.getX();
         double startY = rect.getY();
@@ -106,7 +67,7 @@ public class LiblouisBrailleTextPlotter implements Plotter<BrailleText> {
         double heightJump = canvas.getDotDistVer();
         double cellJump = widthJump + canvas.getCellDistHor();
         double last = startX;
-        mData = canvas.getCurrentPage();
+        mData = FloatingDotSink.of(canvas.getCurrentPage());
 
         for (int k = 0; k < resultAsArray.length; k++) {
             String[] braille = mParser.getCharToBraille(resultAsArray[k]).split("");
@@ -131,7 +92,7 @@ public class LiblouisBrailleTextPlotter implements Plotter<BrailleText> {
      * @param y Absolute y-value.
      */
     private void addPointByValues(final double x, final double y) {
-        mData.addPointIfNotExisting(new Point2DValued<Quantity<Length>, Boolean>(Quantities.getQuantity(x, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(y, MetricPrefix.MILLI(METRE)), true));
+        mData.addPointIfNotExisting(x, y);
     }
 
 }
@@ -31,11 +31,21 @@ public class BoolMatrixDataSvgExporter extends AbstractSvgExporter<RasterCanvas,
         mLogger.trace("Dot diameter: {}", dotDiameter);
         SVGGraphics2D svg = mSvgs.get(dataIndex);
 
+        // Read the page line by line as packed cell masks instead of querying every single dot.
+        int cellWidth = mCanvas.getCellWidth();
+        int cellHeight = mCanvas.getCellHeight();
+        int[] cells = new int[(mat.getColumnCount() + cellWidth - 1) / cellWidth];
+
         for (int y = 0; y < mat.getRowCount(); y++) {
+            int dy = y % cellHeight;
+            if (dy == 0) {
+                mat.getCellRowMasks(y / cellHeight, cellWidth, cellHeight, cells);
+            }
             for (int x = 0; x < mat.getColumnCount(); x++) {
                 int xPos = (int) Math.round((xPositions.get(x) + mCanvas.getFullConstraintLeft() - (double) dotDiameter / 2) * SCALE_FACTOR);
                 int yPos = (int) Math.round((yPositions.get(y) + mCanvas.getFullConstraintTop() - (double) dotDiameter / 2) * SCALE_FACTOR);
-                if (mat.getValue(y, x)) {
+                int cell = x / cellWidth;
+                if ((cells[cell] & (1 << ((x - cell * cellWidth) * cellHeight + dy))) != 0) {
                     svg.setColor(FULL_DOT_COLOR);
                     mLogger.trace("Drew dot at position ({},{})", xPos, yPos);
                 } else {
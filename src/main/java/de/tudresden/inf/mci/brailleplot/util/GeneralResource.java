@@ -12,6 +12,7 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.Objects;
 import java.util.jar.JarEntry;
@@ -184,6 +185,59 @@ public final class GeneralResource {
         }
     }
 
+    /**
+     * Get a single jar resource file as file. When the app runs from a jar, only this file is exported, without
+     * enumerating the contents of the jar. An already exported file is kept if its content equals the resource,
+     * otherwise (e.g. exported by an older version of the app) it is replaced.
+     * @param path Absolute classpath pointing to a jar resource file. Omit the leading "/".
+     * @return A File instance representing the resource on the file system.
+     * @throws RuntimeException If the resource does not exist or can not be exported.
+     */
+    public static File getOrExportResourceFileOnly(final String path) {
+        if (!isRunFromCompiledJar()) {
+            return getOrExportResourceFile(path);
+        }
+        try (InputStream resource = getClassRef().getResourceAsStream("/" + path)) { // preceding slash for absolute classpath reference
+            if (Objects.isNull(resource)) {
+                throw new FileNotFoundException("Not recognized as valid resource: " + path);
+            }
+            byte[] content = resource.readAllBytes();
+            Path target = tempDirectory.toPath().resolve(path);
+            if (writeIfChanged(content, target)) {
+                mLogger.trace("Exported runtime resource '" + path + "' to '" + target + "' (" + content.length + " bytes)");
+            } else {
+                mLogger.trace("Runtime resource '" + path + "' is up to date");
+            }
+            return target.toFile();
+        } catch (IOException e) {
+            throw new RuntimeException("Error while exporting resource " + path, e);
+        }
+    }
+
+    /**
+     * Write the content to a file, unless the file already has exactly this content. The file is replaced at once,
+     * because other instances of the app might read it at the same time.
+     * @param content The content of the file.
+     * @param target The file. Missing parent directories are created.
+     * @return True, if the file was written, false if it was up to date.
+     * @throws IOException If the file can not be read or written.
+     */
+    public static boolean writeIfChanged(final byte[] content, final Path target) throws IOException {
+        if (Files.isRegularFile(target) && Files.size(target) == content.length
+                && Arrays.equals(Files.readAllBytes(target), content)) {
+            return false;
+        }
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        Path temporary = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temporary, content);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+        return true;
+    }
+
     private static JarFile openJarFile() {
         try {
             if (!isRunFromCompiledJar()) {
@@ -29,7 +29,7 @@ public final class NativeLibraryHelper {
         File libFile;
         try {
             String libPath = "native/" + libName + "/" + LIB_PATH + "/" + libName + dynamicLibFileEnding();
-            libFile = GeneralResource.getOrExportResourceFile(libPath).getAbsoluteFile();
+            libFile = GeneralResource.getOrExportResourceFileOnly(libPath).getAbsoluteFile();
             registerNewSystemLibPath(libFile.getParent());
         } catch (Exception e) {
             throw new NoSuchNativeLibraryException("Could not provide native library from java resources", e);
@@ -0,0 +1,72 @@
+package de.tudresden.inf.mci.brailleplot.brailleparser;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.configparser.PrinterProperty;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit Tests for the CompiledBrailleTable Class.
+ * @author Andrey Ruzhanskiy
+ * @version 2019.10.08
+ */
+public class CompiledBrailleTableTest {
+
+    private static final String TABLE_PATH = "src/test/resources/mapping/eurobraille.properties";
+
+    private static Printer printer() {
+        return new Printer(List.of(new PrinterProperty("brailletable", TABLE_PATH)));
+    }
+
+    /**
+     * Test that every cell of the compiled table matches the parsed braille table.
+     */
+    @Test
+    public void testMatchesParser() {
+        Assertions.assertDoesNotThrow(() -> {
+            CompiledBrailleTable table = CompiledBrailleTable.getTable(printer(), "brailletable", 6);
+            PropertiesParser parser = new PropertiesParser(TABLE_PATH);
+            for (int mask = 0; mask < 64; mask++) {
+                Assertions.assertEquals(parser.getByteAsIntBackEnd(CompiledBrailleTable.toKey(mask, 6)), table.getByte(mask));
+            }
+            Assertions.assertEquals(32, table.getByte(0));
+            Assertions.assertEquals(37, table.getByte(0b111111));
+        });
+    }
+
+    /**
+     * Test that the same table is reused for the same table file.
+     */
+    @Test
+    public void testCached() {
+        Assertions.assertDoesNotThrow(() -> {
+            Assertions.assertSame(CompiledBrailleTable.getTable(printer(), "brailletable", 6),
+                    CompiledBrailleTable.getTable(printer(), "brailletable", 6));
+        });
+    }
+
+    /**
+     * Test for looking up an 8 dot cell in a 6 dot table.
+     * Expected: RuntimeException.
+     */
+    @Test
+    public void testUndefinedCell() {
+        Assertions.assertThrows(RuntimeException.class, () -> {
+            CompiledBrailleTable table = CompiledBrailleTable.getTable(printer(), "brailletable", 8);
+            table.getByte(0b11111111);
+        });
+    }
+
+    /**
+     * Test for an unsupported cell size.
+     * Expected: IllegalArgumentException.
+     */
+    @Test
+    public void testInvalidDotCount() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            CompiledBrailleTable.getTable(printer(), "brailletable", 7);
+        });
+    }
+}
@@ -0,0 +1,88 @@
+package de.tudresden.inf.mci.brailleplot.configparser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ConfigurationCacheTest {
+
+    private static final URL mDefaultConfigPath = JavaPropertiesConfigurationParserTest.getResource("config/default.properties");
+
+    private static Path copyConfig(final Path directory) throws Exception {
+        for (String name : new String[]{"concrete.properties", "standard_formats.properties"}) {
+            Files.copy(Path.of(JavaPropertiesConfigurationParserTest.getResource("config/" + name).toURI()), directory.resolve(name));
+        }
+        return directory.resolve("concrete.properties");
+    }
+
+    private static void assertSameConfiguration(final Configuration expected, final Configuration actual) {
+        assertSameProperties(expected.getPrinter(), actual.getPrinter());
+        assertSameProperties(expected.getRepresentation(), actual.getRepresentation());
+        Assertions.assertEquals(expected.getFormatNames(), actual.getFormatNames());
+        for (String format : expected.getFormatNames()) {
+            assertSameProperties(expected.getFormat(format), actual.getFormat(format));
+        }
+    }
+
+    private static void assertSameProperties(final Configurable expected, final Configurable actual) {
+        Assertions.assertEquals(expected.getPropertyNames(), actual.getPropertyNames());
+        for (String name : expected.getPropertyNames()) {
+            Assertions.assertEquals(expected.getProperty(name).toString(), actual.getProperty(name).toString());
+        }
+    }
+
+    @Test
+    public void testCachedConfigurationEqualsParsedConfiguration(@TempDir final Path directory) throws Exception {
+        Path config = copyConfig(directory);
+        ConfigurationParser parsed = new JavaPropertiesConfigurationParser(config, mDefaultConfigPath);
+        // default configuration, configuration and included formats
+        Assertions.assertEquals(3, parsed.getSources().size());
+
+        ConfigurationCache cache = new ConfigurationCache(directory.resolve("cache"));
+        Configuration first = cache.getConfiguration(config, mDefaultConfigPath);
+        Assertions.assertTrue(first instanceof JavaPropertiesConfigurationParser);
+        assertSameConfiguration(parsed, first);
+
+        Configuration second = new ConfigurationCache(directory.resolve("cache")).getConfiguration(config, mDefaultConfigPath);
+        Assertions.assertFalse(second instanceof JavaPropertiesConfigurationParser);
+        assertSameConfiguration(parsed, second);
+        Assertions.assertEquals("Dummy Printer", second.getPrinter().getProperty("name").toString());
+        Assertions.assertEquals(10, second.getFormat("A4").getProperty("margin.bottom").toInt());
+    }
+
+    @Test
+    public void testChangedIncludeIsParsedAgain(@TempDir final Path directory) throws Exception {
+        Path config = copyConfig(directory);
+        ConfigurationCache cache = new ConfigurationCache(directory.resolve("cache"));
+        cache.getConfiguration(config, mDefaultConfigPath);
+
+        Path formats = directory.resolve("standard_formats.properties");
+        Files.writeString(formats, Files.readString(formats) + System.lineSeparator() + "format.A4.margin.bottom=20" + System.lineSeparator());
+        Configuration changed = cache.getConfiguration(config, mDefaultConfigPath);
+        Assertions.assertTrue(changed instanceof JavaPropertiesConfigurationParser);
+        Assertions.assertEquals(20, changed.getFormat("A4").getProperty("margin.bottom").toInt());
+
+        Configuration cached = cache.getConfiguration(config, mDefaultConfigPath);
+        Assertions.assertFalse(cached instanceof JavaPropertiesConfigurationParser);
+        Assertions.assertEquals(20, cached.getFormat("A4").getProperty("margin.bottom").toInt());
+    }
+
+    @Test
+    public void testMalformedCacheFileIsIgnored(@TempDir final Path directory) throws Exception {
+        Path config = copyConfig(directory);
+        Path cacheDirectory = directory.resolve("cache");
+        ConfigurationCache cache = new ConfigurationCache(cacheDirectory);
+        cache.getConfiguration(config, mDefaultConfigPath);
+        try (var files = Files.list(cacheDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.write(file, new byte[]{1, 2, 3});
+            }
+        }
+        Configuration parsed = cache.getConfiguration(config, mDefaultConfigPath);
+        Assertions.assertEquals("Dummy Printer", parsed.getPrinter().getProperty("name").toString());
+    }
+}
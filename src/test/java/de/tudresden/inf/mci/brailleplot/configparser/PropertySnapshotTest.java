@@ -0,0 +1,74 @@
+package de.tudresden.inf.mci.brailleplot.configparser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+public class PropertySnapshotTest {
+
+    private static Printer createPrinter() {
+        Printer fallback = new Printer(List.of(
+                new PrinterProperty("name", "Default Printer"),
+                new PrinterProperty("constraint.top", "5.0"),
+                new PrinterProperty("raster.constraint.width", "30")));
+        Printer printer = new Printer(List.of(
+                new PrinterProperty("name", "Dummy Printer"),
+                new PrinterProperty("floatingDot.support", "true")));
+        printer.setFallback(fallback);
+        return printer;
+    }
+
+    @Test
+    public void testResolvedValues() {
+        PropertySnapshot snapshot = createPrinter().snapshot();
+        Assertions.assertEquals("Dummy Printer", snapshot.getString("name"));
+        Assertions.assertEquals(5.0, snapshot.getDouble("constraint.top"));
+        Assertions.assertEquals(30, snapshot.getInt("raster.constraint.width"));
+        Assertions.assertEquals(30.0, snapshot.getDouble("raster.constraint.width"));
+        Assertions.assertTrue(snapshot.getBool("floatingDot.support"));
+        Assertions.assertFalse(snapshot.getBool("name"));
+        Assertions.assertEquals(Set.of("name", "constraint.top", "raster.constraint.width", "floatingDot.support"),
+                snapshot.getPropertyNames());
+        Assertions.assertTrue(snapshot.contains("constraint.top"));
+        Assertions.assertFalse(snapshot.contains("constraint.height"));
+    }
+
+    @Test
+    public void testSlots() {
+        PropertySnapshot snapshot = createPrinter().snapshot();
+        int slot = snapshot.indexOf("constraint.top");
+        Assertions.assertEquals(5.0, snapshot.getDouble(slot));
+        Assertions.assertEquals("5.0", snapshot.getString(slot));
+        Assertions.assertThrows(NoSuchElementException.class, () -> snapshot.indexOf("constraint.height"));
+    }
+
+    @Test
+    public void testSameErrorsAsProperties() {
+        Printer printer = createPrinter();
+        PropertySnapshot snapshot = printer.snapshot();
+        Assertions.assertThrows(NumberFormatException.class, () -> printer.getProperty("constraint.top").toInt());
+        Assertions.assertThrows(NumberFormatException.class, () -> snapshot.getInt("constraint.top"));
+        Assertions.assertThrows(NumberFormatException.class, () -> snapshot.getDouble("name"));
+        Assertions.assertThrows(NoSuchElementException.class, () -> snapshot.getString("constraint.height"));
+    }
+
+    @Test
+    public void testSnapshotIsReusedUntilModified() {
+        Printer printer = createPrinter();
+        PropertySnapshot snapshot = printer.snapshot();
+        Assertions.assertSame(snapshot, printer.snapshot());
+
+        printer.override(new PrinterProperty("name", "Other Printer"));
+        PropertySnapshot modified = printer.snapshot();
+        Assertions.assertNotSame(snapshot, modified);
+        Assertions.assertEquals("Dummy Printer", snapshot.getString("name"));
+        Assertions.assertEquals("Other Printer", modified.getString("name"));
+
+        printer.setFallback(new Printer(List.of(new PrinterProperty("constraint.top", "7"))));
+        Assertions.assertEquals(7, printer.snapshot().getInt("constraint.top"));
+        Assertions.assertFalse(printer.snapshot().contains("raster.constraint.width"));
+    }
+}
@@ -89,6 +89,39 @@ class CsvDotParserTest {
         Assertions.assertEquals(point.getY(), 7.0);
 
     }
+
+    @Test
+    void testStreamingParsing() throws Exception {
+        ClassLoader classloader = Thread.currentThread().getContextClassLoader();
+        InputStream csvStream = classloader.getResourceAsStream("examples_csv/1_scatter_plot.csv");
+        assert csvStream != null;
+        CsvParser streamingParser = new CsvParser(new BufferedReader(new InputStreamReader(csvStream)), ',', '\"', true);
+        PointListContainer<PointList> streamed = streamingParser.parse(CsvType.DOTS, CsvOrientation.HORIZONTAL);
+        PointListContainer<PointList> expected = parser.parse(CsvType.DOTS, CsvOrientation.HORIZONTAL);
+
+        Assertions.assertEquals(expected.getSize(), streamed.getSize());
+        Assertions.assertEquals(expected.getMinX(), streamed.getMinX());
+        Assertions.assertEquals(expected.getMaxY(), streamed.getMaxY());
+        Iterator<PointList> expectedIt = expected.iterator();
+        Iterator<PointList> streamedIt = streamed.iterator();
+        while (expectedIt.hasNext()) {
+            PointList expectedList = expectedIt.next();
+            PointList streamedList = streamedIt.next();
+            Assertions.assertEquals(expectedList.getName(), streamedList.getName());
+            Assertions.assertEquals(expectedList.getSize(), streamedList.getSize());
+            Iterator<Point2DDouble> expectedPoints = expectedList.getListIterator();
+            Iterator<Point2DDouble> streamedPoints = streamedList.getListIterator();
+            while (expectedPoints.hasNext()) {
+                Point2DDouble expectedPoint = expectedPoints.next();
+                Point2DDouble streamedPoint = streamedPoints.next();
+                Assertions.assertEquals(expectedPoint.getX(), streamedPoint.getX());
+                Assertions.assertEquals(expectedPoint.getY(), streamedPoint.getY());
+            }
+        }
+
+        // The lines were not kept
+        Assertions.assertThrows(IllegalStateException.class, () -> streamingParser.parse(CsvType.DOTS, CsvOrientation.HORIZONTAL));
+    }
 /*
     @Test
     public void testVerticalParsing() {
@@ -98,6 +98,38 @@ class CsvXAlignedParserTest {
         Assertions.assertEquals(point.getY(), 7.0);
 
     }
+    @Test
+    void testStreamingParsing() throws Exception {
+        ClassLoader classloader = Thread.currentThread().getContextClassLoader();
+        InputStream csvStream = classloader.getResourceAsStream("examples_csv/0_bar_chart.csv");
+        assert csvStream != null;
+        CsvParser streamingParser = new CsvParser(new BufferedReader(new InputStreamReader(csvStream)), ',', '\"', true);
+        PointListContainer<PointList> streamed = streamingParser.parse(CsvType.X_ALIGNED, CsvOrientation.VERTICAL);
+        PointListContainer<PointList> expected = parser.parse(CsvType.X_ALIGNED, CsvOrientation.VERTICAL);
+
+        Assertions.assertEquals(expected.getSize(), streamed.getSize());
+        Assertions.assertEquals(expected.getMinX(), streamed.getMinX());
+        Assertions.assertEquals(expected.getMaxX(), streamed.getMaxX());
+        Assertions.assertEquals(expected.getMinY(), streamed.getMinY());
+        Assertions.assertEquals(expected.getMaxY(), streamed.getMaxY());
+        Iterator<PointList> expectedIt = expected.iterator();
+        Iterator<PointList> streamedIt = streamed.iterator();
+        while (expectedIt.hasNext()) {
+            PointList expectedList = expectedIt.next();
+            PointList streamedList = streamedIt.next();
+            Assertions.assertEquals(expectedList.getName(), streamedList.getName());
+            Assertions.assertEquals(expectedList.getSize(), streamedList.getSize());
+            Iterator<Point2DDouble> expectedPoints = expectedList.getListIterator();
+            Iterator<Point2DDouble> streamedPoints = streamedList.getListIterator();
+            while (expectedPoints.hasNext()) {
+                Point2DDouble expectedPoint = expectedPoints.next();
+                Point2DDouble streamedPoint = streamedPoints.next();
+                Assertions.assertEquals(expectedPoint.getX(), streamedPoint.getX());
+                Assertions.assertEquals(expectedPoint.getY(), streamedPoint.getY());
+            }
+        }
+    }
+
 /*
     @Test
     public void testHorizontalParsing() {
@@ -0,0 +1,84 @@
+package de.tudresden.inf.mci.brailleplot.csvparser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.text.NumberFormat;
+import java.text.ParseException;
+import java.util.Random;
+
+class DecimalParserTest {
+
+    private static final DecimalParser PARSER = new DecimalParser(Constants.LOCALE);
+
+    // Digits, separators, signs, exponents and some garbage, weighted towards digits
+    private static final String[] TOKENS = {
+        "0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "0", "1", "5", "9",
+        ",", ".", "-", "E", "E-", "+", " ", "x", "e", "٣", "∞", "NaN", "00", "999999999999"
+    };
+    private static final int FUZZ_ROUNDS = 200_000;
+    private static final int MAX_TOKENS = 12;
+
+    private static void assertSameAsNumberFormat(final String text) {
+        // The shared instance is not used, it is not thread-safe
+        NumberFormat format = NumberFormat.getInstance(Constants.LOCALE);
+        Double expected;
+        try {
+            expected = format.parse(text).doubleValue();
+        } catch (ParseException e) {
+            expected = null;
+        }
+        Double actual;
+        try {
+            actual = PARSER.parse(text);
+        } catch (ParseException e) {
+            actual = null;
+        }
+        Assertions.assertEquals(expected, actual, "Parsing \"" + text + "\"");
+    }
+
+    @Test
+    void testGermanNotation() throws ParseException {
+        Assertions.assertEquals(1.5, PARSER.parse("1,5"));
+        Assertions.assertEquals(1234.5, PARSER.parse("1.234,5"));
+        Assertions.assertEquals(-0.25, PARSER.parse("-0,25"));
+        Assertions.assertEquals(250.0, PARSER.parse("2,5E2"));
+        Assertions.assertEquals(7.0, PARSER.parse("7 cm"));
+        Assertions.assertEquals(12.0, PARSER.parse("12."));
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, PARSER.parse("-∞"));
+        Assertions.assertEquals(0.1, PARSER.parse("0,1"));
+        Assertions.assertEquals(12345678901234567890.0, PARSER.parse("12345678901234567890"));
+        Assertions.assertThrows(ParseException.class, () -> PARSER.parse(" 1"));
+        Assertions.assertThrows(ParseException.class, () -> PARSER.parse(""));
+        Assertions.assertThrows(ParseException.class, () -> PARSER.parse("-"));
+        Assertions.assertThrows(ParseException.class, () -> PARSER.parse(",E5"));
+    }
+
+    @Test
+    void testSameAsNumberFormatForFuzzedInput() {
+        Random random = new Random(0);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < FUZZ_ROUNDS; i++) {
+            text.setLength(0);
+            int tokens = random.nextInt(MAX_TOKENS) + 1;
+            for (int j = 0; j < tokens; j++) {
+                text.append(TOKENS[random.nextInt(TOKENS.length)]);
+            }
+            assertSameAsNumberFormat(text.toString());
+        }
+    }
+
+    @Test
+    void testSameAsNumberFormatForFormattedDoubles() {
+        Random random = new Random(1);
+        NumberFormat format = NumberFormat.getInstance(Constants.LOCALE);
+        format.setMaximumFractionDigits(20);
+        for (int i = 0; i < FUZZ_ROUNDS; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isFinite(value)) {
+                assertSameAsNumberFormat(format.format(value));
+                assertSameAsNumberFormat(Double.toString(value).replace('.', ','));
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package de.tudresden.inf.mci.brailleplot.csvparser;
+
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointList;
+import de.tudresden.inf.mci.brailleplot.datacontainers.PointListContainer;
+import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+class ParallelCsvParserTest {
+
+    private static final int POOL_SIZE = 4;
+    private static final int ROWS = 21;
+    private static final int MAX_COLUMNS = 8;
+
+    private static PointListContainer<PointList> parseInParallel(final Path file, final int chunkSize) throws Exception {
+        return parseInParallel(file, chunkSize, false);
+    }
+
+    private static PointListContainer<PointList> parseInParallel(final Path file, final int chunkSize, final boolean sequentialFallback) throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(POOL_SIZE);
+        try {
+            return new ParallelCsvParser(file, ',', '\"', pool, chunkSize, sequentialFallback).parse(CsvType.DOTS, CsvOrientation.HORIZONTAL);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertSameContainer(final PointListContainer<PointList> expected, final PointListContainer<PointList> actual) {
+        Assertions.assertEquals(expected.getSize(), actual.getSize());
+        Assertions.assertEquals(expected.getMinX(), actual.getMinX());
+        Assertions.assertEquals(expected.getMaxX(), actual.getMaxX());
+        Assertions.assertEquals(expected.getMinY(), actual.getMinY());
+        Assertions.assertEquals(expected.getMaxY(), actual.getMaxY());
+        Iterator<PointList> expectedIt = expected.iterator();
+        Iterator<PointList> actualIt = actual.iterator();
+        while (expectedIt.hasNext()) {
+            PointList expectedList = expectedIt.next();
+            PointList actualList = actualIt.next();
+            Assertions.assertEquals(expectedList.getName(), actualList.getName());
+            Assertions.assertEquals(expectedList.getSize(), actualList.getSize());
+            Iterator<Point2DDouble> expectedPoints = expectedList.getListIterator();
+            Iterator<Point2DDouble> actualPoints = actualList.getListIterator();
+            while (expectedPoints.hasNext()) {
+                Point2DDouble expectedPoint = expectedPoints.next();
+                Point2DDouble actualPoint = actualPoints.next();
+                Assertions.assertEquals(expectedPoint.getX(), actualPoint.getX());
+                Assertions.assertEquals(expectedPoint.getY(), actualPoint.getY());
+            }
+        }
+    }
+
+    @Test
+    void testSameAsCsvParserForAllChunkSizes(@TempDir final Path directory) throws Exception {
+        // Quoted values with the decimal separator, also behind whitespace, empty and unparseable cells, line breaks with carriage returns
+        StringBuilder csv = new StringBuilder();
+        Random random = new Random(0);
+        for (int row = 0; row < ROWS; row++) {
+            csv.append(row % 2 == 0 ? "\"Linie " + row + ", gemessen\"" : " ");
+            int columns = random.nextInt(MAX_COLUMNS);
+            for (int column = 0; column < columns; column++) {
+                int kind = random.nextInt(10);
+                if (kind == 0) {
+                    csv.append(", ");
+                } else if (kind == 1) {
+                    csv.append(",x");
+                } else if (kind == 2) {
+                    csv.append(",\"").append(random.nextInt(100)).append(',').append(random.nextInt(10)).append('\"');
+                } else if (kind == 3) {
+                    csv.append(", \"").append(random.nextInt(100)).append(',').append(random.nextInt(10)).append('\"');
+                } else {
+                    csv.append(',').append(random.nextInt(1000) - 500);
+                }
+            }
+            csv.append(row % 3 == 0 ? "\r\n" : "\n");
+        }
+        Path file = directory.resolve("dots.csv");
+        Files.write(file, csv.toString().getBytes(StandardCharsets.UTF_8));
+
+        PointListContainer<PointList> expected = new CsvParser(new StringReader(csv.toString()), ',', '\"')
+                .parse(CsvType.DOTS, CsvOrientation.HORIZONTAL);
+        Assertions.assertTrue(expected.getSize() > 0);
+        for (int chunkSize = 1; chunkSize <= csv.length() + 1; chunkSize++) {
+            assertSameContainer(expected, parseInParallel(file, chunkSize));
+        }
+    }
+
+    @Test
+    void testSameAsCsvParserForExample(@TempDir final Path directory) throws Exception {
+        Path file = directory.resolve("scatter.csv");
+        ClassLoader classloader = Thread.currentThread().getContextClassLoader();
+        Files.write(file, classloader.getResourceAsStream("examples_csv/1_scatter_plot.csv").readAllBytes());
+        String csv = Files.readString(file);
+        PointListContainer<PointList> expected = new CsvParser(new StringReader(csv), ',', '\"')
+                .parse(CsvType.DOTS, CsvOrientation.HORIZONTAL);
+        for (int chunkSize = 1; chunkSize <= csv.length(); chunkSize++) {
+            assertSameContainer(expected, parseInParallel(file, chunkSize));
+        }
+    }
+
+    @Test
+    void testQuotedLineBreaks(@TempDir final Path directory) throws Exception {
+        String csv = "\"Linie\n\"\"1\"\"\",1,2\n,3,4\nLinie2,\"5\n\",6\n,7,8\n";
+        Path file = directory.resolve("quoted.csv");
+        Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+        for (int chunkSize = 1; chunkSize <= csv.length(); chunkSize++) {
+            PointListContainer<PointList> container = parseInParallel(file, chunkSize);
+            Assertions.assertEquals(2, container.getSize());
+            Iterator<PointList> lists = container.iterator();
+            PointList first = lists.next();
+            Assertions.assertEquals("Linie\n\"1\"", first.getName());
+            Assertions.assertEquals(2, first.getSize());
+            PointList second = lists.next();
+            Assertions.assertEquals("Linie2", second.getName());
+            Assertions.assertEquals(5.0, second.getMinX());
+            Assertions.assertEquals(8.0, second.getMaxY());
+        }
+    }
+
+    @Test
+    void testUnterminatedQuote(@TempDir final Path directory) throws Exception {
+        String csv = "Linie1,1,2\n,3,4\n\"Linie2,5\n,6\n";
+        Path file = directory.resolve("unterminated.csv");
+        Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+        for (int chunkSize = 1; chunkSize <= csv.length(); chunkSize++) {
+            int size = chunkSize;
+            Assertions.assertThrows(MalformedCsvException.class, () -> parseInParallel(file, size));
+        }
+    }
+
+    @Test
+    void testWhitespaceBeforeQuotedField(@TempDir final Path directory) throws Exception {
+        String csv = "s1, \"1,5\", \"2,5\"\ny, \"3,5\", \"4,5\"\n";
+        Path file = directory.resolve("whitespace.csv");
+        Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+        for (int chunkSize = 1; chunkSize <= csv.length(); chunkSize++) {
+            PointListContainer<PointList> container = parseInParallel(file, chunkSize);
+            Assertions.assertEquals(1, container.getSize());
+            PointList list = container.iterator().next();
+            Assertions.assertEquals("s1", list.getName());
+            Assertions.assertEquals(2, list.getSize());
+            Assertions.assertEquals(1.5, list.getMinX());
+            Assertions.assertEquals(2.5, list.getMaxX());
+            Assertions.assertEquals(3.5, list.getMinY());
+            Assertions.assertEquals(4.5, list.getMaxY());
+        }
+    }
+
+    @Test
+    void testUnsupportedSyntaxIsParsedByCsvParser(@TempDir final Path directory) throws Exception {
+        String[] inputs = {
+            // Escape character
+            "Linie\\1,1,2\n,3,4\n\"Linie \\\"2\\\"\",5,6\n,7,8\n",
+            // Whitespace before a quoted field, that is kept by CsvParser
+            " \"Linie1\",1,2\n,3,4\n",
+            "Linie1, \",5\",2\n,3,4\n",
+            // Quote characters inside of or behind a field
+            "Linie\"1\",1,2\n,3,4\n",
+            "\"Linie\"1,1,2\n,3,4\n",
+            // Carriage returns without line feed and inside of quotes
+            "Linie1,1,2\r,3,4\n",
+            "\"Linie\r\n1\",1,2\r\n,3,4\r\n"
+        };
+        for (String csv : inputs) {
+            Path file = directory.resolve("unsupported.csv");
+            Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+            PointListContainer<PointList> expected = new CsvParser(new StringReader(csv), ',', '\"')
+                    .parse(CsvType.DOTS, CsvOrientation.HORIZONTAL);
+            for (int chunkSize = 1; chunkSize <= csv.length(); chunkSize++) {
+                int size = chunkSize;
+                RuntimeException e = Assertions.assertThrows(RuntimeException.class, () -> parseInParallel(file, size));
+                Assertions.assertTrue(e.getMessage().contains("Unsupported syntax"), csv);
+                assertSameContainer(expected, parseInParallel(file, chunkSize, true));
+            }
+        }
+    }
+
+    @Test
+    void testUnsupportedType(@TempDir final Path directory) throws Exception {
+        Path file = Files.writeString(directory.resolve("bars.csv"), "a,1\n");
+        ParallelCsvParser parser = new ParallelCsvParser(file, ',', '\"');
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> parser.parse(CsvType.X_ALIGNED, CsvOrientation.HORIZONTAL));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> parser.parse(CsvType.DOTS, CsvOrientation.VERTICAL));
+    }
+}
@@ -0,0 +1,76 @@
+package de.tudresden.inf.mci.brailleplot.datacontainers;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+class ArrayPointListContainerImplTest {
+
+    private static PointList createList(final String name, final double... coordinates) {
+        ArrayPointListImpl list = new ArrayPointListImpl(name);
+        for (int i = 0; i < coordinates.length; i += 2) {
+            list.pushBack(coordinates[i], coordinates[i + 1]);
+        }
+        return list;
+    }
+
+    @Test
+    void testPushBackUpdatesExtrema() {
+        ArrayPointListContainerImpl container = new ArrayPointListContainerImpl();
+        Assertions.assertEquals(0, container.getSize());
+        container.pushBack(createList("a", 1, 2, 3, 4));
+        Assertions.assertEquals(1.0, container.getMinX());
+        Assertions.assertEquals(3.0, container.getMaxX());
+        Assertions.assertEquals(2.0, container.getMinY());
+        Assertions.assertEquals(4.0, container.getMaxY());
+
+        container.pushBack(createList("b", -1, 5, 2, 3));
+        Assertions.assertEquals(2, container.getSize());
+        Assertions.assertEquals(-1.0, container.getMinX());
+        Assertions.assertEquals(3.0, container.getMaxX());
+        Assertions.assertEquals(2.0, container.getMinY());
+        Assertions.assertEquals(5.0, container.getMaxY());
+        Assertions.assertThrows(NullPointerException.class, () -> container.pushBack(null));
+    }
+
+    @Test
+    void testCalculateExtremaAfterRemoval() {
+        PointList outer = createList("outer", -10, -20, 10, 20);
+        PointList inner = createList("inner", 1, 2, 3, 4);
+        ArrayPointListContainerImpl container = new ArrayPointListContainerImpl();
+        container.pushBack(outer);
+        container.pushBack(inner);
+
+        Assertions.assertTrue(container.removeFirstOccurrence(outer));
+        Assertions.assertFalse(container.removeFirstOccurrence(outer));
+        // The extrema are only recalculated on request
+        Assertions.assertEquals(-10.0, container.getMinX());
+        container.calculateExtrema();
+        Assertions.assertEquals(1.0, container.getMinX());
+        Assertions.assertEquals(3.0, container.getMaxX());
+        Assertions.assertEquals(2.0, container.getMinY());
+        Assertions.assertEquals(4.0, container.getMaxY());
+
+        Assertions.assertTrue(container.removeFirstOccurrence(inner));
+        container.calculateExtrema();
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, container.getMinX());
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, container.getMaxX());
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, container.getMinY());
+        Assertions.assertEquals(Double.NEGATIVE_INFINITY, container.getMaxY());
+    }
+
+    @Test
+    void testInitialElements() {
+        List<PointList> elements = List.of(createList("a", 0, 1), createList("b", 5, -1), createList("c", 2, 7));
+        ArrayPointListContainerImpl container = new ArrayPointListContainerImpl(elements);
+        Assertions.assertEquals(3, container.getSize());
+        Assertions.assertEquals(0.0, container.getMinX());
+        Assertions.assertEquals(5.0, container.getMaxX());
+        Assertions.assertEquals(-1.0, container.getMinY());
+        Assertions.assertEquals(7.0, container.getMaxY());
+        Assertions.assertEquals(List.of("a", "b", "c"), container.stream().map(PointList::getName).collect(Collectors.toList()));
+        Assertions.assertEquals(List.of("a", "b", "c"), container.stream().parallel().map(PointList::getName).collect(Collectors.toList()));
+    }
+}
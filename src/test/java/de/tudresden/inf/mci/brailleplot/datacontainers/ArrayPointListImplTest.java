@@ -0,0 +1,113 @@
+package de.tudresden.inf.mci.brailleplot.datacontainers;
+
+import de.tudresden.inf.mci.brailleplot.point.Point2DDouble;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+class ArrayPointListImplTest {
+
+    private static final int LARGE_SIZE = 10_000;
+    private static final int X_RANGE = 100;
+
+    @Test
+    void testPushBackAndExtrema() {
+        ArrayPointListImpl list = new ArrayPointListImpl("test_name", 0);
+        Assertions.assertEquals("test_name", list.getName());
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            list.pushBack(i, -i);
+        }
+        list.pushBack(new Point2DDouble(0.5, 2));
+        Assertions.assertEquals(LARGE_SIZE + 1, list.getSize());
+        Assertions.assertEquals(0.0, list.getMinX());
+        Assertions.assertEquals(LARGE_SIZE - 1.0, list.getMaxX());
+        Assertions.assertEquals(1.0 - LARGE_SIZE, list.getMinY());
+        Assertions.assertEquals(2.0, list.getMaxY());
+        Assertions.assertEquals(0.5, list.getX(LARGE_SIZE));
+        Assertions.assertEquals(new Point2DDouble(3, -3), list.get(3));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.getY(LARGE_SIZE + 1));
+
+        Assertions.assertTrue(list.removeFirstOccurrence(new Point2DDouble(0.5, 2)));
+        Assertions.assertFalse(list.removeFirstOccurrence(new Point2DDouble(0.5, 2)));
+        list.calculateExtrema();
+        Assertions.assertEquals(0.0, list.getMaxY());
+    }
+
+    @Test
+    void testSameAsSimplePointListImpl() {
+        Random random = new Random(0);
+        SimplePointListImpl expected = new SimplePointListImpl("test_name");
+        ArrayPointListImpl actual = new ArrayPointListImpl("test_name");
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            // Distinct x values, the order of equal values is not defined by SimplePointListImpl
+            Point2DDouble point = new Point2DDouble(random.nextInt(X_RANGE) + i / (double) LARGE_SIZE, random.nextGaussian());
+            expected.pushBack(point);
+            actual.pushBack(point);
+        }
+        Assertions.assertEquals(expected.stream().collect(Collectors.toList()), actual.stream().collect(Collectors.toList()));
+        Assertions.assertEquals(expected.getMinY(), actual.getMinY());
+        Assertions.assertEquals(expected.getMaxY(), actual.getMaxY());
+
+        PointList expectedSorted = expected.sortXAscend();
+        PointList actualSorted = actual.sortXAscend();
+        Assertions.assertEquals(expectedSorted.stream().collect(Collectors.toList()), actualSorted.stream().collect(Collectors.toList()));
+        Assertions.assertEquals(expectedSorted.getMaxX(), actualSorted.getMaxX());
+        // The original list is not sorted
+        Assertions.assertEquals(expected.stream().collect(Collectors.toList()), actual.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testSortInPlaceIsStable() {
+        ArrayPointListImpl list = new ArrayPointListImpl();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            list.pushBack((LARGE_SIZE - i) % X_RANGE, i);
+        }
+        list.sortXAscendInPlace();
+        for (int i = 1; i < LARGE_SIZE; i++) {
+            Assertions.assertTrue(list.getX(i - 1) <= list.getX(i));
+            if (list.getX(i - 1) == list.getX(i)) {
+                Assertions.assertTrue(list.getY(i - 1) < list.getY(i));
+            }
+        }
+    }
+
+    @Test
+    void testParallelStream() {
+        ArrayPointListImpl list = new ArrayPointListImpl();
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            list.pushBack(i, 2 * i);
+        }
+        List<Point2DDouble> points = list.stream().parallel().collect(Collectors.toList());
+        Assertions.assertEquals(LARGE_SIZE, points.size());
+        for (int i = 0; i < LARGE_SIZE; i++) {
+            Assertions.assertEquals(new Point2DDouble(i, 2 * i), points.get(i));
+        }
+        Assertions.assertEquals(list.xStream().sum(), list.stream().parallel().mapToDouble(Point2DDouble::getX).sum());
+        Assertions.assertEquals(2 * list.xStream().sum(), list.yStream().parallel().sum());
+    }
+
+    @Test
+    void testListIterator() {
+        ArrayPointListImpl list = new ArrayPointListImpl();
+        list.pushBack(1, 1);
+        list.pushBack(3, 3);
+        ListIterator<Point2DDouble> it = list.getListIterator();
+        it.next();
+        it.add(new Point2DDouble(2, 2));
+        it.next();
+        it.set(new Point2DDouble(4, 4));
+        Assertions.assertEquals(new Point2DDouble(4, 4), it.previous());
+        it.remove();
+        Assertions.assertEquals(List.of(new Point2DDouble(1, 1), new Point2DDouble(2, 2)), list.stream().collect(Collectors.toList()));
+
+        Iterator<Point2DDouble> iterator = list.iterator();
+        list.pushBack(5, 5);
+        Assertions.assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+}
@@ -0,0 +1,132 @@
+package de.tudresden.inf.mci.brailleplot.layout;
+
+import de.tudresden.inf.mci.brailleplot.configparser.ConfigurationParser;
+import de.tudresden.inf.mci.brailleplot.configparser.JavaPropertiesConfigurationParser;
+import de.tudresden.inf.mci.brailleplot.printabledata.MatrixData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PageQueueTest {
+
+    private static RasterCanvas createCanvas() throws Exception {
+        ConfigurationParser parser = new JavaPropertiesConfigurationParser(RasterCanvasTest.mBaseConfig, RasterCanvasTest.mDefaultConfig);
+        return new SixDotBrailleRasterCanvas(parser.getPrinter(), parser.getRepresentation(), parser.getFormat("test"));
+    }
+
+    @Test
+    public void testListenerGetsCompletedPages() throws Exception {
+        RasterCanvas canvas = createCanvas();
+        List<MatrixData<Boolean>> completed = new ArrayList<>();
+        List<Integer> indices = new ArrayList<>();
+        boolean[] finished = {false};
+        canvas.addPageListener(new PageListener<MatrixData<Boolean>>() {
+            @Override
+            public void pageCompleted(final MatrixData<Boolean> page, final int pageIndex) {
+                completed.add(page);
+                indices.add(pageIndex);
+            }
+
+            @Override
+            public void canvasFinished() {
+                finished[0] = true;
+            }
+        });
+
+        MatrixData<Boolean> first = canvas.getNewPage();
+        Assertions.assertTrue(completed.isEmpty());
+        MatrixData<Boolean> second = canvas.getNewPage();
+        Assertions.assertEquals(List.of(first), completed);
+        Assertions.assertFalse(finished[0]);
+        canvas.finish();
+        canvas.finish();
+        Assertions.assertEquals(List.of(first, second), completed);
+        Assertions.assertEquals(List.of(0, 1), indices);
+        Assertions.assertTrue(finished[0]);
+        Assertions.assertEquals(2, canvas.getPageCount());
+        Assertions.assertThrows(IllegalStateException.class, canvas::getNewPage);
+    }
+
+    @Test
+    public void testNoRetention() throws Exception {
+        RasterCanvas canvas = createCanvas();
+        canvas.setRetainPages(false);
+        canvas.getNewPage();
+        canvas.getNewPage();
+        MatrixData<Boolean> third = canvas.getNewPage();
+        Assertions.assertEquals(3, canvas.getPageCount());
+        Assertions.assertSame(third, canvas.getCurrentPage());
+        Assertions.assertSame(third, canvas.getPageIterator().next());
+        Assertions.assertFalse(canvas.getPageIterator().hasPrevious());
+    }
+
+    @Test
+    public void testQueueHandsOffPagesToConsumer() throws Exception {
+        RasterCanvas canvas = createCanvas();
+        PageQueue<MatrixData<Boolean>> queue = new PageQueue<>(1);
+        canvas.addPageListener(queue);
+        final int pageCount = 5;
+        Thread renderer = new Thread(() -> {
+            for (int i = 0; i < pageCount; i++) {
+                canvas.getNewPage().setValue(0, i, true);
+            }
+            canvas.finish();
+        });
+        renderer.start();
+        int taken = 0;
+        for (MatrixData<Boolean> page = queue.take(); page != null; page = queue.take()) {
+            Assertions.assertTrue(page.getValue(0, taken));
+            taken++;
+        }
+        renderer.join();
+        Assertions.assertEquals(pageCount, taken);
+        Assertions.assertNull(queue.take());
+    }
+
+    @Test
+    public void testAbortReleasesProducer() throws Exception {
+        RasterCanvas canvas = createCanvas();
+        PageQueue<MatrixData<Boolean>> queue = new PageQueue<>(1);
+        canvas.addPageListener(queue);
+        Thread renderer = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                canvas.getNewPage();
+            }
+            canvas.finish();
+        });
+        renderer.start();
+        Assertions.assertNotNull(queue.take());
+        queue.abort();
+        renderer.join();
+        Assertions.assertNull(queue.take());
+    }
+
+    @Test
+    public void testAbortWhileProducerIsBlocked() throws Exception {
+        RasterCanvas canvas = createCanvas();
+        PageQueue<MatrixData<Boolean>> queue = new PageQueue<>(1);
+        canvas.addPageListener(queue);
+        Thread renderer = new Thread(() -> {
+            canvas.getNewPage();
+            canvas.getNewPage();
+            canvas.finish();
+        });
+        renderer.start();
+        // The first page fills the queue, the renderer blocks on the second one
+        while (renderer.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        queue.abort();
+        // The second page takes the freed space, the end marker must not block on the full queue
+        renderer.join(5000);
+        Assertions.assertFalse(renderer.isAlive());
+        Assertions.assertNull(queue.take());
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PageQueue<MatrixData<Boolean>>(0));
+    }
+}
@@ -0,0 +1,198 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+class BoolMatrixDataImplTest {
+
+    private BoolMatrixDataImpl boolMat(final int rows, final int columns, final boolean defaultValue) {
+        return new BoolMatrixDataImpl(new Printer(new LinkedList<>()), new Format(new LinkedList<>()), rows, columns, defaultValue);
+    }
+
+    // Same format as BrailleCell6#getBitRepresentationFromBool
+    private static String bitRepresentation(final int mask) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < BrailleCell6.DOT_COUNT; i++) {
+            if ((mask & (1 << i)) != 0) {
+                sb.append("1");
+            } else {
+                sb.append("0");
+            }
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void getSetValueTestPosZero() {
+        MatrixData<Boolean> matrixData = boolMat(3, 3, false);
+        matrixData.setValue(0, 0, true);
+        Assertions.assertTrue(matrixData.getValue(0, 0));
+        Assertions.assertFalse(matrixData.getValue(0, 1));
+        Assertions.assertFalse(matrixData.getValue(1, 0));
+    }
+
+    @Test
+    void getSetValueTestWordBoundaries() {
+        // 130 columns span three words per row
+        BoolMatrixDataImpl matrixData = boolMat(4, 130, false);
+        int[] columns = {0, 63, 64, 127, 128, 129};
+        for (int column : columns) {
+            matrixData.set(2, column, true);
+        }
+        for (int row = 0; row < matrixData.getRowCount(); row++) {
+            for (int column = 0; column < matrixData.getColumnCount(); column++) {
+                boolean expected = false;
+                if (row == 2) {
+                    for (int c : columns) {
+                        expected |= c == column;
+                    }
+                }
+                Assertions.assertEquals(expected, matrixData.get(row, column));
+            }
+        }
+        matrixData.set(2, 64, false);
+        Assertions.assertFalse(matrixData.get(2, 64));
+        Assertions.assertTrue(matrixData.get(2, 63));
+        Assertions.assertTrue(matrixData.get(2, 127));
+    }
+
+    @Test
+    void getSetValueTestInvalidPos() {
+        MatrixData<Boolean> matrixData = boolMat(3, 3, false);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> matrixData.setValue(matrixData.getRowCount(), 0, true));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> matrixData.setValue(0, matrixData.getColumnCount(), true));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> matrixData.getValue(-1, 0));
+    }
+
+    @Test
+    void setNullValueTest() {
+        MatrixData<Boolean> matrixData = boolMat(3, 3, false);
+        Assertions.assertThrows(NullPointerException.class, () -> matrixData.setValue(0, 0, null));
+    }
+
+    @Test
+    void defaultValueTest() {
+        MatrixData<Boolean> matrixData = boolMat(3, 70, true);
+        for (int row = 0; row < matrixData.getRowCount(); row++) {
+            for (int column = 0; column < matrixData.getColumnCount(); column++) {
+                Assertions.assertTrue(matrixData.getValue(row, column));
+            }
+        }
+        Assertions.assertFalse(boolMat(3, 3, false).getValue(2, 2));
+    }
+
+    @Test
+    void getBrailleCell6IteratorTest() {
+        // Set a unique pattern of dots for each of the four cells of a 6x4 matrix
+        BoolMatrixDataImpl matrixData = boolMat(6, 4, false);
+        matrixData.set(0, 0, true);
+        matrixData.set(1, 3, true);
+        matrixData.set(5, 0, true);
+        matrixData.set(3, 3, true);
+        matrixData.set(5, 3, true);
+        String[] expected = {"100000", "000010", "001000", "000101"};
+
+        Iterator<BrailleCell6<Boolean>> cellIt = matrixData.getBrailleCell6Iterator();
+        int i = 0;
+        while (cellIt.hasNext()) {
+            Assertions.assertEquals(expected[i++], cellIt.next().getBitRepresentationFromBool());
+        }
+        Assertions.assertEquals(expected.length, i);
+    }
+
+    @Test
+    void getCellRowMasksTest() {
+        BoolMatrixDataImpl matrixData = boolMat(6, 4, false);
+        matrixData.set(0, 0, true);
+        matrixData.set(2, 1, true);
+        matrixData.set(4, 3, true);
+        int[] masks = new int[2];
+        Assertions.assertEquals(2, matrixData.getCellRowMasks(0, 2, 3, masks));
+        Assertions.assertArrayEquals(new int[] {0b100001, 0}, masks);
+        matrixData.getCellRowMasks(1, 2, 3, masks);
+        Assertions.assertArrayEquals(new int[] {0, 0b010000}, masks);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> matrixData.getCellRowMasks(2, 2, 3, masks));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> matrixData.getCellRowMasks(0, 5, 8, masks));
+    }
+
+    @Test
+    void getCellRowMasksMatchesCellIteratorTest() {
+        // Wide matrix spanning several words, compared against the object based iterator
+        BoolMatrixDataImpl matrixData = boolMat(12, 140, false);
+        for (int row = 0; row < matrixData.getRowCount(); row++) {
+            for (int column = 0; column < matrixData.getColumnCount(); column++) {
+                matrixData.set(row, column, (row * 7 + column * 13) % 5 == 0);
+            }
+        }
+        Iterator<BrailleCell6<Boolean>> cellIt = matrixData.getBrailleCell6Iterator();
+        int[] masks = new int[matrixData.getColumnCount() / BrailleCell6.COLUMN_COUNT];
+        for (int cellRow = 0; cellRow < matrixData.getRowCount() / BrailleCell6.ROW_COUNT; cellRow++) {
+            matrixData.getCellRowMasks(cellRow, BrailleCell6.COLUMN_COUNT, BrailleCell6.ROW_COUNT, masks);
+            for (int mask : masks) {
+                Assertions.assertEquals(cellIt.next().getBitRepresentationFromBool(), bitRepresentation(mask));
+            }
+        }
+        Assertions.assertFalse(cellIt.hasNext());
+    }
+
+    @Test
+    void getCellRowMasksEightDotTest() {
+        // Partial last cell: 5 columns and 6 rows with 2x4 cells
+        BoolMatrixDataImpl matrixData = boolMat(6, 5, false);
+        matrixData.set(3, 1, true);
+        matrixData.set(4, 4, true);
+        int[] masks = new int[3];
+        Assertions.assertEquals(3, matrixData.getCellRowMasks(0, 2, 4, masks));
+        Assertions.assertArrayEquals(new int[] {0b10000000, 0, 0}, masks);
+        matrixData.getCellRowMasks(1, 2, 4, masks);
+        Assertions.assertArrayEquals(new int[] {0, 0, 0b1}, masks);
+    }
+
+    @Test
+    void getColumnCount() {
+        Assertions.assertEquals(boolMat(3, 5, false).getColumnCount(), 5);
+    }
+
+    @Test
+    void getRowCount() {
+        Assertions.assertEquals(boolMat(3, 5, false).getRowCount(), 3);
+    }
+
+    @Test
+    void setCellMaskTest() {
+        BoolMatrixDataImpl matrixData = boolMat(6, 4, true);
+        matrixData.setCellMask(3, 2, 2, 3, 0b100001);
+        int[] masks = new int[2];
+        matrixData.getCellRowMasks(1, 2, 3, masks);
+        Assertions.assertArrayEquals(new int[] {0b111111, 0b100001}, masks);
+        matrixData.getCellRowMasks(0, 2, 3, masks);
+        Assertions.assertArrayEquals(new int[] {0b111111, 0b111111}, masks);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> matrixData.setCellMask(4, 2, 2, 3, 0));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> matrixData.setCellMask(0, 3, 2, 3, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> matrixData.setCellMask(0, 0, 5, 8, 0));
+        // Nothing is written if the cell does not fit
+        Assertions.assertTrue(matrixData.get(5, 3));
+    }
+
+    @Test
+    void setCellMaskWordBoundaryTest() {
+        // Cells crossing the boundary between the first and second word of a row, compared against setValue
+        BoolMatrixDataImpl stamped = boolMat(8, 130, false);
+        BoolMatrixDataImpl expected = boolMat(8, 130, false);
+        for (int column = 60; column < 66; column++) {
+            int mask = column * 37;
+            stamped.setCellMask(column % 2, column, 2, 4, mask);
+            for (int dx = 0; dx < 2; dx++) {
+                for (int dy = 0; dy < 4; dy++) {
+                    expected.setValue(column % 2 + dy, column + dx, ((mask >>> (dx * 4 + dy)) & 1) != 0);
+                }
+            }
+            Assertions.assertEquals(expected.toString(), stamped.toString());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.point.Point2DValued;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tec.units.ri.quantity.Quantities;
+import tec.units.ri.unit.MetricPrefix;
+
+import javax.measure.Quantity;
+import javax.measure.quantity.Length;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+
+import static tec.units.ri.unit.Units.METRE;
+
+class ColumnarFloatingPointDataImplTest {
+
+    private static ColumnarFloatingPointDataImpl emptyData() {
+        return new ColumnarFloatingPointDataImpl(new Printer(new ArrayList<>()), new Format(new ArrayList<>()));
+    }
+
+    private static Point2DValued<Quantity<Length>, Boolean> point2dMm(final double x, final double y, final boolean val) {
+        return new Point2DValued<>(Quantities.getQuantity(x, MetricPrefix.MILLI(METRE)), Quantities.getQuantity(y, MetricPrefix.MILLI(METRE)), val);
+    }
+
+    @Test
+    void testAddPointNull() {
+        ColumnarFloatingPointDataImpl data = emptyData();
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            data.addPointIfNotExisting(null);
+        });
+    }
+
+    @Test
+    void testPrimitiveAddAndGrow() {
+        ColumnarFloatingPointDataImpl data = emptyData();
+        for (int i = 0; i < 1000; i++) {
+            data.addPoint(i * 2.0, i * 0.5);
+        }
+        Assertions.assertEquals(1000, data.getPointCount());
+        Assertions.assertEquals(1998.0, data.getXMillimetre(999));
+        Assertions.assertEquals(499.5, data.getYMillimetre(999));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> data.getXMillimetre(1000));
+    }
+
+    @Test
+    void testAddPointIfNotExisting() {
+        ColumnarFloatingPointDataImpl data = emptyData();
+        Assertions.assertTrue(data.addPointIfNotExisting(10, 10));
+        Assertions.assertFalse(data.addPointIfNotExisting(11.5, 11.5));
+        Assertions.assertTrue(data.addPointIfNotExisting(11.6, 10));
+        Assertions.assertFalse(data.pointExists(point2dMm(13.2, 10, true)));
+        data.addPointIfNotExisting(point2dMm(13.2, 10, true));
+        Assertions.assertTrue(data.pointExists(13.2, 10));
+        Assertions.assertEquals(3, data.getPointCount());
+    }
+
+    @Test
+    void testIteratorAdapter() {
+        ColumnarFloatingPointDataImpl data = emptyData();
+        data.addPoint(1, 2);
+        data.addPoint(point2dMm(5, 6, false));
+        data.addPoint(new Point2DValued<>(Quantities.getQuantity(0.01, METRE), Quantities.getQuantity(0.02, METRE), true));
+        Iterator<Point2DValued<Quantity<Length>, Boolean>> it = data.getIterator();
+        Assertions.assertEquals(point2dMm(1, 2, true), it.next());
+        Assertions.assertEquals(point2dMm(5, 6, false), it.next());
+        Point2DValued<Quantity<Length>, Boolean> last = it.next();
+        Assertions.assertEquals(10, last.getX().to(MetricPrefix.MILLI(METRE)).getValue().doubleValue(), 1e-9);
+        Assertions.assertEquals(20, last.getY().to(MetricPrefix.MILLI(METRE)).getValue().doubleValue(), 1e-9);
+        Assertions.assertFalse(it.hasNext());
+    }
+
+    @Test
+    void testPointExistsInRange() {
+        ColumnarFloatingPointDataImpl data = emptyData();
+        data.addPoint(10, 10);
+        Assertions.assertTrue(data.pointExists(10, 10));
+        Assertions.assertTrue(data.pointExists(11.5, 8.5));
+        Assertions.assertFalse(data.pointExists(11.6, 10));
+        Assertions.assertFalse(data.pointExists(10, 8.4));
+        // Negative coordinates and metre based quantities
+        data.addPoint(-0.5, -0.5);
+        Assertions.assertTrue(data.pointExists(0.5, 0.5));
+        Assertions.assertTrue(data.pointExists(new Point2DValued<>(Quantities.getQuantity(0.0105, METRE), Quantities.getQuantity(0.0105, METRE), true)));
+    }
+
+    @Test
+    void testSameResultAsSimpleImpl() {
+        FloatingPointData<Boolean> reference = new SimpleFloatingPointDataImpl<>(new Printer(new ArrayList<>()), new Format(new ArrayList<>()));
+        ColumnarFloatingPointDataImpl data = emptyData();
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            // Quarter millimetre steps produce many points exactly on the range border
+            Point2DValued<Quantity<Length>, Boolean> point = point2dMm(random.nextInt(200) * 0.25, random.nextInt(200) * 0.25, true);
+            Assertions.assertEquals(reference.pointExists(point), data.pointExists(point));
+            reference.addPointIfNotExisting(point);
+            data.addPointIfNotExisting(point);
+        }
+        Iterator<Point2DValued<Quantity<Length>, Boolean>> referenceIt = reference.getIterator();
+        Iterator<Point2DValued<Quantity<Length>, Boolean>> it = data.getIterator();
+        while (referenceIt.hasNext()) {
+            Assertions.assertEquals(referenceIt.next(), it.next());
+        }
+        Assertions.assertFalse(it.hasNext());
+    }
+}
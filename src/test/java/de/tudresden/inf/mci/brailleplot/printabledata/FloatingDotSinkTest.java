@@ -0,0 +1,37 @@
+package de.tudresden.inf.mci.brailleplot.printabledata;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+class FloatingDotSinkTest {
+
+    @Test
+    void testOfColumnarReturnsData() {
+        ColumnarFloatingPointDataImpl data = new ColumnarFloatingPointDataImpl(new Printer(new ArrayList<>()), new Format(new ArrayList<>()));
+        Assertions.assertSame(data, FloatingDotSink.of(data));
+    }
+
+    @Test
+    void testOfNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> FloatingDotSink.of(null));
+    }
+
+    @Test
+    void testAdapter() {
+        SimpleFloatingPointDataImpl<Boolean> data = new SimpleFloatingPointDataImpl<>(new Printer(new ArrayList<>()), new Format(new ArrayList<>()));
+        FloatingDotSink sink = FloatingDotSink.of(data);
+        Assertions.assertTrue(sink.addPointIfNotExisting(10, 20));
+        Assertions.assertFalse(sink.addPointIfNotExisting(10.05, 20));
+        Assertions.assertTrue(sink.pointExists(10, 20));
+        Assertions.assertFalse(sink.pointExists(30, 20));
+        sink.addPoint(10, 20);
+        Assertions.assertEquals(2, data.getPointCount());
+        Assertions.assertEquals(10, data.getXMillimetre(0), 1e-9);
+        Assertions.assertEquals(20, data.getYMillimetre(0), 1e-9);
+        Assertions.assertTrue(data.getIterator().next().getVal());
+    }
+}
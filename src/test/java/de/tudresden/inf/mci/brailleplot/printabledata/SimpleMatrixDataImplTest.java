@@ -102,6 +102,20 @@ class SimpleMatrixDataImplTest {
 
     }
 
+    @Test
+    void getCellRowMasksTest() {
+        SimpleMatrixDataImpl<Boolean> matrix = new SimpleMatrixDataImpl<>(new Printer(new LinkedList<>()), new Format(new LinkedList<>()), 6, 4, false);
+        matrix.setValue(0, 0, true);
+        matrix.setValue(2, 1, true);
+        matrix.setValue(4, 3, true);
+        int[] masks = new int[2];
+        Assertions.assertEquals(2, matrix.getCellRowMasks(0, 2, 3, masks));
+        Assertions.assertArrayEquals(new int[] {0b100001, 0}, masks);
+        matrix.getCellRowMasks(1, 2, 3, masks);
+        Assertions.assertArrayEquals(new int[] {0, 0b010000}, masks);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> matrix.getCellRowMasks(2, 2, 3, masks));
+    }
+
     @Test
     void getColumnCount() {
         Assertions.assertEquals(simpleIntMat().getColumnCount(), 3);
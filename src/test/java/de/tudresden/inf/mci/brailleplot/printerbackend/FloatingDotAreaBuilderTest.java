@@ -0,0 +1,166 @@
+package de.tudresden.inf.mci.brailleplot.printerbackend;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.configparser.PrinterProperty;
+import de.tudresden.inf.mci.brailleplot.printabledata.ColumnarFloatingPointDataImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Unit Tests for the FloatingDotAreaBuilder and the FixedPointEncoder. The output is compared to the
+ * String.format based encoding, that was used before.
+ * @author Andrey Ruzhanskiy
+ * @version 2019.10.13
+ */
+public class FloatingDotAreaBuilderTest {
+
+    private static final double[] EDGE_CASES = {0, -0.0, 0.001, 0.004, 0.005, 0.006, 0.01, 0.125, 0.29, 0.3, 0.995, 0.999,
+        1.005, 1.015, 2.675, 9.995, 99.995, 123.456, 210, 297.5, 1e6 - 0.001, 9999999.99, 9999999.999};
+
+    private static String reference(final double value) {
+        return String.format(Locale.ENGLISH, "%.2f", value);
+    }
+
+    private static String encode(final double value) {
+        byte[] target = new byte[FixedPointEncoder.MAX_LENGTH + 1];
+        int written = FixedPointEncoder.encode(value, target, 1);
+        if (written < 0) {
+            return null;
+        }
+        return new String(target, 1, written, StandardCharsets.US_ASCII);
+    }
+
+    private static void assertEncodedOrRejected(final double value) {
+        String encoded = encode(value);
+        if (encoded != null) {
+            Assertions.assertEquals(reference(value), encoded, "Encoding of " + value);
+        }
+    }
+
+    /**
+     * Test for the encoding of edge cases (ties, rounding carries, large values).
+     * Expected: Identical to String.format, or rejected.
+     */
+    @Test
+    public void testEncoderEdgeCases() {
+        for (double value : EDGE_CASES) {
+            assertEncodedOrRejected(value);
+        }
+        Assertions.assertEquals("0.00", encode(0));
+        Assertions.assertEquals("0.29", encode(0.29));
+        Assertions.assertEquals("10.00", encode(9.999));
+    }
+
+    /**
+     * Test for the encoding of random coordinates in the range of a page.
+     * Expected: Identical to String.format, or rejected.
+     */
+    @Test
+    public void testEncoderRandomValues() {
+        Random random = new Random(0);
+        for (int i = 0; i < 100000; i++) {
+            assertEncodedOrRejected(random.nextDouble() * 500);
+            assertEncodedOrRejected(Math.round(random.nextDouble() * 50000) / 100.0);
+            assertEncodedOrRejected(random.nextInt(1000) * 0.1);
+        }
+    }
+
+    /**
+     * Test for values outside of the range of the encoder.
+     * Expected: Rejected.
+     */
+    @Test
+    public void testEncoderRejectsUnsupportedValues() {
+        Assertions.assertNull(encode(-1));
+        Assertions.assertNull(encode(-0.001));
+        Assertions.assertNull(encode(-0.0));
+        Assertions.assertNull(encode(1e7));
+        Assertions.assertNull(encode(9999999.999));
+        Assertions.assertNull(encode(Double.NaN));
+        Assertions.assertNull(encode(Double.POSITIVE_INFINITY));
+    }
+
+    /**
+     * Test for assembling a document, including values that are rejected by the encoder.
+     * Expected: Identical bytes to the String.format based document.
+     */
+    @Test
+    public void testAssembleIsByteIdentical() {
+        Printer printer = new Printer(List.of(new PrinterProperty("name", "Dummy Printer")));
+        ColumnarFloatingPointDataImpl data = new ColumnarFloatingPointDataImpl(printer, new Format(new LinkedList<>()));
+        Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            data.addPoint(random.nextDouble() * 300, random.nextDouble() * 300);
+        }
+        for (double value : EDGE_CASES) {
+            data.addPoint(value, value);
+        }
+        data.addPoint(-2.5, 1e8);
+
+        FloatingDotAreaBuilder builder = new FloatingDotAreaBuilder();
+        Assertions.assertArrayEquals(referenceDocument(builder, data), builder.assemble(data));
+    }
+
+    /**
+     * Test for assembling a document without any dots.
+     * Expected: Only the start and end sequence.
+     */
+    @Test
+    public void testAssembleEmpty() {
+        Printer printer = new Printer(List.of(new PrinterProperty("name", "Dummy Printer")));
+        ColumnarFloatingPointDataImpl data = new ColumnarFloatingPointDataImpl(printer, new Format(new LinkedList<>()));
+        FloatingDotAreaBuilder builder = new FloatingDotAreaBuilder();
+        Assertions.assertArrayEquals(referenceDocument(builder, data), builder.assemble(data));
+    }
+
+    /**
+     * Test for writing a document, that is larger than the buffer, to a channel.
+     * Expected: Identical bytes to the String.format based document.
+     */
+    @Test
+    public void testAssembleToChannel() throws IOException {
+        Printer printer = new Printer(List.of(new PrinterProperty("name", "Dummy Printer")));
+        ColumnarFloatingPointDataImpl data = new ColumnarFloatingPointDataImpl(printer, new Format(new LinkedList<>()));
+        Random random = new Random(2);
+        for (int i = 0; i < 10000; i++) {
+            data.addPoint(random.nextDouble() * 300, random.nextDouble() * 300);
+        }
+        for (double value : EDGE_CASES) {
+            data.addPoint(value, value);
+        }
+        data.addPoint(-2.5, 1e100);
+
+        FloatingDotAreaBuilder builder = new FloatingDotAreaBuilder();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        builder.assembleTo(data, Channels.newChannel(stream));
+        Assertions.assertTrue(stream.size() > AbstractDocumentBuilder.BUFFER_CAPACITY);
+        Assertions.assertArrayEquals(referenceDocument(builder, data), stream.toByteArray());
+    }
+
+    private static byte[] referenceDocument(final FloatingDotAreaBuilder builder, final ColumnarFloatingPointDataImpl data) {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.writeBytes(builder.mStartFloatingMode);
+        stream.writeBytes(builder.mSemicolon);
+        stream.writeBytes(builder.mNewLine);
+        for (int i = 0; i < data.getPointCount(); i++) {
+            stream.writeBytes(reference(data.getXMillimetre(i)).getBytes(StandardCharsets.US_ASCII));
+            stream.writeBytes(builder.mColon);
+            stream.writeBytes(reference(data.getYMillimetre(i)).getBytes(StandardCharsets.US_ASCII));
+            if (i < data.getPointCount() - 1) {
+                stream.writeBytes(builder.mNewLine);
+            }
+        }
+        stream.writeBytes(builder.mSemicolon);
+        return stream.toByteArray();
+    }
+}
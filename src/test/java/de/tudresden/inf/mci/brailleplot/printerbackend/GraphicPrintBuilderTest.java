@@ -0,0 +1,145 @@
+package de.tudresden.inf.mci.brailleplot.printerbackend;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.configparser.PrinterProperty;
+import de.tudresden.inf.mci.brailleplot.printabledata.BoolMatrixDataImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Unit Tests for the GraphicPrintBuilder Class.
+ * @author Andrey Ruzhanskiy
+ * @version 2019.10.13
+ */
+public class GraphicPrintBuilderTest {
+
+    private static final String BRAILLE_TABLE = "src/test/resources/mapping/eurobraille.properties";
+
+    private static Printer createPrinter(final PrinterProperty... additional) {
+        List<PrinterProperty> properties = new ArrayList<>(List.of(
+                new PrinterProperty("brailletable", BRAILLE_TABLE),
+                new PrinterProperty("raster.dotDistance.horizontal", "2.5"),
+                new PrinterProperty("raster.dotDistance.vertical", "2.5")));
+        properties.addAll(List.of(additional));
+        return new Printer(properties);
+    }
+
+    /**
+     * Test for giving a Null to the GraphicPrintBuilder assemble Method.
+     * Expected: NullPointerException.
+     */
+    @Test
+    public void testAssembleWithNull() {
+        Assertions.assertThrows(NullPointerException.class, () -> new GraphicPrintBuilder().assemble(null));
+    }
+
+    /**
+     * Test for assembling a matrix of 5 x 3 dots, which covers two lines of two cells partially.
+     * Expected: The header, followed by the eurobraille bytes of the cells, each line terminated by CR LF.
+     */
+    @Test
+    public void testAssembleGoldenBytes() {
+        Printer printer = createPrinter(
+                new PrinterProperty("raster.constraint.left", "0"),
+                new PrinterProperty("raster.constraint.top", "0"),
+                new PrinterProperty("raster.constraint.width", "2"),
+                new PrinterProperty("raster.constraint.height", "2"));
+        BoolMatrixDataImpl data = new BoolMatrixDataImpl(printer, new Format(new LinkedList<>()), 5, 3, false);
+        // First cell of the first line: dots 1 2 3
+        data.set(0, 0, true);
+        data.set(1, 0, true);
+        data.set(2, 0, true);
+        // Second cell of the first line, only its left column is covered: dot 1
+        data.set(0, 2, true);
+        // First cell of the second line, only its upper two rows are covered: dot 5
+        data.set(4, 1, true);
+
+        byte[] expected = {0x1B, 'D', 'G', 'D', '1', ',', 'B', 'I', '0', ',', 'C', 'H', '2', ',', 'T', 'M', '0', ',',
+            'L', 'P', '2', ';', 108, 97, 0x0D, 0x0A, 33, 32, 0x0D, 0x0A};
+        Assertions.assertArrayEquals(expected, new GraphicPrintBuilder().assemble(data));
+    }
+
+    /**
+     * Test for writing a large document to a channel.
+     * Expected: The same bytes as returned by assemble.
+     */
+    @Test
+    public void testAssembleToChannel() throws IOException {
+        BoolMatrixDataImpl data = new BoolMatrixDataImpl(createPrinter(), new Format(new LinkedList<>()), 1200, 1200, false);
+        for (int i = 0; i < 1200; i++) {
+            data.set(i, i, true);
+            data.set(i, 1199 - i, true);
+        }
+        GraphicPrintBuilder builder = new GraphicPrintBuilder();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        builder.assembleTo(data, Channels.newChannel(stream));
+        Assertions.assertTrue(stream.size() > AbstractDocumentBuilder.BUFFER_CAPACITY);
+        Assertions.assertArrayEquals(builder.assemble(data), stream.toByteArray());
+    }
+
+    /**
+     * Test for the header of a printer without raster constraints and 1.6 mm dot distance.
+     * Expected: Only the graphic dot distance parameter.
+     */
+    @Test
+    public void testHeaderWithoutConstraints() {
+        Printer printer = new Printer(List.of(
+                new PrinterProperty("raster.dotDistance.horizontal", "1.6"),
+                new PrinterProperty("raster.dotDistance.vertical", "1.6")));
+        byte[] expected = {0x1B, 'D', 'G', 'D', '2', ';'};
+        Assertions.assertArrayEquals(expected, new GraphicPrintBuilder().buildHeader(printer));
+    }
+
+    /**
+     * Test for the header of a printer with lines per page, but without top margin.
+     * Expected: The top margin is set to 0, as the printer requires it together with the lines per page.
+     */
+    @Test
+    public void testHeaderAddsTopMargin() {
+        Printer printer = createPrinter(new PrinterProperty("raster.constraint.height", "29"));
+        byte[] expected = {0x1B, 'D', 'G', 'D', '1', ',', 'T', 'M', '0', ',', 'L', 'P', '2', '9', ';'};
+        Assertions.assertArrayEquals(expected, new GraphicPrintBuilder().buildHeader(printer));
+    }
+
+    /**
+     * Test for a dot distance, that the graphic mode does not support.
+     * Expected: IllegalArgumentException.
+     */
+    @Test
+    public void testUnsupportedDotDistance() {
+        Printer printer = new Printer(List.of(
+                new PrinterProperty("raster.dotDistance.horizontal", "3.0"),
+                new PrinterProperty("raster.dotDistance.vertical", "3.0")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new GraphicPrintBuilder().buildHeader(printer));
+    }
+
+    /**
+     * Test for different horizontal and vertical dot distances.
+     * Expected: IllegalArgumentException.
+     */
+    @Test
+    public void testUnequalDotDistances() {
+        Printer printer = new Printer(List.of(
+                new PrinterProperty("raster.dotDistance.horizontal", "2.5"),
+                new PrinterProperty("raster.dotDistance.vertical", "2.0")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new GraphicPrintBuilder().buildHeader(printer));
+    }
+
+    /**
+     * Test for more characters per line than the printer supports.
+     * Expected: IllegalArgumentException.
+     */
+    @Test
+    public void testTooManyCharsPerLine() {
+        Printer printer = createPrinter(new PrinterProperty("raster.constraint.width", "49"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new GraphicPrintBuilder().buildHeader(printer));
+    }
+}
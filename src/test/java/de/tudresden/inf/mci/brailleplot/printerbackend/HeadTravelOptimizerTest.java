@@ -0,0 +1,137 @@
+package de.tudresden.inf.mci.brailleplot.printerbackend;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.configparser.PrinterProperty;
+import de.tudresden.inf.mci.brailleplot.printabledata.ColumnarFloatingPointDataImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit Tests for the HeadTravelOptimizer Class.
+ * @author Andrey Ruzhanskiy
+ * @version 2019.10.14
+ */
+public class HeadTravelOptimizerTest {
+
+    private static ColumnarFloatingPointDataImpl createData(final PrinterProperty... properties) {
+        Printer printer = new Printer(List.of(properties));
+        return new ColumnarFloatingPointDataImpl(printer, new Format(new LinkedList<>()));
+    }
+
+    /**
+     * Test for ordering dots in two bands.
+     * Expected: The first band from left to right, the second band from right to left.
+     */
+    @Test
+    public void testSerpentineOrder() {
+        ColumnarFloatingPointDataImpl data = createData();
+        data.addPoint(50, 15); // 0, second band
+        data.addPoint(10, 2);  // 1, first band
+        data.addPoint(30, 12); // 2, second band
+        data.addPoint(40, 5);  // 3, first band
+        data.addPoint(20, 9);  // 4, first band
+        data.addPoint(50, 11); // 5, second band, same x as 0
+
+        int[] order = new HeadTravelOptimizer(10).order(data);
+        Assertions.assertArrayEquals(new int[] {1, 4, 3, 5, 0, 2}, order);
+    }
+
+    /**
+     * Test for ordering many dots with equal coordinates.
+     * Expected: The same order as a stable sort by band, direction of the band and coordinates.
+     */
+    @Test
+    public void testSameOrderAsStableSort() {
+        ColumnarFloatingPointDataImpl data = createData();
+        Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            data.addPoint(random.nextInt(20), random.nextInt(50));
+        }
+        Integer[] expected = new Integer[data.getPointCount()];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i;
+        }
+        Arrays.sort(expected, Comparator.<Integer>comparingInt(i -> (int) data.getYMillimetre(i) / 10)
+                .thenComparingDouble(i -> {
+                    double x = data.getXMillimetre(i);
+                    if ((int) data.getYMillimetre(i) / 10 % 2 != 0) {
+                        return -x;
+                    }
+                    return x;
+                })
+                .thenComparingDouble(data::getYMillimetre));
+        int[] order = new HeadTravelOptimizer(10).order(data);
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i].intValue(), order[i]);
+        }
+    }
+
+    /**
+     * Test for the travel distance of random dots before and after ordering.
+     * Expected: All dots are contained exactly once, the travel distance is reduced.
+     */
+    @Test
+    public void testTravelDistanceReduced() {
+        ColumnarFloatingPointDataImpl data = createData();
+        Random random = new Random(0);
+        for (int i = 0; i < 2000; i++) {
+            data.addPoint(random.nextDouble() * 200, random.nextDouble() * 280);
+        }
+        int[] order = new HeadTravelOptimizer(10).order(data);
+        boolean[] contained = new boolean[data.getPointCount()];
+        for (int index : order) {
+            Assertions.assertFalse(contained[index]);
+            contained[index] = true;
+        }
+        Assertions.assertEquals(data.getPointCount(), order.length);
+
+        double before = HeadTravelOptimizer.travelDistance(data, null);
+        double after = HeadTravelOptimizer.travelDistance(data, order);
+        Assertions.assertTrue(after < before / 10, "Travel distance " + after + " mm, before " + before + " mm");
+    }
+
+    /**
+     * Test for assembling a page with and without a configured band height.
+     * Expected: The dots are only reordered if the band height is configured and not 0.
+     */
+    @Test
+    public void testBuilderUsesConfiguredBandHeight() {
+        PrinterProperty name = new PrinterProperty("name", "Dummy Printer");
+        ColumnarFloatingPointDataImpl unordered = createData(name);
+        ColumnarFloatingPointDataImpl disabled = createData(name, new PrinterProperty(HeadTravelOptimizer.BAND_HEIGHT_PROPERTY, "0"));
+        ColumnarFloatingPointDataImpl ordered = createData(name, new PrinterProperty(HeadTravelOptimizer.BAND_HEIGHT_PROPERTY, "10"));
+        for (ColumnarFloatingPointDataImpl data : List.of(unordered, disabled, ordered)) {
+            data.addPoint(20, 15);
+            data.addPoint(10, 2);
+            data.addPoint(30, 12);
+        }
+        Assertions.assertNull(HeadTravelOptimizer.getOrder(unordered));
+        Assertions.assertNull(HeadTravelOptimizer.getOrder(disabled));
+        FloatingDotAreaBuilder builder = new FloatingDotAreaBuilder();
+        Assertions.assertEquals("\u001BF;\n20.00:15.00\n10.00:2.00\n30.00:12.00;", assemble(builder, unordered));
+        Assertions.assertEquals("\u001BF;\n20.00:15.00\n10.00:2.00\n30.00:12.00;", assemble(builder, disabled));
+        Assertions.assertEquals("\u001BF;\n10.00:2.00\n30.00:12.00\n20.00:15.00;", assemble(builder, ordered));
+    }
+
+    /**
+     * Test for a band height, that is not positive.
+     * Expected: IllegalArgumentException.
+     */
+    @Test
+    public void testInvalidBandHeight() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new HeadTravelOptimizer(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new HeadTravelOptimizer(Double.NaN));
+    }
+
+    private static String assemble(final FloatingDotAreaBuilder builder, final ColumnarFloatingPointDataImpl data) {
+        return new String(builder.assemble(data), StandardCharsets.US_ASCII);
+    }
+}
@@ -1,8 +1,19 @@
 package de.tudresden.inf.mci.brailleplot.printerbackend;
 
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.configparser.PrinterProperty;
+import de.tudresden.inf.mci.brailleplot.printabledata.BoolMatrixDataImpl;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
 /**
  * Unit Tests for the NormalBuilder Class.
  * @author Andrey Ruzhanskiy
@@ -22,4 +33,57 @@ public class NormalBuilderTest {
             normalF1.assemble(null);
         });
     }
+
+    /**
+     * Test for assembling a document of two lines with two cells each.
+     * Expected: The eurobraille bytes of the cells, each line terminated by CR LF.
+     */
+    @Test
+    public void testAssemble(){
+        Printer printer = new Printer(List.of(new PrinterProperty("brailletable", "src/test/resources/mapping/eurobraille.properties")));
+        BoolMatrixDataImpl data = new BoolMatrixDataImpl(printer, new Format(new LinkedList<>()), 6, 4, false);
+        // Second cell of the first line: dots 1 2 3 4 5 6
+        for (int row = 0; row < 3; row++) {
+            data.set(row, 2, true);
+            data.set(row, 3, true);
+        }
+        // First cell of the second line: dot 5
+        data.set(4, 1, true);
+        byte[] expected = {32, 37, 0x0D, 0x0A, 33, 32, 0x0D, 0x0A};
+        Assertions.assertArrayEquals(expected, new NormalBuilder().assemble(data));
+    }
+
+    /**
+     * Test for assembling data, whose size is not a multiple of the Braille cell size.
+     * Expected: IllegalArgumentException.
+     */
+    @Test
+    public void testAssembleUnevenSize(){
+        Printer printer = new Printer(List.of(new PrinterProperty("brailletable", "src/test/resources/mapping/eurobraille.properties")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new NormalBuilder().assemble(new BoolMatrixDataImpl(printer, new Format(new LinkedList<>()), 6, 5, false));
+        });
+        Assertions.assertThrows(IllegalArgumentException.class, () -> {
+            new NormalBuilder().assemble(new BoolMatrixDataImpl(printer, new Format(new LinkedList<>()), 7, 4, false));
+        });
+    }
+
+    /**
+     * Test for writing a document, that is larger than the buffer, to a channel.
+     * Expected: The same bytes as returned by assemble.
+     */
+    @Test
+    public void testAssembleToChannel() throws IOException {
+        Printer printer = new Printer(List.of(new PrinterProperty("brailletable", "src/test/resources/mapping/eurobraille.properties")));
+        BoolMatrixDataImpl data = new BoolMatrixDataImpl(printer, new Format(new LinkedList<>()), 1200, 1200, false);
+        Random random = new Random(0);
+        for (int i = 0; i < 50000; i++) {
+            data.set(random.nextInt(1200), random.nextInt(1200), true);
+        }
+        NormalBuilder builder = new NormalBuilder();
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        builder.assembleTo(data, Channels.newChannel(stream));
+        Assertions.assertTrue(stream.size() > AbstractDocumentBuilder.BUFFER_CAPACITY);
+        Assertions.assertArrayEquals(builder.assemble(data), stream.toByteArray());
+    }
 }
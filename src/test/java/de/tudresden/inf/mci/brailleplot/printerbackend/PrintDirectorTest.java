@@ -1,9 +1,19 @@
 package de.tudresden.inf.mci.brailleplot.printerbackend;
 
 
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.configparser.PrinterProperty;
+import de.tudresden.inf.mci.brailleplot.printabledata.BoolMatrixDataImpl;
+import de.tudresden.inf.mci.brailleplot.printabledata.ColumnarFloatingPointDataImpl;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 
 
 /**
@@ -29,4 +39,45 @@ public class PrintDirectorTest {
             PrintDirector printF1 = new PrintDirector(null, null);
         });
     }
+
+    /**
+     * Test for printing a document without adding any pages.
+     * Expected: IllegalStateException.
+     */
+    @Test
+    public void testPrintEmptyDocument(){
+        PrintDirector printD = new PrintDirector(PrinterCapability.NORMALPRINTER, new Printer(List.of(new PrinterProperty("name", "Dummy Printer"))));
+        Assertions.assertThrows(IllegalStateException.class, printD::printDocument);
+        Assertions.assertThrows(NullPointerException.class, () -> printD.addToDocument(null));
+    }
+
+    /**
+     * Test for asynchronously printing data which does not fit the protocol.
+     * Expected: The returned future completes exceptionally with an IllegalArgumentException.
+     */
+    @Test
+    public void testPrintAsyncWithWrongData(){
+        Printer printer = new Printer(List.of(new PrinterProperty("name", "Dummy Printer")));
+        PrintDirector printD = new PrintDirector(PrinterCapability.NORMALPRINTER, printer);
+        Assertions.assertThrows(NullPointerException.class, () -> printD.printAsync(null));
+        CompletableFuture<Void> job = printD.printAsync(new ColumnarFloatingPointDataImpl(printer, new Format(new LinkedList<>())));
+        CompletionException e = Assertions.assertThrows(CompletionException.class, job::join);
+        Assertions.assertTrue(e.getCause() instanceof IllegalArgumentException);
+    }
+
+    /**
+     * Test for asynchronously printing to a printer which does not exist.
+     * Expected: The returned future completes exceptionally with a RuntimeException, later jobs are still processed.
+     */
+    @Test
+    public void testPrintAsyncWithNotExistentPrinter(){
+        Printer printer = new Printer(List.of(new PrinterProperty("name", "please dont exist, please please please"),
+                new PrinterProperty("brailletable", "src/test/resources/mapping/eurobraille.properties")));
+        PrintDirector printD = new PrintDirector(PrinterCapability.NORMALPRINTER, printer);
+        BoolMatrixDataImpl data = new BoolMatrixDataImpl(printer, new Format(new LinkedList<>()), 3, 2, false);
+        CompletableFuture<Void> first = printD.printAsync(data);
+        CompletableFuture<Void> second = printD.printAsync(data);
+        Assertions.assertThrows(CompletionException.class, first::join);
+        Assertions.assertThrows(CompletionException.class, second::join);
+    }
 }
@@ -0,0 +1,68 @@
+package de.tudresden.inf.mci.brailleplot.rendering;
+
+import de.tudresden.inf.mci.brailleplot.configparser.Format;
+import de.tudresden.inf.mci.brailleplot.configparser.Printer;
+import de.tudresden.inf.mci.brailleplot.configparser.PrinterProperty;
+import de.tudresden.inf.mci.brailleplot.layout.InsufficientRenderingAreaException;
+import de.tudresden.inf.mci.brailleplot.printabledata.BoolMatrixDataImpl;
+import de.tudresden.inf.mci.brailleplot.printabledata.MatrixData;
+import de.tudresden.inf.mci.brailleplot.printabledata.SimpleMatrixDataImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+public class BrailleGlyphCacheTest {
+
+    private static final Printer PRINTER = new Printer(List.of(new PrinterProperty("semantictable", "mapping/kurzschrift_DE.properties")));
+
+    @Test
+    public void testCompile() {
+        Assertions.assertArrayEquals(new int[] {0b000001}, BrailleGlyphCache.compile("100000"));
+        Assertions.assertArrayEquals(new int[] {0b111111}, BrailleGlyphCache.compile("111111"));
+        Assertions.assertArrayEquals(new int[] {0b111100, 0b000010}, BrailleGlyphCache.compile("001111,010000"));
+        Assertions.assertArrayEquals(new int[] {0b10000000}, BrailleGlyphCache.compile("00000001"));
+    }
+
+    @Test
+    public void testGlyphsAreShared() {
+        BrailleGlyphCache cache = BrailleGlyphCache.getInstance(PRINTER);
+        Assertions.assertSame(cache, BrailleGlyphCache.getInstance(PRINTER));
+        int[] glyph = cache.getGlyph("a");
+        Assertions.assertArrayEquals(new int[] {0b000001}, glyph);
+        Assertions.assertSame(glyph, cache.getGlyph("a"));
+        Assertions.assertArrayEquals(new int[] {0b000010}, cache.getGlyph(","));
+        Assertions.assertThrows(RuntimeException.class, () -> cache.getGlyph("not in the table"));
+    }
+
+    @Test
+    public void testStampMatchesDotByDotWrite() throws InsufficientRenderingAreaException {
+        // The bit set implementation and the generic fallback must produce the same page
+        MatrixData<Boolean> bits = new BoolMatrixDataImpl(PRINTER, new Format(new LinkedList<>()), 6, 4, true);
+        MatrixData<Boolean> objects = new SimpleMatrixDataImpl<>(PRINTER, new Format(new LinkedList<>()), 6, 4, true);
+        for (MatrixData<Boolean> page : List.of(bits, objects)) {
+            BrailleGlyphCache.stamp(page, 0, 0, 2, 3, 0b000001);
+            BrailleGlyphCache.stamp(page, 3, 2, 2, 3, 0b101010);
+        }
+        for (int row = 0; row < bits.getRowCount(); row++) {
+            for (int column = 0; column < bits.getColumnCount(); column++) {
+                Assertions.assertEquals(objects.getValue(row, column), bits.getValue(row, column));
+            }
+        }
+        Assertions.assertTrue(bits.getValue(0, 0));
+        Assertions.assertFalse(bits.getValue(1, 0));
+        Assertions.assertFalse(bits.getValue(0, 1));
+        Assertions.assertTrue(bits.getValue(0, 2));
+        Assertions.assertTrue(bits.getValue(4, 2));
+        Assertions.assertFalse(bits.getValue(3, 2));
+        Assertions.assertTrue(bits.getValue(3, 3));
+    }
+
+    @Test
+    public void testStampOutOfBounds() {
+        MatrixData<Boolean> page = new BoolMatrixDataImpl(PRINTER, new Format(new LinkedList<>()), 6, 4, false);
+        Assertions.assertThrows(InsufficientRenderingAreaException.class, () -> BrailleGlyphCache.stamp(page, 4, 0, 2, 3, 1));
+        Assertions.assertThrows(InsufficientRenderingAreaException.class, () -> BrailleGlyphCache.stamp(page, 0, 3, 2, 3, 1));
+    }
+}
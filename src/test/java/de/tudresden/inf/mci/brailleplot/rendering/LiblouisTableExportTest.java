@@ -0,0 +1,58 @@
+package de.tudresden.inf.mci.brailleplot.rendering;
+
+import de.tudresden.inf.mci.brailleplot.util.GeneralResource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+public class LiblouisTableExportTest {
+
+    @Test
+    public void testParseIncludes() {
+        List<String> lines = List.of(
+                "﻿# Basisschrift",
+                "include de-chardefs6.cti",
+                "   include\tbraille-patterns.cti # comment",
+                "noback include de-g0-core.uti",
+                "# include commented.cti",
+                "include",
+                "sign \\x0020 0",
+                "");
+        Assertions.assertEquals(List.of("de-chardefs6.cti", "braille-patterns.cti", "de-g0-core.uti"),
+                LiblouisTableExport.parseIncludes(lines));
+    }
+
+    @Test
+    public void testParseIncludesWithoutIncludes() {
+        Assertions.assertTrue(LiblouisTableExport.parseIncludes(List.of("space \\s 0", "punctuation . 256")).isEmpty());
+    }
+
+    @Test
+    public void testUnchangedTableIsNotWrittenAgain(@TempDir final Path directory) throws IOException {
+        Path target = directory.resolve(LiblouisTableExport.TABLE_DIRECTORY).resolve("de-g0.utb");
+        byte[] content = "include de-chardefs6.cti\n".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertTrue(GeneralResource.writeIfChanged(content, target));
+        Assertions.assertArrayEquals(content, Files.readAllBytes(target));
+
+        // Same content: the exported file is kept
+        FileTime exported = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(target, exported);
+        Assertions.assertFalse(GeneralResource.writeIfChanged(content, target));
+        Assertions.assertEquals(exported, Files.getLastModifiedTime(target));
+
+        // Changed content, e.g. exported by an older version: the file is replaced
+        byte[] changed = "include de-chardefs8.cti\n".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertTrue(GeneralResource.writeIfChanged(changed, target));
+        Assertions.assertArrayEquals(changed, Files.readAllBytes(target));
+        try (var files = Files.list(target.getParent())) {
+            Assertions.assertEquals(1, files.count());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package de.tudresden.inf.mci.brailleplot.rendering;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class PersistentTranslationCacheTest {
+
+    private static Path createTable(final Path directory, final String name, final String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content);
+    }
+
+    @Test
+    public void testTranslationsAreKeptAcrossInstances(@TempDir final Path directory) throws IOException {
+        Path table = createTable(directory, "table.utb", "include other.utb");
+        Path cacheDirectory = directory.resolve("cache");
+
+        PersistentTranslationCache first = new PersistentTranslationCache(cacheDirectory);
+        Assertions.assertNull(first.get(table, "Titel"));
+        first.put(table, "Titel", "⠞⠊⠞⠑⠇");
+        first.put(table, "Achsenskalierung", "⠁⠉⠓⠎⠑⠝");
+        Assertions.assertEquals("⠞⠊⠞⠑⠇", first.get(table, "Titel"));
+        first.flush();
+        Assertions.assertEquals("⠞⠊⠞⠑⠇", first.get(table, "Titel"));
+
+        PersistentTranslationCache second = new PersistentTranslationCache(cacheDirectory);
+        Assertions.assertEquals("⠞⠊⠞⠑⠇", second.get(table, "Titel"));
+        Assertions.assertEquals("⠁⠉⠓⠎⠑⠝", second.get(table, "Achsenskalierung"));
+        Assertions.assertNull(second.get(table, "Legende"));
+
+        // Both instances add translations, none of them is lost
+        second.put(table, "Legende", "⠇⠑⠛");
+        first.put(table, "x", "⠭");
+        second.flush();
+        first.flush();
+        PersistentTranslationCache third = new PersistentTranslationCache(cacheDirectory);
+        Assertions.assertEquals("⠇⠑⠛", third.get(table, "Legende"));
+        Assertions.assertEquals("⠭", third.get(table, "x"));
+        Assertions.assertEquals("⠞⠊⠞⠑⠇", third.get(table, "Titel"));
+    }
+
+    @Test
+    public void testChangedTableIsNotUsed(@TempDir final Path directory) throws IOException {
+        Path table = createTable(directory, "table.utb", "version 1");
+        Path cacheDirectory = directory.resolve("cache");
+        PersistentTranslationCache cache = new PersistentTranslationCache(cacheDirectory);
+        cache.put(table, "Titel", "⠞⠊⠞⠑⠇");
+        cache.flush();
+
+        createTable(directory, "table.utb", "version 2");
+        Assertions.assertNull(new PersistentTranslationCache(cacheDirectory).get(table, "Titel"));
+        Path copy = createTable(directory, "copy.utb", "version 1");
+        Assertions.assertEquals("⠞⠊⠞⠑⠇", new PersistentTranslationCache(cacheDirectory).get(copy, "Titel"));
+    }
+
+    @Test
+    public void testChangedIncludedTableIsNotUsed(@TempDir final Path directory) throws IOException {
+        Path table = createTable(directory, "table.utb", "include tables/other.ctb");
+        Files.createDirectory(directory.resolve("tables"));
+        createTable(directory, "tables/other.ctb", "include ../last.ctb");
+        createTable(directory, "last.ctb", "version 1");
+        Path cacheDirectory = directory.resolve("cache");
+        PersistentTranslationCache cache = new PersistentTranslationCache(cacheDirectory);
+        cache.put(table, "Titel", "⠞⠊⠞⠑⠇");
+        cache.flush();
+        Assertions.assertEquals("⠞⠊⠞⠑⠇", new PersistentTranslationCache(cacheDirectory).get(table, "Titel"));
+
+        createTable(directory, "last.ctb", "version 2");
+        Assertions.assertNull(new PersistentTranslationCache(cacheDirectory).get(table, "Titel"));
+    }
+
+    @Test
+    public void testIndexIsWrittenAsNewGeneration(@TempDir final Path directory) throws IOException {
+        Path table = createTable(directory, "table.utb", "content");
+        Path cacheDirectory = directory.resolve("cache");
+        PersistentTranslationCache cache = new PersistentTranslationCache(cacheDirectory);
+        cache.put(table, "Titel", "⠞⠊⠞⠑⠇");
+        cache.flush();
+        List<Path> first = listIndexFiles(cacheDirectory);
+        Assertions.assertEquals(1, first.size());
+
+        // The mapped index is not replaced, the next generation is written to a new file
+        Assertions.assertEquals("⠞⠊⠞⠑⠇", cache.get(table, "Titel"));
+        cache.put(table, "Legende", "⠇⠑⠛");
+        cache.flush();
+        List<Path> second = listIndexFiles(cacheDirectory);
+        Assertions.assertEquals(1, second.size());
+        Assertions.assertNotEquals(first.get(0), second.get(0));
+        Assertions.assertEquals("⠞⠊⠞⠑⠇", cache.get(table, "Titel"));
+        Assertions.assertEquals("⠇⠑⠛", new PersistentTranslationCache(cacheDirectory).get(table, "Legende"));
+    }
+
+    private static List<Path> listIndexFiles(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".idx")).collect(Collectors.toList());
+        }
+    }
+
+    @Test
+    public void testManyTranslations(@TempDir final Path directory) throws IOException {
+        Path table = createTable(directory, "table.utb", "");
+        PersistentTranslationCache cache = new PersistentTranslationCache(directory.resolve("cache"));
+        for (int i = 0; i < 1000; i++) {
+            cache.put(table, "Text " + i, "Braille " + i);
+        }
+        cache.flush();
+        PersistentTranslationCache loaded = new PersistentTranslationCache(directory.resolve("cache"));
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertEquals("Braille " + i, loaded.get(table, "Text " + i));
+        }
+        Assertions.assertNull(loaded.get(table, "Text 1000"));
+        Assertions.assertNull(loaded.get(table, ""));
+    }
+
+    @Test
+    public void testMalformedIndexIsIgnored(@TempDir final Path directory) throws IOException {
+        Path table = createTable(directory, "table.utb", "content");
+        Path cacheDirectory = directory.resolve("cache");
+        PersistentTranslationCache cache = new PersistentTranslationCache(cacheDirectory);
+        cache.put(table, "Titel", "⠞⠊⠞⠑⠇");
+        cache.flush();
+        try (var files = Files.list(cacheDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.toString().endsWith(".idx")) {
+                    Files.write(file, new byte[] {1, 2, 3});
+                }
+            }
+        }
+        PersistentTranslationCache damaged = new PersistentTranslationCache(cacheDirectory);
+        Assertions.assertNull(damaged.get(table, "Titel"));
+        damaged.put(table, "Titel", "⠞⠊⠞⠑⠇");
+        damaged.flush();
+        Assertions.assertEquals("⠞⠊⠞⠑⠇", new PersistentTranslationCache(cacheDirectory).get(table, "Titel"));
+    }
+}
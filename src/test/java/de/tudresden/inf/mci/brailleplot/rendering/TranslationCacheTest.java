@@ -0,0 +1,46 @@
+package de.tudresden.inf.mci.brailleplot.rendering;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TranslationCacheTest {
+
+    @Test
+    public void testHitsAndMisses() {
+        TranslationCache cache = new TranslationCache(4);
+        Assertions.assertNull(cache.get("de-g0.utb", "Titel"));
+        cache.put("de-g0.utb", "Titel", "⠞⠊⠞⠑⠇");
+        Assertions.assertEquals("⠞⠊⠞⠑⠇", cache.get("de-g0.utb", "Titel"));
+        // Same text, other table
+        Assertions.assertNull(cache.get("de-g2.ctb", "Titel"));
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(2, cache.getMisses());
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0, cache.getHits());
+        Assertions.assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        TranslationCache cache = new TranslationCache(2);
+        cache.put("table", "a", "1");
+        cache.put("table", "b", "2");
+        // Access a, so that b is the least recently used
+        Assertions.assertEquals("1", cache.get("table", "a"));
+        cache.put("table", "c", "3");
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertNull(cache.get("table", "b"));
+        Assertions.assertEquals("1", cache.get("table", "a"));
+        Assertions.assertEquals("3", cache.get("table", "c"));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new TranslationCache(0));
+        TranslationCache cache = new TranslationCache(1);
+        Assertions.assertThrows(NullPointerException.class, () -> cache.get(null, "a"));
+        Assertions.assertThrows(NullPointerException.class, () -> cache.put("table", "a", null));
+    }
+}